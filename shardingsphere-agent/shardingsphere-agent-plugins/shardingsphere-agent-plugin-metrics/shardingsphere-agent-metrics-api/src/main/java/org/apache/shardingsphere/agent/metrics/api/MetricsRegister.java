@@ -49,6 +49,16 @@ public interface MetricsRegister {
      */
     void registerHistogram(String name, String[] labelNames, String document);
     
+    /**
+     * Register histogram with buckets.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param document document for histogram
+     * @param buckets upper bounds of buckets
+     */
+    void registerHistogram(String name, String[] labelNames, String document, double[] buckets);
+    
     /**
      * Counter increment.
      *
@@ -57,6 +67,14 @@ public interface MetricsRegister {
      */
     void counterIncrement(String name, String[] labelValues);
     
+    /**
+     * Counter increment with single label.
+     *
+     * @param name name
+     * @param labelValue label value
+     */
+    void counterIncrement(String name, String labelValue);
+    
     /**
      * Counter increment by count.
      *
@@ -82,6 +100,15 @@ public interface MetricsRegister {
      */
     void gaugeDecrement(String name, String[] labelValues);
     
+    /**
+     * Gauge set.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value value
+     */
+    void gaugeSet(String name, String[] labelValues, double value);
+    
     /**
      * Record time by duration.
      *
@@ -90,4 +117,13 @@ public interface MetricsRegister {
      * @param duration duration
      */
     void recordTime(String name, String[] labelValues, long duration);
+    
+    /**
+     * Record time by duration with single label.
+     *
+     * @param name name
+     * @param labelValue label value
+     * @param duration duration
+     */
+    void recordTime(String name, String labelValue, long duration);
 }
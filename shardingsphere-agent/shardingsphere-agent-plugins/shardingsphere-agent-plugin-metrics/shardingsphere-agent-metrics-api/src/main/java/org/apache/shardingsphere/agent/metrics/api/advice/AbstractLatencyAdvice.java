@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodAroundAdvice;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.core.plugin.advice.TargetObject;
+import org.apache.shardingsphere.agent.metrics.api.constant.LatencyBuckets;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.ElapsedTimeRecorder;
+
+/**
+ * Abstract latency advice, records elapsed micros of the intercepted method into a histogram.
+ */
+public abstract class AbstractLatencyAdvice implements MethodAroundAdvice {
+    
+    private final String latency;
+    
+    private final ElapsedTimeRecorder elapsedTimeRecorder = new ElapsedTimeRecorder();
+    
+    protected AbstractLatencyAdvice(final String latency, final String document) {
+        this.latency = latency;
+        MetricsReporter.registerHistogram(latency, null, document, LatencyBuckets.MICROS);
+    }
+    
+    @Override
+    public final void beforeMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        elapsedTimeRecorder.start();
+    }
+    
+    @Override
+    public final void afterMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        long elapsedMicros = elapsedTimeRecorder.getElapsedMicros();
+        if (elapsedMicros >= 0) {
+            MetricsReporter.recordTime(latency, elapsedMicros);
+        }
+    }
+}
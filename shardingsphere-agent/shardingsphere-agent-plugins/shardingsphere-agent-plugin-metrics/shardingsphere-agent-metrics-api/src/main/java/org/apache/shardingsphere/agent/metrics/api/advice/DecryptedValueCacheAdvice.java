@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodAroundAdvice;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.core.plugin.advice.TargetObject;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.encrypt.rule.DecryptedValueCache;
+
+/**
+ * Decrypted value cache advice.
+ */
+public final class DecryptedValueCacheAdvice implements MethodAroundAdvice {
+    
+    private static final String REQUEST = "encrypt_decrypted_value_cache_request_total";
+    
+    private static final String MISS = "encrypt_decrypted_value_cache_miss_total";
+    
+    static {
+        MetricsReporter.registerCounter(REQUEST, new String[] {"table", "column"}, "the shardingsphere encrypt decrypted value cache request count total");
+        MetricsReporter.registerCounter(MISS, new String[] {"table", "column"}, "the shardingsphere encrypt decrypted value cache miss count total");
+    }
+    
+    @Override
+    public void beforeMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (null == args[0]) {
+            return;
+        }
+        DecryptedValueCache cache = (DecryptedValueCache) (Object) target;
+        String[] labelValues = {cache.getTableName(), cache.getColumnName()};
+        String methodName = method.getName();
+        if (MethodNameConstant.DECRYPT.equals(methodName)) {
+            MetricsReporter.counterIncrement(REQUEST, labelValues);
+        } else if (MethodNameConstant.LOAD.equals(methodName)) {
+            MetricsReporter.counterIncrement(MISS, labelValues);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodAroundAdvice;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.core.plugin.advice.TargetObject;
+import org.apache.shardingsphere.agent.metrics.api.constant.LatencyBuckets;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.ElapsedTimeRecorder;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+/**
+ * JDBC executor callback advice.
+ */
+public final class JDBCExecutorCallbackAdvice implements MethodAroundAdvice {
+    
+    private static final String LATENCY = "sql_execute_latency_micros";
+    
+    private static final ElapsedTimeRecorder ELAPSED_TIME_RECORDER = new ElapsedTimeRecorder();
+    
+    static {
+        MetricsReporter.registerHistogram(LATENCY, new String[] {"datasource"}, "the shardingsphere sql execute latency micros of each data source", LatencyBuckets.MICROS);
+    }
+    
+    @Override
+    public void beforeMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        ELAPSED_TIME_RECORDER.start();
+    }
+    
+    @Override
+    public void afterMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        long elapsedMicros = ELAPSED_TIME_RECORDER.getElapsedMicros();
+        if (elapsedMicros >= 0) {
+            MetricsReporter.recordTime(LATENCY, ((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName(), elapsedMicros);
+        }
+    }
+}
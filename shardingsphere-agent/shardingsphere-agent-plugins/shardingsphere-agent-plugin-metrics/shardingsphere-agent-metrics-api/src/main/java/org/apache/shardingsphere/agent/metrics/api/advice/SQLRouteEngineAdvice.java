@@ -22,7 +22,9 @@ import java.util.Collection;
 import org.apache.shardingsphere.agent.core.plugin.advice.MethodAroundAdvice;
 import org.apache.shardingsphere.agent.core.plugin.advice.MethodInvocationResult;
 import org.apache.shardingsphere.agent.core.plugin.advice.TargetObject;
+import org.apache.shardingsphere.agent.metrics.api.constant.LatencyBuckets;
 import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.ElapsedTimeRecorder;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -50,13 +52,18 @@ public final class SQLRouteEngineAdvice implements MethodAroundAdvice {
     
     private static final String ROUTE_TABLE = "route_table";
     
+    private static final String LATENCY = "sql_route_latency_micros";
+    
+    private static final ElapsedTimeRecorder ELAPSED_TIME_RECORDER = new ElapsedTimeRecorder();
+    
     static {
         MetricsReporter.registerCounter(SELECT, "the shardingsphere proxy executor select sql total");
         MetricsReporter.registerCounter(UPDATE, "the shardingsphere proxy executor update sql total");
         MetricsReporter.registerCounter(DELETE, "the shardingsphere proxy executor delete sql total");
         MetricsReporter.registerCounter(INSERT, "the shardingsphere proxy executor insert sql total");
         MetricsReporter.registerCounter(ROUTE_DATASOURCE, new String[] {"name"}, "the shardingsphere proxy route datasource");
-        MetricsReporter.registerCounter(ROUTE_TABLE, new String[] {"name"}, "the shardingsphere proxy route table");
+        MetricsReporter.registerCounter(ROUTE_TABLE, new String[] {"name"}, "the shardingsphere proxy route logic table");
+        MetricsReporter.registerHistogram(LATENCY, null, "the shardingsphere sql route latency micros", LatencyBuckets.MICROS);
     }
     
     @Override
@@ -72,18 +79,23 @@ public final class SQLRouteEngineAdvice implements MethodAroundAdvice {
         } else if (sqlStatement instanceof SelectStatement) {
             MetricsReporter.counterIncrement(SELECT);
         }
+        ELAPSED_TIME_RECORDER.start();
     }
 
     @Override
     public void afterMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        long elapsedMicros = ELAPSED_TIME_RECORDER.getElapsedMicros();
+        if (elapsedMicros >= 0) {
+            MetricsReporter.recordTime(LATENCY, elapsedMicros);
+        }
         RouteContext routeContext = (RouteContext) result.getResult();
         if (null != routeContext) {
             Collection<RouteUnit> routeUnits = routeContext.getRouteUnits();
             for (RouteUnit each : routeUnits) {
                 RouteMapper dataSourceMapper = each.getDataSourceMapper();
-                MetricsReporter.counterIncrement(ROUTE_DATASOURCE, new String[] {dataSourceMapper.getActualName()});
+                MetricsReporter.counterIncrement(ROUTE_DATASOURCE, dataSourceMapper.getActualName());
                 for (RouteMapper table : each.getTableMappers()) {
-                    MetricsReporter.counterIncrement(ROUTE_TABLE, new String[] {table.getActualName()});
+                    MetricsReporter.counterIncrement(ROUTE_TABLE, table.getLogicName());
                 }
             }
         }
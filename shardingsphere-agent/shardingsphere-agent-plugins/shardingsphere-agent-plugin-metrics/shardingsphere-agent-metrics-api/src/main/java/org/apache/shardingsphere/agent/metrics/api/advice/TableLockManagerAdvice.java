@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodAroundAdvice;
+import org.apache.shardingsphere.agent.core.plugin.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.core.plugin.advice.TargetObject;
+import org.apache.shardingsphere.agent.metrics.api.constant.LatencyBuckets;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.agent.metrics.api.threadlocal.ElapsedTimeRecorder;
+import org.apache.shardingsphere.infra.lock.LockMode;
+
+/**
+ * Table lock manager advice.
+ */
+public final class TableLockManagerAdvice implements MethodAroundAdvice {
+    
+    private static final String ACQUIRED = "table_lock_acquired_total";
+    
+    private static final String TIMEOUT = "table_lock_timeout_total";
+    
+    private static final String HELD = "table_lock_held";
+    
+    private static final String WAIT_LATENCY = "table_lock_wait_latency_micros";
+    
+    private static final ElapsedTimeRecorder ELAPSED_TIME_RECORDER = new ElapsedTimeRecorder();
+    
+    static {
+        MetricsReporter.registerCounter(ACQUIRED, new String[] {"mode"}, "the shardingsphere table lock acquired count total");
+        MetricsReporter.registerCounter(TIMEOUT, new String[] {"mode"}, "the shardingsphere table lock timeout count total");
+        MetricsReporter.registerGauge(HELD, new String[] {"mode"}, "the shardingsphere table lock held count");
+        MetricsReporter.registerHistogram(WAIT_LATENCY, new String[] {"mode"}, "the shardingsphere table lock wait latency micros", LatencyBuckets.MICROS);
+    }
+    
+    @Override
+    public void beforeMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (MethodNameConstant.TRY_LOCK.equals(method.getName())) {
+            ELAPSED_TIME_RECORDER.start();
+        }
+    }
+    
+    @Override
+    public void afterMethod(final TargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        String[] labelValues = {((LockMode) args[2]).name().toLowerCase()};
+        if (MethodNameConstant.RELEASE_LOCK.equals(method.getName())) {
+            MetricsReporter.gaugeDecrement(HELD, labelValues);
+            return;
+        }
+        long elapsedMicros = ELAPSED_TIME_RECORDER.getElapsedMicros();
+        if (elapsedMicros >= 0) {
+            MetricsReporter.recordTime(WAIT_LATENCY, labelValues, elapsedMicros);
+        }
+        if (Boolean.TRUE.equals(result.getResult())) {
+            MetricsReporter.counterIncrement(ACQUIRED, labelValues);
+            MetricsReporter.gaugeIncrement(HELD, labelValues);
+        } else {
+            MetricsReporter.counterIncrement(TIMEOUT, labelValues);
+        }
+    }
+}
@@ -25,6 +25,14 @@ public final class MethodNameConstant {
     public static final String COMMAND_EXECUTOR_RUN = "run";
     
     public static final String SQL_ROUTER = "route";
+    
+    public static final String SQL_PARSE = "parse";
+    
+    public static final String SQL_REWRITE = "rewrite";
+    
+    public static final String SQL_EXECUTE = "execute";
+    
+    public static final String RESULT_MERGE = "merge";
 
     public static final String CHANNEL_ACTIVE = "channelActive";
     
@@ -35,4 +43,14 @@ public final class MethodNameConstant {
     public static final String COMMIT = "commit";
     
     public static final String ROLL_BACK = "rollback";
+    
+    public static final String DECRYPT = "decrypt";
+    
+    public static final String LOAD = "load";
+    
+    public static final String TRY_LOCK = "tryLock";
+    
+    public static final String RELEASE_LOCK = "releaseLock";
+    
+    public static final String SAMPLE = "sample";
 }
@@ -38,10 +38,40 @@ public final class MetricsPluginDefinition extends PluginDefinition {
     
     private static final String SQL_ROUTER_ENGINE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.SQLRouteEngineAdvice";
     
+    private static final String SQL_PARSER_ENGINE_ENHANCE_CLASS = "org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine";
+    
+    private static final String SQL_PARSER_ENGINE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.SQLParserEngineAdvice";
+    
+    private static final String SQL_REWRITE_ENTRY_ENHANCE_CLASS = "org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry";
+    
+    private static final String SQL_REWRITE_ENTRY_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.SQLRewriteEntryAdvice";
+    
+    private static final String JDBC_EXECUTOR_CALLBACK_ENHANCE_CLASS = "org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback";
+    
+    private static final String JDBC_EXECUTION_UNIT_CLASS = "org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit";
+    
+    private static final String JDBC_EXECUTOR_CALLBACK_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.JDBCExecutorCallbackAdvice";
+    
+    private static final String MERGE_ENGINE_ENHANCE_CLASS = "org.apache.shardingsphere.infra.merge.MergeEngine";
+    
+    private static final String MERGE_ENGINE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.MergeEngineAdvice";
+    
     private static final String TRANSACTION_ENHANCE_CLASS = "org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager";
     
     private static final String TRANSACTION_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.TransactionAdvice";
     
+    private static final String DECRYPTED_VALUE_CACHE_ENHANCE_CLASS = "org.apache.shardingsphere.encrypt.rule.DecryptedValueCache";
+    
+    private static final String DECRYPTED_VALUE_CACHE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.DecryptedValueCacheAdvice";
+    
+    private static final String TABLE_LOCK_MANAGER_ENHANCE_CLASS = "org.apache.shardingsphere.infra.lock.TableLockManager";
+    
+    private static final String TABLE_LOCK_MANAGER_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.TableLockManagerAdvice";
+    
+    private static final String DATABASE_DATETIME_ENHANCE_CLASS = "org.apache.shardingsphere.datetime.database.impl.CachedDatabaseDatetimeService";
+    
+    private static final String DATABASE_DATETIME_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.DatabaseDatetimeAdvice";
+    
     public MetricsPluginDefinition() {
         super("Metrics");
     }
@@ -61,9 +91,37 @@ public final class MetricsPluginDefinition extends PluginDefinition {
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SQL_ROUTER))
                 .implement(SQL_ROUTER_ENGINE_ADVICE_CLASS)
                 .build();
+        intercept(SQL_PARSER_ENGINE_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SQL_PARSE))
+                .implement(SQL_PARSER_ENGINE_ADVICE_CLASS)
+                .build();
+        intercept(SQL_REWRITE_ENTRY_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SQL_REWRITE))
+                .implement(SQL_REWRITE_ENTRY_ADVICE_CLASS)
+                .build();
+        intercept(JDBC_EXECUTOR_CALLBACK_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SQL_EXECUTE).and(ElementMatchers.takesArgument(0, ElementMatchers.named(JDBC_EXECUTION_UNIT_CLASS))))
+                .implement(JDBC_EXECUTOR_CALLBACK_ADVICE_CLASS)
+                .build();
+        intercept(MERGE_ENGINE_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.RESULT_MERGE))
+                .implement(MERGE_ENGINE_ADVICE_CLASS)
+                .build();
         intercept(TRANSACTION_ENHANCE_CLASS)
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.COMMIT).or(ElementMatchers.named(MethodNameConstant.ROLL_BACK)))
                 .implement(TRANSACTION_ADVICE_CLASS)
                 .build();
+        intercept(DECRYPTED_VALUE_CACHE_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.DECRYPT).or(ElementMatchers.named(MethodNameConstant.LOAD)))
+                .implement(DECRYPTED_VALUE_CACHE_ADVICE_CLASS)
+                .build();
+        intercept(TABLE_LOCK_MANAGER_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.TRY_LOCK).or(ElementMatchers.named(MethodNameConstant.RELEASE_LOCK)))
+                .implement(TABLE_LOCK_MANAGER_ADVICE_CLASS)
+                .build();
+        intercept(DATABASE_DATETIME_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SAMPLE))
+                .implement(DATABASE_DATETIME_ADVICE_CLASS)
+                .build();
     }
 }
@@ -106,6 +106,18 @@ public final class MetricsReporter {
         METRICS_REGISTER.registerHistogram(name, labelNames, document);
     }
     
+    /**
+     * Register histogram by label names and buckets.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param document document for histogram
+     * @param buckets upper bounds of buckets
+     */
+    public static void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
+        METRICS_REGISTER.registerHistogram(name, labelNames, document, buckets);
+    }
+    
     /**
      * Register histogram.
      *
@@ -126,13 +138,23 @@ public final class MetricsReporter {
         METRICS_REGISTER.counterIncrement(name, labelValues);
     }
     
+    /**
+     * Counter increment with single label.
+     *
+     * @param name name
+     * @param labelValue label value
+     */
+    public static void counterIncrement(final String name, final String labelValue) {
+        METRICS_REGISTER.counterIncrement(name, labelValue);
+    }
+    
     /**
      * Counter increment.
      *
      * @param name name
      */
     public static void counterIncrement(final String name) {
-        counterIncrement(name, null);
+        counterIncrement(name, (String[]) null);
     }
     
     /**
@@ -162,7 +184,7 @@ public final class MetricsReporter {
      * @param name name
      */
     public static void gaugeIncrement(final String name) {
-        gaugeIncrement(name, null);
+        gaugeIncrement(name, (String[]) null);
     }
     
     /**
@@ -181,7 +203,17 @@ public final class MetricsReporter {
      * @param name name
      */
     public static void gaugeDecrement(final String name) {
-        gaugeDecrement(name, null);
+        gaugeDecrement(name, (String[]) null);
+    }
+    
+    /**
+     * Gauge set.
+     *
+     * @param name name
+     * @param value value
+     */
+    public static void gaugeSet(final String name, final double value) {
+        METRICS_REGISTER.gaugeSet(name, null, value);
     }
     
     /**
@@ -195,6 +227,17 @@ public final class MetricsReporter {
         METRICS_REGISTER.recordTime(name, labelValues, duration);
     }
     
+    /**
+     * Record time by duration with single label.
+     *
+     * @param name name
+     * @param labelValue label value
+     * @param duration duration
+     */
+    public static void recordTime(final String name, final String labelValue, final long duration) {
+        METRICS_REGISTER.recordTime(name, labelValue, duration);
+    }
+    
     /**
      * Record time by duration.
      *
@@ -202,7 +245,7 @@ public final class MetricsReporter {
      * @param duration duration
      */
     public static void recordTime(final String name, final long duration) {
-        recordTime(name, null, duration);
+        recordTime(name, (String[]) null, duration);
     }
     
     private static String[] getLabelNames(final List<String> labels) {
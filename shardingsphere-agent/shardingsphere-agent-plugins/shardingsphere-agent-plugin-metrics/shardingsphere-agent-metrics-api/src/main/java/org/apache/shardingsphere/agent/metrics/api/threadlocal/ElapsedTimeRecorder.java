@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.threadlocal;
+
+/**
+ * Elapsed time recorder, holds the start time of an intercepted stage per thread.
+ */
+public final class ElapsedTimeRecorder {
+    
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    
+    /**
+     * Start recording for current thread.
+     */
+    public void start() {
+        startNanos.set(System.nanoTime());
+    }
+    
+    /**
+     * Get elapsed micros since the last start of current thread.
+     *
+     * @return elapsed micros, or -1 if not started
+     */
+    public long getElapsedMicros() {
+        Long start = startNanos.get();
+        if (null == start) {
+            return -1L;
+        }
+        startNanos.remove();
+        return (System.nanoTime() - start) / 1000L;
+    }
+}
@@ -36,11 +36,21 @@ public final class FixtureMetricsRegister implements MetricsRegister {
     
     }
     
+    @Override
+    public void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
+    
+    }
+    
     @Override
     public void counterIncrement(final String name, final String[] labelValues) {
     
     }
     
+    @Override
+    public void counterIncrement(final String name, final String labelValue) {
+    
+    }
+    
     @Override
     public void counterIncrement(final String name, final String[] labelValues, final long count) {
     
@@ -56,8 +66,18 @@ public final class FixtureMetricsRegister implements MetricsRegister {
     
     }
     
+    @Override
+    public void gaugeSet(final String name, final String[] labelValues, final double value) {
+    
+    }
+    
     @Override
     public void recordTime(final String name, final String[] labelValues, final long duration) {
     
     }
+    
+    @Override
+    public void recordTime(final String name, final String labelValue, final long duration) {
+    
+    }
 }
@@ -37,6 +37,14 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     
     private static final Map<String, Histogram> HISTOGRAM_MAP = new ConcurrentHashMap<>();
     
+    private static final int MAX_LABEL_VALUE_COUNT = 1000;
+    
+    private static final String OVERFLOW_LABEL_VALUE = "others";
+    
+    private static final Map<String, Map<String, Counter.Child>> COUNTER_CHILD_MAP = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Map<String, Histogram.Child>> HISTOGRAM_CHILD_MAP = new ConcurrentHashMap<>();
+    
     /**
      * Get instance prometheus metrics register.
      *
@@ -79,6 +87,17 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
+        if (!HISTOGRAM_MAP.containsKey(name)) {
+            Histogram.Builder builder = Histogram.build().name(name).help(document).buckets(buckets);
+            if (null != labelNames) {
+                builder.labelNames(labelNames);
+            }
+            HISTOGRAM_MAP.put(name, builder.register());
+        }
+    }
+    
     @Override
     public void counterIncrement(final String name, final String[] labelValues) {
         Counter counter = COUNTER_MAP.get(name);
@@ -89,6 +108,11 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void counterIncrement(final String name, final String labelValue) {
+        getCounterChild(name, labelValue).inc();
+    }
+    
     @Override
     public void counterIncrement(final String name, final String[] labelValues, final long count) {
         Counter counter = COUNTER_MAP.get(name);
@@ -119,6 +143,16 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void gaugeSet(final String name, final String[] labelValues, final double value) {
+        Gauge gauge = GAUGE_MAP.get(name);
+        if (null != labelValues) {
+            gauge.labels(labelValues).set(value);
+        } else {
+            gauge.set(value);
+        }
+    }
+    
     @Override
     public void recordTime(final String name, final String[] labelValues, final long duration) {
         Histogram histogram = HISTOGRAM_MAP.get(name);
@@ -129,6 +163,42 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void recordTime(final String name, final String labelValue, final long duration) {
+        getHistogramChild(name, labelValue).observe(duration);
+    }
+    
+    private static Counter.Child getCounterChild(final String name, final String labelValue) {
+        Map<String, Counter.Child> children = getChildren(COUNTER_CHILD_MAP, name);
+        Counter.Child result = children.get(labelValue);
+        if (null != result) {
+            return result;
+        }
+        String actualLabelValue = getActualLabelValue(children, labelValue);
+        Counter counter = COUNTER_MAP.get(name);
+        return children.computeIfAbsent(actualLabelValue, key -> counter.labels(key));
+    }
+    
+    private static Histogram.Child getHistogramChild(final String name, final String labelValue) {
+        Map<String, Histogram.Child> children = getChildren(HISTOGRAM_CHILD_MAP, name);
+        Histogram.Child result = children.get(labelValue);
+        if (null != result) {
+            return result;
+        }
+        String actualLabelValue = getActualLabelValue(children, labelValue);
+        Histogram histogram = HISTOGRAM_MAP.get(name);
+        return children.computeIfAbsent(actualLabelValue, key -> histogram.labels(key));
+    }
+    
+    private static <T> Map<String, T> getChildren(final Map<String, Map<String, T>> childMap, final String name) {
+        Map<String, T> result = childMap.get(name);
+        return null == result ? childMap.computeIfAbsent(name, key -> new ConcurrentHashMap<>()) : result;
+    }
+    
+    private static String getActualLabelValue(final Map<String, ?> children, final String labelValue) {
+        return children.size() < MAX_LABEL_VALUE_COUNT ? labelValue : OVERFLOW_LABEL_VALUE;
+    }
+    
     private static class PrometheusMetricsRegisterHolder {
         
         private static final PrometheusMetricsRegister INSTANCE = new PrometheusMetricsRegister();
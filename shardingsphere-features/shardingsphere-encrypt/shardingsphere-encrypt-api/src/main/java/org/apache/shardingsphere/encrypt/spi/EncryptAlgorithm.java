@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  */
@@ -40,4 +43,43 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm, ShardingSpher
      * @return plaintext
      */
     Object decrypt(String ciphertext);
+    
+    /**
+     * Whether same plaintext is always encrypted to same ciphertext and the ciphertext can be decrypted back to it.
+     * 
+     * <p>Only deterministic algorithms can cache decrypted values. Digest algorithms are not, because their decryption returns ciphertext as is.</p>
+     *
+     * @return is deterministic or not
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+    
+    /**
+     * Encode in batch.
+     *
+     * @param plaintexts plaintexts
+     * @return ciphertexts in the same order of plaintexts
+     */
+    default List<String> batchEncrypt(List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decode in batch.
+     *
+     * @param ciphertexts ciphertexts
+     * @return plaintexts in the same order of ciphertexts
+     */
+    default List<Object> batchDecrypt(List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
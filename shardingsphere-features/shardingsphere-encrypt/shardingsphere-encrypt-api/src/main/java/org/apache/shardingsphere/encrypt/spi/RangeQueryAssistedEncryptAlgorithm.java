@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.spi;
+
+import com.google.common.collect.Range;
+
+/**
+ * Range query assisted encrypt algorithm for SPI.
+ * 
+ * <p>Query assisted values keep order of plaintexts, so range and prefix predicates can be pushed down to query assisted column.
+ * Plaintexts in same bucket share same query assisted value, so rows matched by query assisted column must be filtered by decrypted plaintexts.</p>
+ */
+public interface RangeQueryAssistedEncryptAlgorithm extends QueryAssistedEncryptAlgorithm {
+    
+    /**
+     * Query assisted encrypt for prefix.
+     *
+     * @param prefix prefix of plaintexts
+     * @return closed range of query assisted values which covers all plaintexts start with prefix
+     */
+    Range<String> queryAssistedEncryptPrefix(String prefix);
+}
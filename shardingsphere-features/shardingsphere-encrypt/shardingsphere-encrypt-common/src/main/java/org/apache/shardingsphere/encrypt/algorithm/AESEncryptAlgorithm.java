@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.algorithm;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -27,13 +28,12 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -49,9 +49,20 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init() {
         secretKey = createSecretKey();
+        SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey, getType());
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
     }
     
     private byte[] createSecretKey() {
@@ -59,32 +70,66 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return Arrays.copyOf(DigestUtils.sha1(props.getProperty(AES_KEY)), 16);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plaintext) {
+        return doEncrypt(encryptCipher.get(), plaintext);
+    }
+    
+    @Override
+    public Object decrypt(final String ciphertext) {
+        return doDecrypt(decryptCipher.get(), ciphertext);
+    }
+    
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        Cipher cipher = encryptCipher.get();
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(doEncrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        Cipher cipher = decryptCipher.get();
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(doDecrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private String doEncrypt(final Cipher cipher, final Object plaintext) {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = cipher.doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
-    @Override
-    public Object decrypt(final String ciphertext) {
+    private Object doDecrypt(final Cipher cipher, final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(ciphertext));
+        byte[] result = cipher.doFinal(Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "AES";
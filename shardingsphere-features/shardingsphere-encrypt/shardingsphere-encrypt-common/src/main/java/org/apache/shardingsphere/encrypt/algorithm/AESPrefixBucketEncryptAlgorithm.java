@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.Range;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * AES prefix bucket encrypt algorithm.
+ * 
+ * <p>Cipher values are encrypted by AES. Query assisted values encode first characters of plaintexts by a keyed order preserving mapping,
+ * every character is mapped to the sum of random gaps of all characters not greater than it, the gaps are generated by AES with a key derived from the AES key.</p>
+ * 
+ * <p>Query assisted values are not encryption, they reveal equality and order of plaintext prefixes and approximate positions of prefix characters.</p>
+ */
+public final class AESPrefixBucketEncryptAlgorithm implements RangeQueryAssistedEncryptAlgorithm {
+    
+    private static final String PREFIX_LENGTH = "prefix-length";
+    
+    private static final int DEFAULT_PREFIX_LENGTH = 4;
+    
+    private static final String AES_KEY = "aes-key-value";
+    
+    private static final int CHAR_SIZE = Character.MAX_VALUE + 1;
+    
+    private static final int MAX_GAP = 1 << 14;
+    
+    private static final int CHAR_CODE_LENGTH = 8;
+    
+    private final AESEncryptAlgorithm aesEncryptAlgorithm = new AESEncryptAlgorithm();
+    
+    private int prefixLength;
+    
+    private int[] charCodes;
+    
+    private String maxCharCode;
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    @Override
+    public void init() {
+        aesEncryptAlgorithm.setProps(props);
+        aesEncryptAlgorithm.init();
+        prefixLength = Integer.parseInt(props.getProperty(PREFIX_LENGTH, String.valueOf(DEFAULT_PREFIX_LENGTH)));
+        Preconditions.checkArgument(prefixLength > 0, String.format("%s must be positive.", PREFIX_LENGTH));
+        charCodes = createCharCodes(Arrays.copyOf(DigestUtils.sha256(props.getProperty(AES_KEY)), 16));
+        maxCharCode = encode(String.valueOf(Character.MAX_VALUE));
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private int[] createCharCodes(final byte[] secretKey) {
+        Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey, "AES"));
+        ByteBuffer counters = ByteBuffer.allocate(CHAR_SIZE * Short.BYTES);
+        for (int i = 0; i < counters.capacity(); i += 16) {
+            counters.putInt(i, i);
+        }
+        ShortBuffer gaps = ByteBuffer.wrap(cipher.doFinal(counters.array())).asShortBuffer();
+        int[] result = new int[CHAR_SIZE];
+        int charCode = 0;
+        for (int i = 0; i < CHAR_SIZE; i++) {
+            charCode += 1 + (gaps.get(i) & (MAX_GAP - 1));
+            result[i] = charCode;
+        }
+        return result;
+    }
+    
+    @Override
+    public String encrypt(final Object plaintext) {
+        return aesEncryptAlgorithm.encrypt(plaintext);
+    }
+    
+    @Override
+    public Object decrypt(final String ciphertext) {
+        return aesEncryptAlgorithm.decrypt(ciphertext);
+    }
+    
+    @Override
+    public String queryAssistedEncrypt(final String plaintext) {
+        return null == plaintext ? null : encode(plaintext.substring(0, Math.min(prefixLength, plaintext.length())));
+    }
+    
+    @Override
+    public Range<String> queryAssistedEncryptPrefix(final String prefix) {
+        String lowerBound = queryAssistedEncrypt(prefix);
+        return prefix.length() >= prefixLength ? Range.singleton(lowerBound) : Range.closed(lowerBound, lowerBound + Strings.repeat(maxCharCode, prefixLength - prefix.length()));
+    }
+    
+    private String encode(final String prefix) {
+        StringBuilder result = new StringBuilder(prefix.length() * CHAR_CODE_LENGTH);
+        for (char each : prefix.toCharArray()) {
+            String charCode = Integer.toHexString(charCodes[each]);
+            for (int i = charCode.length(); i < CHAR_CODE_LENGTH; i++) {
+                result.append('0');
+            }
+            result.append(charCode);
+        }
+        return result.toString();
+    }
+    
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
+    @Override
+    public String getType() {
+        return "AES_PREFIX_BUCKET";
+    }
+}
@@ -19,9 +19,14 @@ package org.apache.shardingsphere.encrypt.algorithm;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -50,6 +55,21 @@ public final class MD5EncryptAlgorithm implements EncryptAlgorithm {
         return ciphertext;
     }
     
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        MessageDigest messageDigest = DigestUtils.getMd5Digest();
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : Hex.encodeHexString(messageDigest.digest(StringUtils.getBytesUtf8(String.valueOf(each)))));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        return new ArrayList<>(ciphertexts);
+    }
+    
     @Override
     public String getType() {
         return "MD5";
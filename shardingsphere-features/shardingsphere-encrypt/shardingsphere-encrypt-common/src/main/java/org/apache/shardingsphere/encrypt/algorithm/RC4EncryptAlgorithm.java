@@ -25,7 +25,8 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -39,9 +40,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     private static final int KEY_MIN_LENGTH = 5;
     
-    private byte[] key = new byte[SBOX_LENGTH - 1];
-    
-    private int[] sBox = new int[SBOX_LENGTH];
+    private int[] sBox;
     
     @Getter
     @Setter
@@ -49,8 +48,10 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     @Override
     public void init() {
-        reset();
-        setKey(StringUtils.getBytesUtf8(props.getProperty(RC4_KEY)));
+        byte[] key = StringUtils.getBytesUtf8(props.getProperty(RC4_KEY));
+        checkKeyLength(key);
+        // keep the key schedule of existing ciphertexts, which have always been crypted with a cleared key of the configured length
+        sBox = initSBox(new byte[key.length]);
     }
     
     @Override
@@ -58,7 +59,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = handle(StringUtils.getBytesUtf8(String.valueOf(plaintext)), key);
+        byte[] result = crypt(StringUtils.getBytesUtf8(String.valueOf(plaintext)), new int[SBOX_LENGTH]);
         return Base64.encodeBase64String(result);
     }
     
@@ -67,31 +68,39 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = handle(Base64.decodeBase64(ciphertext), key);
+        byte[] result = crypt(Base64.decodeBase64(ciphertext), new int[SBOX_LENGTH]);
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private byte[] handle(final byte[] data, final byte[] key) {
-        reset();
-        setKey(key);
-        byte[] result = crypt(data);
-        reset();
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        int[] sBox = new int[SBOX_LENGTH];
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : Base64.encodeBase64String(crypt(StringUtils.getBytesUtf8(String.valueOf(each)), sBox)));
+        }
         return result;
     }
     
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
+    @Override
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        int[] sBox = new int[SBOX_LENGTH];
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(null == each ? null : new String(crypt(Base64.decodeBase64(each), sBox), StandardCharsets.UTF_8));
+        }
+        return result;
     }
     
     /**
-     * Crypt given byte array. Be aware, that you must init key, before using.
+     * Crypt given byte array with a copy of the key scheduled sBox, so that concurrent invocations never share state.
      * @param message array to be crypt
+     * @param sBox sBox to be overwritten by the key scheduled sBox
      * @return byte array
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
-    private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+    private byte[] crypt(final byte[] message, final int[] sBox) {
+        System.arraycopy(this.sBox, 0, sBox, 0, SBOX_LENGTH);
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -132,16 +141,20 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     }
     
     /**
-     * Set key.
+     * Check key length.
      *
-     * @param key key to be setup
+     * @param key key to be checked
      * @throws ShardingSphereException if key length is smaller than 5 or bigger than 255
      */
-    private void setKey(final byte[] key) throws ShardingSphereException {
+    private void checkKeyLength(final byte[] key) throws ShardingSphereException {
         if (!(key.length >= KEY_MIN_LENGTH && key.length < SBOX_LENGTH)) {
             throw new ShardingSphereException("Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
-        this.key = key;
+    }
+    
+    @Override
+    public boolean isDeterministic() {
+        return true;
     }
     
     @Override
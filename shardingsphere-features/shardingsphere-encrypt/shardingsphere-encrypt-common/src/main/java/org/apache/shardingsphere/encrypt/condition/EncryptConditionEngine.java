@@ -15,11 +15,12 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.encrypt.rewrite.condition;
+package org.apache.shardingsphere.encrypt.condition;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptEqualCondition;
-import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptInCondition;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptEqualCondition;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptInCondition;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptRangeCondition;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -30,12 +31,14 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenE
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.SimpleExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -49,6 +52,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class EncryptConditionEngine {
     
+    private static final Collection<String> RANGE_OPERATORS = new HashSet<>(Arrays.asList(">", ">=", "<", "<=", "LIKE"));
+    
+    private static final Collection<String> NEGATIVE_OPERATORS = new HashSet<>(Arrays.asList("<>", "!=", "NOT LIKE"));
+    
     private final EncryptRule encryptRule;
     
     private final ShardingSphereSchema schema;
@@ -101,8 +108,12 @@ public final class EncryptConditionEngine {
             return Optional.empty();
         }
         Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(column.get(), schema);
-        return tableName.isPresent() && encryptRule.findEncryptor(tableName.get(), column.get().getIdentifier().getValue()).isPresent()
-                ? createEncryptCondition(expression, tableName.get()) : Optional.empty();
+        String columnName = column.get().getIdentifier().getValue();
+        if (!tableName.isPresent() || !encryptRule.findEncryptor(tableName.get(), columnName).isPresent()) {
+            return Optional.empty();
+        }
+        return encryptRule.isRangeQueryAssisted(tableName.get(), columnName)
+                ? createRangeQueryAssistedEncryptCondition(expression, tableName.get()) : createEncryptCondition(expression, tableName.get());
     }
     
     private Optional<EncryptCondition> createEncryptCondition(final ExpressionSegment expression, final String tableName) {
@@ -125,6 +136,62 @@ public final class EncryptConditionEngine {
         return Optional.empty();
     }
     
+    private Optional<EncryptCondition> createRangeQueryAssistedEncryptCondition(final ExpressionSegment expression, final String tableName) {
+        if (expression instanceof BinaryOperationExpression) {
+            String operator = ((BinaryOperationExpression) expression).getOperator().toUpperCase();
+            if ("=".equals(operator)) {
+                return createCompareEncryptCondition(tableName, (BinaryOperationExpression) expression, ((BinaryOperationExpression) expression).getRight());
+            }
+            if (RANGE_OPERATORS.contains(operator)) {
+                return createRangeEncryptCondition(tableName, ((BinaryOperationExpression) expression).getLeft(), 
+                        expression.getStopIndex(), operator, Collections.singletonList(getRangeRightValue((BinaryOperationExpression) expression)));
+            }
+            checkNotNegative(NEGATIVE_OPERATORS.contains(operator), operator);
+            return Optional.empty();
+        }
+        if (expression instanceof InExpression) {
+            checkNotNegative(((InExpression) expression).isNot(), "NOT IN");
+            return createInEncryptCondition(tableName, (InExpression) expression, ((InExpression) expression).getRight());
+        }
+        if (expression instanceof BetweenExpression) {
+            BetweenExpression betweenExpression = (BetweenExpression) expression;
+            checkNotNegative(betweenExpression.isNot(), "NOT BETWEEN");
+            return createRangeEncryptCondition(tableName, betweenExpression.getLeft(), betweenExpression.getStopIndex(), "BETWEEN", 
+                    Arrays.asList(betweenExpression.getBetweenExpr(), betweenExpression.getAndExpr()));
+        }
+        return Optional.empty();
+    }
+    
+    private static void checkNotNegative(final boolean negative, final String operator) {
+        if (negative) {
+            throw new ShardingSphereException("The SQL clause '%s' is unsupported on range query assisted encrypt column, because it can not be pushed down to buckets.", operator);
+        }
+    }
+    
+    private static ExpressionSegment getRangeRightValue(final BinaryOperationExpression expression) {
+        if (!(expression.getRight() instanceof ListExpression)) {
+            return expression.getRight();
+        }
+        List<ExpressionSegment> items = ((ListExpression) expression.getRight()).getItems();
+        if (1 != items.size()) {
+            throw new ShardingSphereException("The SQL clause 'LIKE...ESCAPE...' is unsupported on range query assisted encrypt column.");
+        }
+        return items.get(0);
+    }
+    
+    private static Optional<EncryptCondition> createRangeEncryptCondition(final String tableName, final ExpressionSegment left, 
+                                                                          final int stopIndex, final String operator, final List<ExpressionSegment> rightValues) {
+        if (!(left instanceof ColumnSegment)) {
+            return Optional.empty();
+        }
+        for (ExpressionSegment each : rightValues) {
+            if (!(each instanceof SimpleExpressionSegment)) {
+                throw new ShardingSphereException("Only literals and parameter markers are supported by '%s' on range query assisted encrypt column.", operator);
+            }
+        }
+        return Optional.of(new EncryptRangeCondition(((ColumnSegment) left).getIdentifier().getValue(), tableName, left.getStopIndex() + 1, stopIndex, operator, rightValues));
+    }
+    
     private static Optional<EncryptCondition> createCompareEncryptCondition(final String tableName, final BinaryOperationExpression expression, final ExpressionSegment compareRightValue) {
         if (!(expression.getLeft() instanceof ColumnSegment)) {
             return Optional.empty();
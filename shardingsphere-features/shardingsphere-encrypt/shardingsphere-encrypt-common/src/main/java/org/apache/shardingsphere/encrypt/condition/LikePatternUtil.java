@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.condition;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.util.regex.Pattern;
+
+/**
+ * LIKE pattern utility, escape character is back slash.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LikePatternUtil {
+    
+    private static final char ESCAPE = '\\';
+    
+    private static final char ANY_CHARACTERS = '%';
+    
+    private static final char SINGLE_CHARACTER = '_';
+    
+    /**
+     * Get literal prefix of LIKE pattern.
+     *
+     * @param pattern LIKE pattern
+     * @return literal prefix before first wildcard
+     * @throws ShardingSphereException if pattern starts with wildcard, which matches all query assisted values
+     */
+    public static String getPrefix(final Object pattern) {
+        if (null == pattern) {
+            throw new ShardingSphereException("LIKE pattern on range query assisted encrypt column can not be null.");
+        }
+        String value = pattern.toString();
+        StringBuilder result = new StringBuilder();
+        boolean escaped = false;
+        for (char each : value.toCharArray()) {
+            if (!escaped && ESCAPE == each) {
+                escaped = true;
+                continue;
+            }
+            if (!escaped && (ANY_CHARACTERS == each || SINGLE_CHARACTER == each)) {
+                break;
+            }
+            result.append(each);
+            escaped = false;
+        }
+        if (0 == result.length()) {
+            throw new ShardingSphereException("LIKE pattern `%s` on range query assisted encrypt column must start with literal prefix.", value);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Convert LIKE pattern to regular expression.
+     *
+     * @param pattern LIKE pattern
+     * @return regular expression pattern
+     */
+    public static Pattern toRegexPattern(final String pattern) {
+        StringBuilder result = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        boolean escaped = false;
+        for (char each : pattern.toCharArray()) {
+            if (!escaped && ESCAPE == each) {
+                escaped = true;
+                continue;
+            }
+            if (!escaped && (ANY_CHARACTERS == each || SINGLE_CHARACTER == each)) {
+                appendLiteral(result, literal);
+                result.append(ANY_CHARACTERS == each ? ".*" : ".");
+            } else {
+                literal.append(each);
+            }
+            escaped = false;
+        }
+        appendLiteral(result, literal);
+        return Pattern.compile(result.toString(), Pattern.DOTALL);
+    }
+    
+    private static void appendLiteral(final StringBuilder regex, final StringBuilder literal) {
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+}
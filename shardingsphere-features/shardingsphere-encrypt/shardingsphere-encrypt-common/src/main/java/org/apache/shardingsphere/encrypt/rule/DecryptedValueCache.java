@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+
+/**
+ * Decrypted value cache, bounded LRU of ciphertext to plaintext for one encrypt column.
+ * 
+ * <p>Cache is weighed by characters of ciphertext and plaintext, so long values evict more entries than short ones.</p>
+ */
+public final class DecryptedValueCache {
+    
+    @Getter
+    private final String tableName;
+    
+    @Getter
+    private final String columnName;
+    
+    private final EncryptAlgorithm encryptAlgorithm;
+    
+    private final Cache<String, Object> cache;
+    
+    public DecryptedValueCache(final String tableName, final String columnName, final EncryptAlgorithm encryptAlgorithm, final long maximumWeight) {
+        this.tableName = tableName;
+        this.columnName = columnName;
+        this.encryptAlgorithm = encryptAlgorithm;
+        cache = CacheBuilder.newBuilder().maximumWeight(maximumWeight).weigher((String ciphertext, Object plaintext) -> ciphertext.length() + String.valueOf(plaintext).length()).build();
+    }
+    
+    /**
+     * Decrypt ciphertext, reusing plaintext of same ciphertext decrypted before.
+     *
+     * @param ciphertext ciphertext
+     * @return plaintext
+     */
+    public Object decrypt(final String ciphertext) {
+        if (null == ciphertext) {
+            return null;
+        }
+        Object result = cache.getIfPresent(ciphertext);
+        return null == result ? load(ciphertext) : result;
+    }
+    
+    /**
+     * Decrypt ciphertext absent from cache and cache its plaintext.
+     *
+     * @param ciphertext ciphertext
+     * @return plaintext
+     */
+    public Object load(final String ciphertext) {
+        Object result = encryptAlgorithm.decrypt(ciphertext);
+        if (null != result) {
+            cache.put(ciphertext, result);
+        }
+        return result;
+    }
+}
@@ -19,22 +19,29 @@ package org.apache.shardingsphere.encrypt.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.encrypt.algorithm.config.AlgorithmProvidedEncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.QueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -50,16 +57,32 @@ public final class EncryptRule implements TableContainedRule {
     
     private final Map<String, EncryptTable> tables = new LinkedHashMap<>();
     
+    private final Map<String, Map<String, DecryptedValueCache>> decryptedValueCaches = new LinkedHashMap<>();
+    
     public EncryptRule(final EncryptRuleConfiguration config) {
         Preconditions.checkArgument(isValidRuleConfiguration(config), "Invalid encrypt column configurations in EncryptTableRuleConfigurations.");
         config.getEncryptors().forEach((key, value) -> encryptors.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, EncryptAlgorithm.class)));
         config.getTables().forEach(each -> tables.put(each.getName(), new EncryptTable(each)));
+        config.getTables().forEach(this::createDecryptedValueCaches);
     }
     
     public EncryptRule(final AlgorithmProvidedEncryptRuleConfiguration config) {
         Preconditions.checkArgument(isValidRuleConfigurationWithAlgorithmProvided(config), "Invalid encrypt column configurations in EncryptTableRuleConfigurations.");
         encryptors.putAll(config.getEncryptors());
         config.getTables().forEach(each -> tables.put(each.getName(), new EncryptTable(each)));
+        config.getTables().forEach(this::createDecryptedValueCaches);
+    }
+    
+    private void createDecryptedValueCaches(final EncryptTableRuleConfiguration config) {
+        for (EncryptColumnRuleConfiguration each : config.getColumns()) {
+            if (each.getDecryptedValueCacheSize() > 0) {
+                EncryptAlgorithm encryptor = encryptors.get(each.getEncryptorName());
+                Preconditions.checkArgument(encryptor.isDeterministic(), "Can not cache decrypted values of `%s.%s`, because encryptor `%s` is not deterministic.",
+                        config.getName(), each.getLogicColumn(), each.getEncryptorName());
+                decryptedValueCaches.computeIfAbsent(config.getName(), key -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                        .put(each.getLogicColumn(), new DecryptedValueCache(config.getName(), each.getLogicColumn(), encryptor, each.getDecryptedValueCacheSize()));
+            }
+        }
     }
     
     private boolean isValidRuleConfiguration(final EncryptRuleConfiguration config) {
@@ -126,6 +149,17 @@ public final class EncryptRule implements TableContainedRule {
         return tables.containsKey(logicTable) ? tables.get(logicTable).findEncryptorName(logicColumn).map(encryptors::get) : Optional.empty();
     }
     
+    /**
+     * Find decrypted value cache.
+     *
+     * @param logicTable logic table name
+     * @param logicColumn logic column name
+     * @return decrypted value cache
+     */
+    public Optional<DecryptedValueCache> findDecryptedValueCache(final String logicTable, final String logicColumn) {
+        return decryptedValueCaches.containsKey(logicTable) ? Optional.ofNullable(decryptedValueCaches.get(logicTable).get(logicColumn)) : Optional.empty();
+    }
+    
     /**
      * get encrypt values.
      *
@@ -137,7 +171,13 @@ public final class EncryptRule implements TableContainedRule {
     public List<Object> getEncryptValues(final String logicTable, final String logicColumn, final List<Object> originalValues) {
         Optional<EncryptAlgorithm> encryptor = findEncryptor(logicTable, logicColumn);
         Preconditions.checkArgument(encryptor.isPresent(), String.format("Can not find QueryAssistedEncryptAlgorithm by %s.%s.", logicTable, logicColumn));
-        return originalValues.stream().map(input -> null == input ? null : String.valueOf(encryptor.get().encrypt(input.toString()))).collect(Collectors.toList());
+        List<String> plaintexts = originalValues.stream().filter(Objects::nonNull).map(Object::toString).collect(Collectors.toList());
+        Iterator<String> ciphertexts = encryptor.get().batchEncrypt(plaintexts).iterator();
+        List<Object> result = new ArrayList<>(originalValues.size());
+        for (Object each : originalValues) {
+            result.add(null == each ? null : String.valueOf(ciphertexts.next()));
+        }
+        return result;
     }
     
     /**
@@ -197,6 +237,42 @@ public final class EncryptRule implements TableContainedRule {
         return originalValues.stream().map(input -> null == input ? null : ((QueryAssistedEncryptAlgorithm) encryptor.get()).queryAssistedEncrypt(input.toString())).collect(Collectors.toList());
     }
     
+    /**
+     * Judge whether contains range query assisted encrypt algorithm.
+     *
+     * @return contains range query assisted encrypt algorithm or not
+     */
+    public boolean containsRangeQueryAssistedEncryptor() {
+        return encryptors.values().stream().anyMatch(each -> each instanceof RangeQueryAssistedEncryptAlgorithm);
+    }
+    
+    /**
+     * Judge whether logic column is queried by range query assisted encrypt algorithm.
+     *
+     * @param logicTable logic table
+     * @param logicColumn logic column
+     * @return is range query assisted or not
+     */
+    public boolean isRangeQueryAssisted(final String logicTable, final String logicColumn) {
+        return findAssistedQueryColumn(logicTable, logicColumn).isPresent() && findEncryptor(logicTable, logicColumn).filter(each -> each instanceof RangeQueryAssistedEncryptAlgorithm).isPresent();
+    }
+    
+    /**
+     * Get encrypt assisted query prefix values.
+     *
+     * @param logicTable logic table
+     * @param logicColumn logic column
+     * @param prefix prefix of plaintexts
+     * @return lower and upper assisted query values of plaintexts start with prefix
+     */
+    public List<Object> getEncryptAssistedQueryPrefixValues(final String logicTable, final String logicColumn, final String prefix) {
+        Optional<EncryptAlgorithm> encryptor = findEncryptor(logicTable, logicColumn);
+        Preconditions.checkArgument(encryptor.isPresent() && encryptor.get() instanceof RangeQueryAssistedEncryptAlgorithm,
+                String.format("Can not find RangeQueryAssistedEncryptAlgorithm by %s.%s.", logicTable, logicColumn));
+        Range<String> result = ((RangeQueryAssistedEncryptAlgorithm) encryptor.get()).queryAssistedEncryptPrefix(prefix);
+        return Arrays.asList(result.lowerEndpoint(), result.upperEndpoint());
+    }
+    
     /**
      * Find plain column.
      *
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -80,4 +81,14 @@ public final class AESEncryptAlgorithmTest {
     public void assertDecryptWithNullCiphertext() {
         assertNull(encryptAlgorithm.decrypt(null));
     }
+    
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
 }
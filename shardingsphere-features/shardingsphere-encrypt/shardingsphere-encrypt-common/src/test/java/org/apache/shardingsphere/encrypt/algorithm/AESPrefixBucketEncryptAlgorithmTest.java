@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AESPrefixBucketEncryptAlgorithmTest {
+    
+    static {
+        ShardingSphereServiceLoader.register(EncryptAlgorithm.class);
+    }
+    
+    private RangeQueryAssistedEncryptAlgorithm encryptAlgorithm;
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "test");
+        props.setProperty("prefix-length", "2");
+        encryptAlgorithm = (RangeQueryAssistedEncryptAlgorithm) ShardingSphereAlgorithmFactory.createAlgorithm(
+                new ShardingSphereAlgorithmConfiguration("AES_PREFIX_BUCKET", props), EncryptAlgorithm.class);
+    }
+    
+    @Test
+    public void assertEncrypt() {
+        assertThat(encryptAlgorithm.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertDecrypt() {
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithNonPositivePrefixLength() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "test");
+        props.setProperty("prefix-length", "0");
+        encryptAlgorithm.setProps(props);
+        encryptAlgorithm.init();
+    }
+    
+    @Test
+    public void assertQueryAssistedEncrypt() {
+        assertThat(encryptAlgorithm.queryAssistedEncrypt("test").length(), is(16));
+        assertThat(encryptAlgorithm.queryAssistedEncrypt("t").length(), is(8));
+        assertThat(encryptAlgorithm.queryAssistedEncrypt("test"), is(encryptAlgorithm.queryAssistedEncrypt("tea")));
+        assertNull(encryptAlgorithm.queryAssistedEncrypt(null));
+    }
+    
+    @Test
+    public void assertQueryAssistedEncryptWithDifferentKey() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "other");
+        props.setProperty("prefix-length", "2");
+        RangeQueryAssistedEncryptAlgorithm otherEncryptAlgorithm = (RangeQueryAssistedEncryptAlgorithm) ShardingSphereAlgorithmFactory.createAlgorithm(
+                new ShardingSphereAlgorithmConfiguration("AES_PREFIX_BUCKET", props), EncryptAlgorithm.class);
+        assertThat(otherEncryptAlgorithm.queryAssistedEncrypt("test"), not(encryptAlgorithm.queryAssistedEncrypt("test")));
+    }
+    
+    @Test
+    public void assertQueryAssistedEncryptKeepOrder() {
+        assertTrue(encryptAlgorithm.queryAssistedEncrypt("2021-01").compareTo(encryptAlgorithm.queryAssistedEncrypt("3021-01")) < 0);
+        assertTrue(encryptAlgorithm.queryAssistedEncrypt("a").compareTo(encryptAlgorithm.queryAssistedEncrypt("ab")) < 0);
+        assertTrue(encryptAlgorithm.queryAssistedEncrypt("ab").compareTo(encryptAlgorithm.queryAssistedEncrypt("ac")) < 0);
+        assertTrue(encryptAlgorithm.queryAssistedEncrypt("z").compareTo(encryptAlgorithm.queryAssistedEncrypt("中")) < 0);
+        assertTrue(encryptAlgorithm.queryAssistedEncrypt(String.valueOf(Character.MIN_VALUE)).compareTo(encryptAlgorithm.queryAssistedEncrypt(String.valueOf((char) 1))) < 0);
+        assertTrue(encryptAlgorithm.queryAssistedEncrypt(String.valueOf((char) (Character.MAX_VALUE - 1))).compareTo(encryptAlgorithm.queryAssistedEncrypt(String.valueOf(Character.MAX_VALUE))) < 0);
+    }
+    
+    @Test
+    public void assertQueryAssistedEncryptPrefix() {
+        assertThat(encryptAlgorithm.queryAssistedEncryptPrefix("tes"), is(Range.singleton(encryptAlgorithm.queryAssistedEncrypt("te"))));
+        Range<String> actual = encryptAlgorithm.queryAssistedEncryptPrefix("t");
+        assertThat(actual.lowerEndpoint(), is(encryptAlgorithm.queryAssistedEncrypt("t")));
+        assertThat(actual.upperEndpoint(), is(encryptAlgorithm.queryAssistedEncrypt("t" + Character.MAX_VALUE)));
+        assertTrue(actual.contains(encryptAlgorithm.queryAssistedEncrypt("test")));
+        assertTrue(actual.contains(encryptAlgorithm.queryAssistedEncrypt("t")));
+        assertFalse(actual.contains(encryptAlgorithm.queryAssistedEncrypt("s" + Character.MAX_VALUE)));
+        assertFalse(actual.contains(encryptAlgorithm.queryAssistedEncrypt("u")));
+    }
+}
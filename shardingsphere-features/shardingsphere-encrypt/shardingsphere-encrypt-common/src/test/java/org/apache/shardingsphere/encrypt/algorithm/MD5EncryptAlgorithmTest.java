@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -58,6 +59,16 @@ public final class MD5EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("test").toString(), is("test"));
     }
     
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("098f6bcd4621d373cade4e832627b4f6", null, "098f6bcd4621d373cade4e832627b4f6")));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("test", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
     @Test
     public void assertProps() {
         Properties props = new Properties();
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -82,4 +83,14 @@ public final class RC4EncryptAlgorithmTest {
     public void assertGetProperties() {
         assertThat(encryptAlgorithm.getProps().getProperty("rc4-key-value"), is("test-sharding"));
     }
+    
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("qn36NQ==", null, "qn36NQ==")));
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("qn36NQ==", null)), is(Arrays.<Object>asList("test", null)));
+    }
 }
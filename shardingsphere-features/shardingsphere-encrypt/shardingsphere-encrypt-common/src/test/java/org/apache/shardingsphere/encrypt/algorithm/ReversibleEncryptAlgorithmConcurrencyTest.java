@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public final class ReversibleEncryptAlgorithmConcurrencyTest {
+    
+    static {
+        ShardingSphereServiceLoader.register(EncryptAlgorithm.class);
+    }
+    
+    private final EncryptAlgorithm encryptAlgorithm;
+    
+    public ReversibleEncryptAlgorithmConcurrencyTest(final String type, final String keyName, final String keyValue) {
+        Properties props = new Properties();
+        props.setProperty(keyName, keyValue);
+        encryptAlgorithm = ShardingSphereAlgorithmFactory.createAlgorithm(new ShardingSphereAlgorithmConfiguration(type, props), EncryptAlgorithm.class);
+    }
+    
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> getTestParameters() {
+        return Arrays.asList(new Object[]{"AES", "aes-key-value", "test"}, new Object[]{"RC4", "rc4-key-value", "test-sharding"});
+    }
+    
+    @Test
+    public void assertEncryptAndDecryptConcurrently() throws Exception {
+        assertConcurrently(plaintext -> () -> plaintext.equals(encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(plaintext))));
+    }
+    
+    @Test
+    public void assertBatchEncryptAndBatchDecryptConcurrently() throws Exception {
+        assertConcurrently(plaintext -> () -> {
+            List<String> plaintexts = Arrays.asList(plaintext, null, plaintext + "_batch");
+            return new ArrayList<Object>(plaintexts).equals(encryptAlgorithm.batchDecrypt(encryptAlgorithm.batchEncrypt(plaintexts)));
+        });
+    }
+    
+    private void assertConcurrently(final Function<String, Callable<Boolean>> taskFactory) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Boolean>> futures = new LinkedList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executorService.submit(taskFactory.apply("test_" + i)));
+            }
+            for (Future<Boolean> each : futures) {
+                assertThat(each.get(), is(true));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.condition;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LikePatternUtilTest {
+    
+    @Test
+    public void assertGetPrefix() {
+        assertThat(LikePatternUtil.getPrefix("abc%d_"), is("abc"));
+        assertThat(LikePatternUtil.getPrefix("ab_c"), is("ab"));
+        assertThat(LikePatternUtil.getPrefix("a\\%b%"), is("a%b"));
+        assertThat(LikePatternUtil.getPrefix("abc"), is("abc"));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGetPrefixWithLeadingWildcard() {
+        LikePatternUtil.getPrefix("%abc");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGetPrefixWithNullPattern() {
+        LikePatternUtil.getPrefix(null);
+    }
+    
+    @Test
+    public void assertToRegexPattern() {
+        assertTrue(LikePatternUtil.toRegexPattern("a.c%x_z").matcher("a.c123xyz").matches());
+        assertFalse(LikePatternUtil.toRegexPattern("a.c%x_z").matcher("abc123xyz").matches());
+        assertTrue(LikePatternUtil.toRegexPattern("a\\%b%").matcher("a%bc").matches());
+        assertFalse(LikePatternUtil.toRegexPattern("a\\%b%").matcher("axbc").matches());
+        assertTrue(LikePatternUtil.toRegexPattern("a%").matcher("a\nb").matches());
+    }
+}
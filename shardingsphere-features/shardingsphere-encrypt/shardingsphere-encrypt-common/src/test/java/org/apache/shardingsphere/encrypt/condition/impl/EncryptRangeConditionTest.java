@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.condition.impl;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EncryptRangeConditionTest {
+    
+    @Test
+    public void assertGetConditionValues() {
+        List<Object> actual = new EncryptRangeCondition("col", null, 0, 0, "between",
+                Arrays.asList(new ParameterMarkerExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, "b"))).getValues(Arrays.asList("x", "a"));
+        assertThat(actual, is(Arrays.<Object>asList("a", "b")));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGetConditionValuesWithNumberParameter() {
+        new EncryptRangeCondition("col", null, 0, 0, ">", Collections.singletonList(new ParameterMarkerExpressionSegment(0, 0, 0))).getValues(Collections.singletonList(9));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGetConditionValuesWithNumberLiteral() {
+        new EncryptRangeCondition("col", null, 0, 0, ">", Collections.singletonList(new LiteralExpressionSegment(0, 0, 9))).getValues(Collections.emptyList());
+    }
+    
+    @Test
+    public void assertGetQueryAssistedOperator() {
+        assertThat(createEncryptRangeCondition(">").getQueryAssistedOperator(), is(">="));
+        assertThat(createEncryptRangeCondition(">=").getQueryAssistedOperator(), is(">="));
+        assertThat(createEncryptRangeCondition("<").getQueryAssistedOperator(), is("<="));
+        assertThat(createEncryptRangeCondition("<=").getQueryAssistedOperator(), is("<="));
+        assertThat(createEncryptRangeCondition("BETWEEN").getQueryAssistedOperator(), is("BETWEEN"));
+        assertThat(createEncryptRangeCondition("like").getQueryAssistedOperator(), is("BETWEEN"));
+    }
+    
+    @Test
+    public void assertIsLike() {
+        assertTrue(createEncryptRangeCondition("like").isLike());
+        assertFalse(createEncryptRangeCondition(">").isLike());
+    }
+    
+    private EncryptRangeCondition createEncryptRangeCondition(final String operator) {
+        return new EncryptRangeCondition("col", null, 0, 0, operator, Collections.singletonList(new LiteralExpressionSegment(0, 0, "a")));
+    }
+}
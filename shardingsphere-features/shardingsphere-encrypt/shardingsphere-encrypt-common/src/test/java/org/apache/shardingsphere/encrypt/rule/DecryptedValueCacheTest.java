@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DecryptedValueCacheTest {
+    
+    @Test
+    public void assertDecrypt() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("cipher_value")).thenReturn("plain_value");
+        DecryptedValueCache cache = new DecryptedValueCache("t_encrypt", "status", encryptAlgorithm, 1000);
+        assertThat(cache.decrypt("cipher_value"), is("plain_value"));
+        assertThat(cache.decrypt("cipher_value"), is("plain_value"));
+        verify(encryptAlgorithm, times(1)).decrypt("cipher_value");
+    }
+    
+    @Test
+    public void assertDecryptWithNullCiphertext() {
+        assertNull(new DecryptedValueCache("t_encrypt", "status", mock(EncryptAlgorithm.class), 100).decrypt(null));
+    }
+    
+    @Test
+    public void assertDecryptWhenExceedMaximumWeight() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("c1")).thenReturn("p1");
+        when(encryptAlgorithm.decrypt("c2")).thenReturn("p2");
+        DecryptedValueCache cache = new DecryptedValueCache("t_encrypt", "status", encryptAlgorithm, 6);
+        cache.decrypt("c1");
+        cache.decrypt("c2");
+        assertThat(cache.decrypt("c1"), is("p1"));
+        verify(encryptAlgorithm, times(2)).decrypt("c1");
+    }
+    
+    @Test
+    public void assertDecryptValueHeavierThanMaximumWeight() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("cipher_value")).thenReturn("plain_value");
+        DecryptedValueCache cache = new DecryptedValueCache("t_encrypt", "status", encryptAlgorithm, 10);
+        cache.decrypt("cipher_value");
+        assertThat(cache.decrypt("cipher_value"), is("plain_value"));
+        verify(encryptAlgorithm, times(2)).decrypt("cipher_value");
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.fixture.TestEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.junit.Test;
 
@@ -67,6 +68,56 @@ public final class EncryptRuleTest {
         new EncryptRule(ruleConfig);
     }
     
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithDecryptedValueCacheOfNotDeterministicEncryptor() {
+        EncryptColumnRuleConfiguration encryptColumnConfig = new EncryptColumnRuleConfiguration("encrypt_column", "encrypt_cipher", "", "", "test_encryptor", 100);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singletonList(encryptColumnConfig));
+        new EncryptRule(new AlgorithmProvidedEncryptRuleConfiguration(Collections.singleton(tableConfig), ImmutableMap.of("test_encryptor", new TestEncryptAlgorithm())));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithDecryptedValueCacheOfDigestEncryptor() {
+        EncryptColumnRuleConfiguration encryptColumnConfig = new EncryptColumnRuleConfiguration("encrypt_column", "encrypt_cipher", "", "", "md5_encryptor", 100);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singletonList(encryptColumnConfig));
+        ShardingSphereAlgorithmConfiguration encryptAlgorithmConfig = new ShardingSphereAlgorithmConfiguration("MD5", new Properties());
+        new EncryptRule(new EncryptRuleConfiguration(Collections.singleton(tableConfig), ImmutableMap.of("md5_encryptor", encryptAlgorithmConfig)));
+    }
+    
+    @Test
+    public void assertFindDecryptedValueCache() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "test");
+        EncryptColumnRuleConfiguration cachedColumnConfig = new EncryptColumnRuleConfiguration("status", "status_cipher", "", "", "aes_encryptor", 100);
+        EncryptColumnRuleConfiguration notCachedColumnConfig = new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", "", "", "aes_encryptor");
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Arrays.asList(cachedColumnConfig, notCachedColumnConfig));
+        ShardingSphereAlgorithmConfiguration encryptAlgorithmConfig = new ShardingSphereAlgorithmConfiguration("AES", props);
+        EncryptRule actual = new EncryptRule(new EncryptRuleConfiguration(Collections.singleton(tableConfig), ImmutableMap.of("aes_encryptor", encryptAlgorithmConfig)));
+        assertTrue(actual.findDecryptedValueCache("t_encrypt", "STATUS").isPresent());
+        assertFalse(actual.findDecryptedValueCache("t_encrypt", "pwd").isPresent());
+        assertFalse(actual.findDecryptedValueCache("t_other", "status").isPresent());
+        assertThat(actual.findDecryptedValueCache("t_encrypt", "status").get().decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    public void assertRangeQueryAssisted() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "test");
+        props.setProperty("prefix-length", "2");
+        EncryptColumnRuleConfiguration rangeColumnConfig = new EncryptColumnRuleConfiguration("code", "code_cipher", "code_assisted", "", "range_encryptor");
+        EncryptColumnRuleConfiguration cipherOnlyColumnConfig = new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", "", "", "range_encryptor");
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Arrays.asList(rangeColumnConfig, cipherOnlyColumnConfig));
+        ShardingSphereAlgorithmConfiguration encryptAlgorithmConfig = new ShardingSphereAlgorithmConfiguration("AES_PREFIX_BUCKET", props);
+        EncryptRule actual = new EncryptRule(new EncryptRuleConfiguration(Collections.singleton(tableConfig), ImmutableMap.of("range_encryptor", encryptAlgorithmConfig)));
+        assertTrue(actual.containsRangeQueryAssistedEncryptor());
+        assertFalse(new EncryptRule(createEncryptRuleConfiguration()).containsRangeQueryAssistedEncryptor());
+        assertTrue(actual.isRangeQueryAssisted("t_encrypt", "code"));
+        assertFalse(actual.isRangeQueryAssisted("t_encrypt", "pwd"));
+        assertFalse(new EncryptRule(createEncryptRuleConfiguration()).isRangeQueryAssisted("t_encrypt", "pwd"));
+        RangeQueryAssistedEncryptAlgorithm encryptor = (RangeQueryAssistedEncryptAlgorithm) actual.findEncryptor("t_encrypt", "code").get();
+        assertThat(actual.getEncryptAssistedQueryPrefixValues("t_encrypt", "code", "a"), 
+                is(Arrays.<Object>asList(encryptor.queryAssistedEncrypt("a"), encryptor.queryAssistedEncrypt("a" + Character.MAX_VALUE))));
+    }
+    
     @Test
     public void assertFindEncryptTable() {
         assertTrue(new EncryptRule(createEncryptRuleConfiguration()).findEncryptTable("t_encrypt").isPresent());
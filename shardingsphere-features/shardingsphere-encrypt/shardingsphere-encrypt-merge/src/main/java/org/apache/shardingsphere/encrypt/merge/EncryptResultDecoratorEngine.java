@@ -19,6 +19,7 @@ package org.apache.shardingsphere.encrypt.merge;
 
 import org.apache.shardingsphere.encrypt.constant.EncryptOrder;
 import org.apache.shardingsphere.encrypt.merge.dal.EncryptDALResultDecorator;
+import org.apache.shardingsphere.encrypt.merge.dql.DecryptedValueFilterEngine;
 import org.apache.shardingsphere.encrypt.merge.dql.EncryptDQLResultDecorator;
 import org.apache.shardingsphere.encrypt.merge.dql.EncryptAlgorithmMetaData;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
@@ -42,8 +43,8 @@ public final class EncryptResultDecoratorEngine implements ResultDecoratorEngine
     public ResultDecorator newInstance(final DatabaseType databaseType, final ShardingSphereSchema schema,
                                        final EncryptRule encryptRule, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new EncryptDQLResultDecorator(new EncryptAlgorithmMetaData(schema, 
-                    encryptRule, (SelectStatementContext) sqlStatementContext), props.<Boolean>getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN));
+            return new EncryptDQLResultDecorator(new EncryptAlgorithmMetaData(schema, encryptRule, (SelectStatementContext) sqlStatementContext), 
+                    new DecryptedValueFilterEngine(encryptRule, schema), props.<Boolean>getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN));
         } 
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return new EncryptDALResultDecorator();
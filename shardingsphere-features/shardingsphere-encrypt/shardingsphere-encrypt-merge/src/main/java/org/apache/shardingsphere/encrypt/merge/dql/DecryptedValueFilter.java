@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Predicate;
+
+/**
+ * Decrypted value filter, which filters false positive rows matched by query assisted column of range query assisted encrypt algorithm.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DecryptedValueFilter {
+    
+    private final String tableName;
+    
+    private final String columnName;
+    
+    @Getter(AccessLevel.NONE)
+    private final Predicate<String> predicate;
+    
+    /**
+     * Judge whether decrypted value is matched.
+     *
+     * @param plaintext decrypted value
+     * @return matched or not
+     */
+    public boolean isMatched(final Object plaintext) {
+        return null != plaintext && predicate.test(plaintext.toString());
+    }
+}
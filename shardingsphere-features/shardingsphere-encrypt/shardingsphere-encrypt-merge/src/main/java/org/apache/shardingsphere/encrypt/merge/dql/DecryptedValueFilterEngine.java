@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.encrypt.condition.EncryptConditionEngine;
+import org.apache.shardingsphere.encrypt.condition.LikePatternUtil;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptInCondition;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptRangeCondition;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Decrypted value filter engine.
+ * 
+ * <p>Conditions on range query assisted encrypt columns match buckets of plaintexts, false positives of bounding buckets are filtered by decrypted values.</p>
+ */
+@RequiredArgsConstructor
+public final class DecryptedValueFilterEngine {
+    
+    private final EncryptRule encryptRule;
+    
+    private final ShardingSphereSchema schema;
+    
+    /**
+     * Create decrypted value filters.
+     *
+     * @param selectStatementContext select statement context
+     * @return decrypted value filters
+     */
+    public Collection<DecryptedValueFilter> createDecryptedValueFilters(final SelectStatementContext selectStatementContext) {
+        if (!encryptRule.containsRangeQueryAssistedEncryptor()) {
+            return Collections.emptyList();
+        }
+        Collection<DecryptedValueFilter> result = new LinkedList<>();
+        for (EncryptCondition each : new EncryptConditionEngine(encryptRule, schema).createEncryptConditions(selectStatementContext)) {
+            if (encryptRule.isRangeQueryAssisted(each.getTableName(), each.getColumnName())) {
+                List<String> values = each.getValues(selectStatementContext.getParameters()).stream().map(value -> null == value ? null : value.toString()).collect(Collectors.toList());
+                result.add(new DecryptedValueFilter(each.getTableName(), each.getColumnName(), createPredicate(each, values)));
+            }
+        }
+        return result;
+    }
+    
+    private Predicate<String> createPredicate(final EncryptCondition encryptCondition, final List<String> values) {
+        if (encryptCondition instanceof EncryptInCondition) {
+            Collection<String> inValues = values.stream().filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+            return inValues::contains;
+        }
+        if (values.contains(null)) {
+            return plaintext -> false;
+        }
+        return encryptCondition instanceof EncryptRangeCondition ? createRangePredicate(((EncryptRangeCondition) encryptCondition).getOperator(), values) : values.get(0)::equals;
+    }
+    
+    private Predicate<String> createRangePredicate(final String operator, final List<String> values) {
+        String value = values.get(0);
+        if ("LIKE".equals(operator)) {
+            Pattern pattern = LikePatternUtil.toRegexPattern(value);
+            return plaintext -> pattern.matcher(plaintext).matches();
+        }
+        if ("BETWEEN".equals(operator)) {
+            return plaintext -> plaintext.compareTo(value) >= 0 && plaintext.compareTo(values.get(1)) <= 0;
+        }
+        if (">".equals(operator)) {
+            return plaintext -> plaintext.compareTo(value) > 0;
+        }
+        if (">=".equals(operator)) {
+            return plaintext -> plaintext.compareTo(value) >= 0;
+        }
+        return "<".equals(operator) ? plaintext -> plaintext.compareTo(value) < 0 : plaintext -> plaintext.compareTo(value) <= 0;
+    }
+}
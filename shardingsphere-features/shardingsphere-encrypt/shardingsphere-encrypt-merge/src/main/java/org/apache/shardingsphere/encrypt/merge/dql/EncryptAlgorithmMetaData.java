@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 /**
  * Encrypt algorithm meta data.
@@ -41,36 +42,54 @@ public final class EncryptAlgorithmMetaData {
     private final SelectStatementContext selectStatementContext;
     
     /**
-     * Find encryptor.
+     * Create column decryptors.
      *
-     * @param columnIndex column index
-     * @return encryptor
+     * @return column decryptors, index is column index minus one, element is null if column need not decrypt
      */
-    public Optional<EncryptAlgorithm> findEncryptor(final int columnIndex) {
+    public EncryptColumnDecryptor[] createColumnDecryptors() {
         List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
-        if (expandProjections.isEmpty()) {
-            return Optional.empty();
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[expandProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            Optional<EncryptAlgorithm> encryptAlgorithm = find(i + 1, expandProjections, encryptRule::findEncryptor);
+            if (encryptAlgorithm.isPresent()) {
+                result[i] = new EncryptColumnDecryptor(encryptAlgorithm.get(), find(i + 1, expandProjections, encryptRule::findDecryptedValueCache).orElse(null));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Find column index.
+     *
+     * @param tableName table name
+     * @param columnName column name
+     * @return column index
+     */
+    public Optional<Integer> findColumnIndex(final String tableName, final String columnName) {
+        List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
+        for (int i = 0; i < expandProjections.size(); i++) {
+            Projection projection = expandProjections.get(i);
+            if (projection instanceof ColumnProjection && columnName.equalsIgnoreCase(((ColumnProjection) projection).getName())
+                    && tableName.equalsIgnoreCase(selectStatementContext.getTablesContext().findTableName((ColumnProjection) projection, schema).orElse(tableName))) {
+                return Optional.of(i + 1);
+            }
         }
-        return findEncryptor(columnIndex, expandProjections);
+        return Optional.empty();
     }
     
-    private Optional<EncryptAlgorithm> findEncryptor(final int columnIndex, final List<Projection> expandProjections) {
+    private <T> Optional<T> find(final int columnIndex, final List<Projection> expandProjections, final BiFunction<String, String, Optional<T>> finder) {
         Projection projection = expandProjections.get(columnIndex - 1);
         if (projection instanceof ColumnProjection) {
             String columnName = ((ColumnProjection) projection).getName();
             Optional<String> tableName = selectStatementContext.getTablesContext().findTableName((ColumnProjection) projection, schema);
-            return tableName.isPresent() ? findEncryptor(tableName.get(), columnName) : findEncryptor(columnName);
+            return tableName.isPresent() ? finder.apply(tableName.get(), columnName) : find(columnName, finder);
         }
         return Optional.empty();
     }
     
-    private Optional<EncryptAlgorithm> findEncryptor(final String tableName, final String columnName) {
-        return encryptRule.findEncryptor(tableName, columnName);
-    }
-    
-    private Optional<EncryptAlgorithm> findEncryptor(final String columnName) {
+    private <T> Optional<T> find(final String columnName, final BiFunction<String, String, Optional<T>> finder) {
         for (String each : selectStatementContext.getTablesContext().getTableNames()) {
-            Optional<EncryptAlgorithm> result = encryptRule.findEncryptor(each, columnName);
+            Optional<T> result = finder.apply(each, columnName);
             if (result.isPresent()) {
                 return result;
             }
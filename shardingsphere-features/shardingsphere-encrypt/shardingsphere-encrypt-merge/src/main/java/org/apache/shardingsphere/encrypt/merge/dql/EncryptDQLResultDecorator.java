@@ -20,11 +20,20 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * DQL result decorator for encrypt.
  */
@@ -33,15 +42,33 @@ public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptR
     
     private final EncryptAlgorithmMetaData metaData;
     
+    private final DecryptedValueFilterEngine decryptedValueFilterEngine;
+    
     private final boolean queryWithCipherColumn;
     
     @Override
     public MergedResult decorate(final QueryResult queryResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, new TransparentMergedResult(queryResult), queryWithCipherColumn);
+        return decorate(new TransparentMergedResult(queryResult), sqlStatementContext, rule);
     }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(metaData, mergedResult, queryWithCipherColumn);
+        if (!queryWithCipherColumn) {
+            return mergedResult;
+        }
+        EncryptColumnDecryptor[] columnDecryptors = metaData.createColumnDecryptors();
+        Map<Integer, Collection<DecryptedValueFilter>> decryptedValueFilters = getDecryptedValueFilters((SelectStatementContext) sqlStatementContext);
+        return Arrays.stream(columnDecryptors).anyMatch(Objects::nonNull) || !decryptedValueFilters.isEmpty()
+                ? new EncryptMergedResult(columnDecryptors, decryptedValueFilters, mergedResult) : mergedResult;
+    }
+    
+    private Map<Integer, Collection<DecryptedValueFilter>> getDecryptedValueFilters(final SelectStatementContext selectStatementContext) {
+        Map<Integer, Collection<DecryptedValueFilter>> result = new LinkedHashMap<>();
+        for (DecryptedValueFilter each : decryptedValueFilterEngine.createDecryptedValueFilters(selectStatementContext)) {
+            int columnIndex = metaData.findColumnIndex(each.getTableName(), each.getColumnName()).orElseThrow(
+                () -> new ShardingSphereException("Column `%s.%s` must be projected when querying it by range or prefix.", each.getTableName(), each.getColumnName()));
+            result.computeIfAbsent(columnIndex, key -> new LinkedList<>()).add(each);
+        }
+        return result;
     }
 }
@@ -17,57 +17,144 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>
+ * Encrypt columns of current row are decrypted together when any of them is read first, columns sharing one encryptor without decrypted value cache are decrypted in one batch.
+ * </p>
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final EncryptAlgorithmMetaData metaData;
+    private final EncryptColumnDecryptor[] columnDecryptors;
+    
+    private final Map<EncryptAlgorithm, List<Integer>> batchDecryptedColumnIndexes = new LinkedHashMap<>();
+    
+    private final Collection<Integer> cachedColumnIndexes = new LinkedList<>();
+    
+    private final Map<Integer, Collection<DecryptedValueFilter>> decryptedValueFilters;
     
     private final MergedResult mergedResult;
     
-    private final boolean queryWithCipherColumn;
+    private final Object[] plaintexts;
+    
+    private boolean currentRowDecrypted;
+    
+    private int lastDecryptedColumnIndex;
+    
+    public EncryptMergedResult(final EncryptColumnDecryptor[] columnDecryptors, final Map<Integer, Collection<DecryptedValueFilter>> decryptedValueFilters, final MergedResult mergedResult) {
+        this.columnDecryptors = columnDecryptors;
+        this.decryptedValueFilters = decryptedValueFilters;
+        this.mergedResult = mergedResult;
+        plaintexts = new Object[columnDecryptors.length];
+        for (int i = 0; i < columnDecryptors.length; i++) {
+            if (null == columnDecryptors[i]) {
+                continue;
+            }
+            if (null == columnDecryptors[i].getDecryptedValueCache()) {
+                batchDecryptedColumnIndexes.computeIfAbsent(columnDecryptors[i].getEncryptAlgorithm(), key -> new ArrayList<>()).add(i + 1);
+            } else {
+                cachedColumnIndexes.add(i + 1);
+            }
+        }
+    }
     
     @Override
     public boolean next() throws SQLException {
-        return mergedResult.next();
+        while (mergedResult.next()) {
+            currentRowDecrypted = false;
+            if (isMatched()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isMatched() throws SQLException {
+        for (Entry<Integer, Collection<DecryptedValueFilter>> entry : decryptedValueFilters.entrySet()) {
+            Object plaintext = getValue(entry.getKey(), String.class);
+            for (DecryptedValueFilter each : entry.getValue()) {
+                if (!each.isMatched(plaintext)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (!queryWithCipherColumn) {
+        EncryptColumnDecryptor columnDecryptor = columnIndex <= columnDecryptors.length ? columnDecryptors[columnIndex - 1] : null;
+        if (null == columnDecryptor) {
+            lastDecryptedColumnIndex = 0;
             return mergedResult.getValue(columnIndex, type);
         }
-        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(columnIndex);
-        if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+        if (!currentRowDecrypted) {
+            decryptCurrentRow();
+            currentRowDecrypted = true;
+        }
+        lastDecryptedColumnIndex = columnIndex;
+        return plaintexts[columnIndex - 1];
+    }
+    
+    private void decryptCurrentRow() throws SQLException {
+        for (Entry<EncryptAlgorithm, List<Integer>> entry : batchDecryptedColumnIndexes.entrySet()) {
+            decryptInBatch(entry.getKey(), entry.getValue());
+        }
+        for (int each : cachedColumnIndexes) {
+            plaintexts[each - 1] = columnDecryptors[each - 1].decrypt((String) mergedResult.getValue(each, String.class));
+        }
+    }
+    
+    private void decryptInBatch(final EncryptAlgorithm encryptAlgorithm, final List<Integer> columnIndexes) throws SQLException {
+        List<String> ciphertexts = new ArrayList<>(columnIndexes.size());
+        for (int each : columnIndexes) {
+            String ciphertext = (String) mergedResult.getValue(each, String.class);
+            plaintexts[each - 1] = ciphertext;
+            if (null != ciphertext) {
+                ciphertexts.add(ciphertext);
+            }
+        }
+        if (ciphertexts.isEmpty()) {
+            return;
+        }
+        Iterator<Object> decryptedValues = encryptAlgorithm.batchDecrypt(ciphertexts).iterator();
+        for (int each : columnIndexes) {
+            if (null != plaintexts[each - 1]) {
+                plaintexts[each - 1] = decryptedValues.next();
+            }
         }
-        String ciphertext = (String) mergedResult.getValue(columnIndex, String.class);
-        return null == ciphertext ? null : encryptAlgorithm.get().decrypt(ciphertext);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        lastDecryptedColumnIndex = 0;
         return mergedResult.getCalendarValue(columnIndex, type, calendar);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        lastDecryptedColumnIndex = 0;
         return mergedResult.getInputStream(columnIndex, type);
     }
     
     @Override
     public boolean wasNull() throws SQLException {
-        return mergedResult.wasNull();
+        return 0 == lastDecryptedColumnIndex ? mergedResult.wasNull() : null == plaintexts[lastDecryptedColumnIndex - 1];
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DecryptedValueFilterEngineTest {
+    
+    private final SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine("MySQL");
+    
+    private final ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+    
+    private EncryptRule encryptRule;
+    
+    @Before
+    public void setUp() {
+        encryptRule = mock(EncryptRule.class);
+        when(encryptRule.findEncryptor(anyString(), anyString())).thenReturn(Optional.empty());
+        when(encryptRule.findEncryptor("t_user", "name")).thenReturn(Optional.of(mock(RangeQueryAssistedEncryptAlgorithm.class)));
+        when(encryptRule.isRangeQueryAssisted("t_user", "name")).thenReturn(true);
+        when(encryptRule.containsRangeQueryAssistedEncryptor()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertCreateDecryptedValueFilters() {
+        Collection<DecryptedValueFilter> actual = createDecryptedValueFilters(
+                "SELECT name FROM t_user WHERE name > ? AND name <= 'mm' AND name LIKE 'a%c' AND name IN ('abc', 'adc') AND name = 'abc' AND user_id = 1", Collections.singletonList("a"));
+        assertThat(actual.size(), is(5));
+        Iterator<DecryptedValueFilter> filters = actual.iterator();
+        DecryptedValueFilter greaterThan = filters.next();
+        assertThat(greaterThan.getTableName(), is("t_user"));
+        assertThat(greaterThan.getColumnName(), is("name"));
+        assertTrue(greaterThan.isMatched("ab"));
+        assertFalse(greaterThan.isMatched("a"));
+        DecryptedValueFilter lessThanOrEqual = filters.next();
+        assertTrue(lessThanOrEqual.isMatched("mm"));
+        assertFalse(lessThanOrEqual.isMatched("mn"));
+        DecryptedValueFilter like = filters.next();
+        assertTrue(like.isMatched("abc"));
+        assertFalse(like.isMatched("abd"));
+        DecryptedValueFilter in = filters.next();
+        assertTrue(in.isMatched("adc"));
+        assertFalse(in.isMatched("aec"));
+        DecryptedValueFilter equal = filters.next();
+        assertTrue(equal.isMatched("abc"));
+        assertFalse(equal.isMatched(null));
+    }
+    
+    @Test
+    public void assertCreateDecryptedValueFiltersWithBetween() {
+        Collection<DecryptedValueFilter> actual = createDecryptedValueFilters("SELECT name FROM t_user WHERE name BETWEEN ? AND ?", Arrays.asList("b", "d"));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.iterator().next().isMatched("c"));
+        assertFalse(actual.iterator().next().isMatched("da"));
+    }
+    
+    @Test
+    public void assertCreateDecryptedValueFiltersWithoutRangeQueryAssistedColumn() {
+        assertTrue(createDecryptedValueFilters("SELECT name FROM t_user WHERE user_id > 1 OR user_id < 0 LIMIT 1", Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertCreateDecryptedValueFiltersWithoutRangeQueryAssistedEncryptor() {
+        when(encryptRule.containsRangeQueryAssistedEncryptor()).thenReturn(false);
+        assertTrue(createDecryptedValueFilters("SELECT name FROM t_user WHERE name > 'a'", Collections.emptyList()).isEmpty());
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertCreateEncryptConditionsWithNotEqual() {
+        createDecryptedValueFilters("SELECT name FROM t_user WHERE name <> 'a'", Collections.emptyList());
+    }
+    
+    private Collection<DecryptedValueFilter> createDecryptedValueFilters(final String sql, final List<Object> parameters) {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) SQLStatementContextFactory.newInstance(schema, parameters, sqlStatementParserEngine.parse(sql, false));
+        return new DecryptedValueFilterEngine(encryptRule, schema).createDecryptedValueFilters(selectStatementContext);
+    }
+}
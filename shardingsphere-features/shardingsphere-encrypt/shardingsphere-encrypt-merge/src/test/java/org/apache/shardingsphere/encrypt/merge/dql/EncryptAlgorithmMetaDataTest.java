@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.rule.DecryptedValueCache;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
@@ -42,8 +43,9 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
-import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -81,31 +83,66 @@ public final class EncryptAlgorithmMetaDataTest {
     }
     
     @Test
-    public void assertFindEncryptorByTableNameAndColumnName() {
+    public void assertCreateColumnDecryptorsByTableNameAndColumnName() {
         when(tablesContext.findTableName(columnProjection, schema)).thenReturn(Optional.of("t_order"));
         when(encryptRule.findEncryptor("t_order", "id")).thenReturn(Optional.of(encryptAlgorithm));
-        EncryptAlgorithmMetaData encryptAlgorithmMetaData = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext);
-        Optional<EncryptAlgorithm> actualEncryptor = encryptAlgorithmMetaData.findEncryptor(1);
-        assertTrue(actualEncryptor.isPresent());
-        assertThat(actualEncryptor.get().getType(), is("MD5"));
+        EncryptColumnDecryptor[] actual = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext).createColumnDecryptors();
+        assertThat(actual.length, is(1));
+        assertThat(actual[0].getEncryptAlgorithm().getType(), is("MD5"));
+        assertNull(actual[0].getDecryptedValueCache());
     }
     
     @Test
-    public void assertFindEncryptorByColumnName() {
+    public void assertCreateColumnDecryptorsByColumnName() {
         when(tablesContext.findTableName(columnProjection, schema)).thenReturn(Optional.empty());
         when(tablesContext.getTableNames()).thenReturn(Arrays.asList("t_user", "t_user_item", "t_order_item"));
         when(encryptRule.findEncryptor("t_order_item", "id")).thenReturn(Optional.of(encryptAlgorithm));
-        EncryptAlgorithmMetaData encryptAlgorithmMetaData = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext);
-        Optional<EncryptAlgorithm> actualEncryptor = encryptAlgorithmMetaData.findEncryptor(1);
-        assertTrue(actualEncryptor.isPresent());
-        assertThat(actualEncryptor.get().getType(), is("MD5"));
+        EncryptColumnDecryptor[] actual = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext).createColumnDecryptors();
+        assertThat(actual.length, is(1));
+        assertThat(actual[0].getEncryptAlgorithm().getType(), is("MD5"));
     }
     
     @Test
-    public void assertFindEncryptorWhenColumnProjectionIsNotExist() {
+    public void assertCreateColumnDecryptorsWhenColumnProjectionIsNotExist() {
         when(projectionsContext.getExpandProjections()).thenReturn(Collections.singletonList(mock(DerivedProjection.class)));
+        EncryptColumnDecryptor[] actual = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext).createColumnDecryptors();
+        assertThat(actual.length, is(1));
+        assertNull(actual[0]);
+    }
+    
+    @Test
+    public void assertCreateColumnDecryptorsWithDecryptedValueCache() {
+        DecryptedValueCache decryptedValueCache = mock(DecryptedValueCache.class);
+        when(tablesContext.findTableName(columnProjection, schema)).thenReturn(Optional.of("t_order"));
+        when(encryptRule.findEncryptor("t_order", "id")).thenReturn(Optional.of(encryptAlgorithm));
+        when(encryptRule.findDecryptedValueCache("t_order", "id")).thenReturn(Optional.of(decryptedValueCache));
+        EncryptColumnDecryptor[] actual = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext).createColumnDecryptors();
+        assertThat(actual[0].getDecryptedValueCache(), is(decryptedValueCache));
+    }
+    
+    @Test
+    public void assertCreateColumnDecryptors() {
+        ColumnProjection plainColumnProjection = mock(ColumnProjection.class);
+        when(plainColumnProjection.getName()).thenReturn("status");
+        when(projectionsContext.getExpandProjections()).thenReturn(Arrays.asList(columnProjection, plainColumnProjection, mock(DerivedProjection.class)));
+        when(tablesContext.findTableName(columnProjection, schema)).thenReturn(Optional.of("t_order"));
+        when(tablesContext.findTableName(plainColumnProjection, schema)).thenReturn(Optional.of("t_order"));
+        when(encryptRule.findEncryptor("t_order", "id")).thenReturn(Optional.of(encryptAlgorithm));
+        EncryptColumnDecryptor[] actual = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext).createColumnDecryptors();
+        assertThat(actual.length, is(3));
+        assertNotNull(actual[0]);
+        assertNull(actual[1]);
+        assertNull(actual[2]);
+    }
+    
+    @Test
+    public void assertFindColumnIndex() {
+        ColumnProjection plainColumnProjection = mock(ColumnProjection.class);
+        when(plainColumnProjection.getName()).thenReturn("status");
+        when(projectionsContext.getExpandProjections()).thenReturn(Arrays.asList(mock(DerivedProjection.class), plainColumnProjection, columnProjection));
+        when(tablesContext.findTableName(columnProjection, schema)).thenReturn(Optional.of("t_order"));
         EncryptAlgorithmMetaData encryptAlgorithmMetaData = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext);
-        Optional<EncryptAlgorithm> actualEncryptor = encryptAlgorithmMetaData.findEncryptor(1);
-        assertFalse(actualEncryptor.isPresent());
+        assertThat(encryptAlgorithmMetaData.findColumnIndex("t_order", "ID"), is(Optional.of(3)));
+        assertFalse(encryptAlgorithmMetaData.findColumnIndex("t_user", "id").isPresent());
     }
 }
@@ -18,13 +18,21 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -35,7 +43,7 @@ public final class EncryptDQLResultDecoratorTest {
     public void assertDecorateQueryResult() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
         when(queryResult.next()).thenReturn(true);
-        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), false);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), mock(DecryptedValueFilterEngine.class), false);
         MergedResult actual = decorator.decorate(queryResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
@@ -44,8 +52,49 @@ public final class EncryptDQLResultDecoratorTest {
     public void assertDecorateMergedResult() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
         when(mergedResult.next()).thenReturn(true);
-        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), false);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(mock(EncryptAlgorithmMetaData.class), mock(DecryptedValueFilterEngine.class), false);
         MergedResult actual = decorator.decorate(mergedResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
+    
+    @Test
+    public void assertDecorateMergedResultWithColumnDecryptors() {
+        EncryptAlgorithmMetaData metaData = mock(EncryptAlgorithmMetaData.class);
+        when(metaData.createColumnDecryptors()).thenReturn(new EncryptColumnDecryptor[]{null, new EncryptColumnDecryptor(mock(EncryptAlgorithm.class), null)});
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, mock(DecryptedValueFilterEngine.class), true);
+        MergedResult actual = decorator.decorate(mock(MergedResult.class), mock(SelectStatementContext.class), mock(EncryptRule.class));
+        assertThat(actual, instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test
+    public void assertDecorateMergedResultWithoutColumnDecryptors() {
+        EncryptAlgorithmMetaData metaData = mock(EncryptAlgorithmMetaData.class);
+        when(metaData.createColumnDecryptors()).thenReturn(new EncryptColumnDecryptor[2]);
+        MergedResult mergedResult = mock(MergedResult.class);
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, mock(DecryptedValueFilterEngine.class), true);
+        assertThat(decorator.decorate(mergedResult, mock(SelectStatementContext.class), mock(EncryptRule.class)), is(mergedResult));
+    }
+    
+    @Test
+    public void assertDecorateMergedResultWithDecryptedValueFilters() {
+        EncryptAlgorithmMetaData metaData = mock(EncryptAlgorithmMetaData.class);
+        when(metaData.createColumnDecryptors()).thenReturn(new EncryptColumnDecryptor[1]);
+        when(metaData.findColumnIndex("t_user", "name")).thenReturn(Optional.of(1));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class);
+        DecryptedValueFilterEngine decryptedValueFilterEngine = mock(DecryptedValueFilterEngine.class);
+        when(decryptedValueFilterEngine.createDecryptedValueFilters(selectStatementContext)).thenReturn(Collections.singletonList(new DecryptedValueFilter("t_user", "name", "abc"::equals)));
+        EncryptDQLResultDecorator decorator = new EncryptDQLResultDecorator(metaData, decryptedValueFilterEngine, true);
+        assertThat(decorator.decorate(mock(MergedResult.class), selectStatementContext, mock(EncryptRule.class)), instanceOf(EncryptMergedResult.class));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertDecorateMergedResultWithDecryptedValueFiltersOnNotProjectedColumn() {
+        EncryptAlgorithmMetaData metaData = mock(EncryptAlgorithmMetaData.class);
+        when(metaData.createColumnDecryptors()).thenReturn(new EncryptColumnDecryptor[1]);
+        when(metaData.findColumnIndex("t_user", "name")).thenReturn(Optional.empty());
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class);
+        DecryptedValueFilterEngine decryptedValueFilterEngine = mock(DecryptedValueFilterEngine.class);
+        when(decryptedValueFilterEngine.createDecryptedValueFilters(selectStatementContext)).thenReturn(Collections.singletonList(new DecryptedValueFilter("t_user", "name", "abc"::equals)));
+        new EncryptDQLResultDecorator(metaData, decryptedValueFilterEngine, true).decorate(mock(MergedResult.class), selectStatementContext, mock(EncryptRule.class));
+    }
 }
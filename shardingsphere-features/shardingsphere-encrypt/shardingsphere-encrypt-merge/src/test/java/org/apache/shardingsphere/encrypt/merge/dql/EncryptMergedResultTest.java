@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.rule.DecryptedValueCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Test;
@@ -26,76 +27,124 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class EncryptMergedResultTest {
     
     @Mock
-    private EncryptAlgorithmMetaData metaData;
+    private EncryptAlgorithm encryptAlgorithm;
     
     @Mock
     private MergedResult mergedResult;
     
     @Test
     public void assertNext() throws SQLException {
-        assertFalse(new EncryptMergedResult(metaData, mergedResult, true).next());
+        assertFalse(new EncryptMergedResult(new EncryptColumnDecryptor[0], Collections.emptyMap(), mergedResult).next());
     }
     
     @Test
-    public void assertGetValueWithQueryWithPlainColumn() throws SQLException {
-        when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
-        assertThat(new EncryptMergedResult(metaData, mergedResult, false).getValue(1, String.class), is("VALUE"));
+    public void assertNextWithDecryptedValueFilters() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, String.class)).thenReturn("CIPHER_A", "CIPHER_B", "CIPHER_C");
+        when(encryptAlgorithm.batchDecrypt(Collections.singletonList("CIPHER_A"))).thenReturn(Collections.singletonList("abc"));
+        when(encryptAlgorithm.batchDecrypt(Collections.singletonList("CIPHER_B"))).thenReturn(Collections.singletonList("abd"));
+        when(encryptAlgorithm.batchDecrypt(Collections.singletonList("CIPHER_C"))).thenReturn(Collections.singletonList("abe"));
+        EncryptColumnDecryptor[] columnDecryptors = {new EncryptColumnDecryptor(encryptAlgorithm, null)};
+        Map<Integer, Collection<DecryptedValueFilter>> decryptedValueFilters = Collections.singletonMap(1, Collections.singletonList(new DecryptedValueFilter("t_user", "name", "abd"::equals)));
+        EncryptMergedResult actual = new EncryptMergedResult(columnDecryptors, decryptedValueFilters, mergedResult);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("abd"));
+        assertFalse(actual.next());
+        verify(mergedResult, times(3)).getValue(1, String.class);
     }
     
     @Test
-    public void assertGetValueWithQueryWithCipherColumnAndMismatchedEncryptor() throws SQLException {
+    public void assertGetValueWithoutColumnDecryptor() throws SQLException {
         when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
-        when(metaData.findEncryptor(1)).thenReturn(Optional.empty());
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getValue(1, String.class), is("VALUE"));
+        assertThat(new EncryptMergedResult(new EncryptColumnDecryptor[1], Collections.emptyMap(), mergedResult).getValue(1, String.class), is("VALUE"));
+    }
+    
+    @Test
+    public void assertGetValueWithColumnIndexOutOfColumnDecryptors() throws SQLException {
+        when(mergedResult.getValue(2, String.class)).thenReturn("VALUE");
+        EncryptColumnDecryptor[] columnDecryptors = {new EncryptColumnDecryptor(encryptAlgorithm, null)};
+        assertThat(new EncryptMergedResult(columnDecryptors, Collections.emptyMap(), mergedResult).getValue(2, String.class), is("VALUE"));
+    }
+    
+    @Test
+    public void assertGetValueWithColumnDecryptorAndNotNullCiphertext() throws SQLException {
+        when(mergedResult.getValue(2, String.class)).thenReturn("VALUE");
+        when(encryptAlgorithm.batchDecrypt(Collections.singletonList("VALUE"))).thenReturn(Collections.singletonList("ORIGINAL_VALUE"));
+        EncryptColumnDecryptor[] columnDecryptors = {null, new EncryptColumnDecryptor(encryptAlgorithm, null)};
+        assertThat(new EncryptMergedResult(columnDecryptors, Collections.emptyMap(), mergedResult).getValue(2, String.class), is("ORIGINAL_VALUE"));
+    }
+    
+    @Test
+    public void assertGetValueWithColumnDecryptorsSharingEncryptor() throws SQLException {
+        when(mergedResult.next()).thenReturn(true);
+        when(mergedResult.getValue(1, String.class)).thenReturn("VALUE_1");
+        when(mergedResult.getValue(3, String.class)).thenReturn("VALUE_3");
+        when(encryptAlgorithm.batchDecrypt(Arrays.asList("VALUE_1", "VALUE_3"))).thenReturn(Arrays.asList("ORIGINAL_VALUE_1", "ORIGINAL_VALUE_3"));
+        EncryptColumnDecryptor columnDecryptor = new EncryptColumnDecryptor(encryptAlgorithm, null);
+        EncryptMergedResult actual = new EncryptMergedResult(new EncryptColumnDecryptor[]{columnDecryptor, null, columnDecryptor}, Collections.emptyMap(), mergedResult);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, String.class), is("ORIGINAL_VALUE_3"));
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE_1"));
+        verify(encryptAlgorithm, times(1)).batchDecrypt(Arrays.asList("VALUE_1", "VALUE_3"));
     }
     
     @Test
-    public void assertGetValueWithQueryWithCipherColumnAndMatchedEncryptorWithNotNullCiphertext() throws SQLException {
+    public void assertGetValueWithColumnDecryptorAndDecryptedValueCache() throws SQLException {
         when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
-        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
         when(encryptAlgorithm.decrypt("VALUE")).thenReturn("ORIGINAL_VALUE");
-        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getValue(1, String.class), is("ORIGINAL_VALUE"));
+        EncryptColumnDecryptor[] columnDecryptors = {new EncryptColumnDecryptor(encryptAlgorithm, new DecryptedValueCache("t_encrypt", "status", encryptAlgorithm, 1000))};
+        EncryptMergedResult actual = new EncryptMergedResult(columnDecryptors, Collections.emptyMap(), mergedResult);
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        verify(encryptAlgorithm, times(1)).decrypt("VALUE");
     }
     
     @Test
-    public void assertGetValueWithQueryWithCipherColumnAndMatchedEncryptorWithNullCiphertext() throws SQLException {
-        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
-        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
-        assertNull(new EncryptMergedResult(metaData, mergedResult, true).getValue(1, String.class));
+    public void assertGetValueWithColumnDecryptorAndNullCiphertext() throws SQLException {
+        EncryptColumnDecryptor[] columnDecryptors = {new EncryptColumnDecryptor(encryptAlgorithm, null)};
+        EncryptMergedResult actual = new EncryptMergedResult(columnDecryptors, Collections.emptyMap(), mergedResult);
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        verify(encryptAlgorithm, times(0)).batchDecrypt(Collections.emptyList());
     }
     
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
         when(mergedResult.getCalendarValue(1, Date.class, calendar)).thenReturn(new Date(0L));
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
+        assertThat(new EncryptMergedResult(new EncryptColumnDecryptor[0], Collections.emptyMap(), mergedResult).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
     }
     
     @Test
     public void assertGetInputStream() throws SQLException {
         InputStream inputStream = mock(InputStream.class);
         when(mergedResult.getInputStream(1, "asc")).thenReturn(inputStream);
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getInputStream(1, "asc"), is(inputStream));
+        assertThat(new EncryptMergedResult(new EncryptColumnDecryptor[0], Collections.emptyMap(), mergedResult).getInputStream(1, "asc"), is(inputStream));
     }
     
     @Test
     public void assertWasNull() throws SQLException {
-        assertFalse(new EncryptMergedResult(metaData, mergedResult, true).wasNull());
+        assertFalse(new EncryptMergedResult(new EncryptColumnDecryptor[0], Collections.emptyMap(), mergedResult).wasNull());
     }
 }
@@ -29,9 +29,14 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -51,30 +56,49 @@ public final class EncryptInsertOnDuplicateKeyUpdateValueParameterRewriter exten
         String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
         GroupedParameterBuilder groupedParameterBuilder = (GroupedParameterBuilder) parameterBuilder;
         OnDuplicateUpdateContext onDuplicateKeyUpdateValueContext = insertStatementContext.getOnDuplicateKeyUpdateValueContext();
+        for (Entry<EncryptAlgorithm, List<Integer>> entry : getEncryptedColumnIndexes(tableName, onDuplicateKeyUpdateValueContext).entrySet()) {
+            List<Object> plainColumnValues = new ArrayList<>(entry.getValue().size());
+            for (int each : entry.getValue()) {
+                plainColumnValues.add(onDuplicateKeyUpdateValueContext.getValue(each));
+            }
+            Iterator<String> cipherColumnValues = entry.getKey().batchEncrypt(plainColumnValues).iterator();
+            Iterator<Object> plainColumnValueIterator = plainColumnValues.iterator();
+            for (int each : entry.getValue()) {
+                String encryptLogicColumnName = onDuplicateKeyUpdateValueContext.getColumn(each).getIdentifier().getValue();
+                encryptValue(groupedParameterBuilder, entry.getKey(), tableName, encryptLogicColumnName, each, plainColumnValueIterator.next(), cipherColumnValues.next());
+            }
+        }
+    }
+    
+    private Map<EncryptAlgorithm, List<Integer>> getEncryptedColumnIndexes(final String tableName, final OnDuplicateUpdateContext onDuplicateKeyUpdateValueContext) {
+        Map<EncryptAlgorithm, List<Integer>> result = new LinkedHashMap<>();
         for (int index = 0; index < onDuplicateKeyUpdateValueContext.getValueExpressions().size(); index++) {
-            int columnIndex = index;
-            String encryptLogicColumnName = onDuplicateKeyUpdateValueContext.getColumn(columnIndex).getIdentifier().getValue();
-            Optional<EncryptAlgorithm> encryptorOptional = getEncryptRule().findEncryptor(tableName, encryptLogicColumnName);
-            encryptorOptional.ifPresent(encryptor -> {
-                Object plainColumnValue = onDuplicateKeyUpdateValueContext.getValue(columnIndex);
-                Object cipherColumnValue = encryptorOptional.get().encrypt(plainColumnValue);
-                groupedParameterBuilder.getGenericParameterBuilder().addReplacedParameters(columnIndex, cipherColumnValue);
-                Collection<Object> addedParameters = new LinkedList<>();
-                if (encryptor instanceof QueryAssistedEncryptAlgorithm) {
-                    Optional<String> assistedColumnName = getEncryptRule().findAssistedQueryColumn(tableName, encryptLogicColumnName);
-                    Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
-                    addedParameters.add(((QueryAssistedEncryptAlgorithm) encryptor).queryAssistedEncrypt(plainColumnValue.toString()));
-                }
-                if (getEncryptRule().findPlainColumn(tableName, encryptLogicColumnName).isPresent()) {
-                    addedParameters.add(plainColumnValue);
-                }
-                if (!addedParameters.isEmpty()) {
-                    if (!groupedParameterBuilder.getGenericParameterBuilder().getAddedIndexAndParameters().containsKey(columnIndex + 1)) {
-                        groupedParameterBuilder.getGenericParameterBuilder().getAddedIndexAndParameters().put(columnIndex + 1, new LinkedList<>());
-                    }
-                    groupedParameterBuilder.getGenericParameterBuilder().getAddedIndexAndParameters().get(columnIndex + 1).addAll(addedParameters);
-                }
-            });
+            String encryptLogicColumnName = onDuplicateKeyUpdateValueContext.getColumn(index).getIdentifier().getValue();
+            Optional<EncryptAlgorithm> encryptor = getEncryptRule().findEncryptor(tableName, encryptLogicColumnName);
+            if (encryptor.isPresent()) {
+                result.computeIfAbsent(encryptor.get(), key -> new LinkedList<>()).add(index);
+            }
+        }
+        return result;
+    }
+    
+    private void encryptValue(final GroupedParameterBuilder groupedParameterBuilder, final EncryptAlgorithm encryptor, final String tableName, final String encryptLogicColumnName,
+                              final int columnIndex, final Object plainColumnValue, final String cipherColumnValue) {
+        groupedParameterBuilder.getGenericParameterBuilder().addReplacedParameters(columnIndex, cipherColumnValue);
+        Collection<Object> addedParameters = new LinkedList<>();
+        if (encryptor instanceof QueryAssistedEncryptAlgorithm) {
+            Optional<String> assistedColumnName = getEncryptRule().findAssistedQueryColumn(tableName, encryptLogicColumnName);
+            Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
+            addedParameters.add(((QueryAssistedEncryptAlgorithm) encryptor).queryAssistedEncrypt(plainColumnValue.toString()));
+        }
+        if (getEncryptRule().findPlainColumn(tableName, encryptLogicColumnName).isPresent()) {
+            addedParameters.add(plainColumnValue);
+        }
+        if (!addedParameters.isEmpty()) {
+            if (!groupedParameterBuilder.getGenericParameterBuilder().getAddedIndexAndParameters().containsKey(columnIndex + 1)) {
+                groupedParameterBuilder.getGenericParameterBuilder().getAddedIndexAndParameters().put(columnIndex + 1, new LinkedList<>());
+            }
+            groupedParameterBuilder.getGenericParameterBuilder().getAddedIndexAndParameters().get(columnIndex + 1).addAll(addedParameters);
         }
     }
 }
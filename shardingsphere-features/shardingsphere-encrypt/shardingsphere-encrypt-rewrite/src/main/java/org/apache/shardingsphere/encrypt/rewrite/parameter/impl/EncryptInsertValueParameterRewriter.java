@@ -26,7 +26,6 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedPar
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -61,20 +60,33 @@ public final class EncryptInsertValueParameterRewriter extends EncryptParameterR
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder,
                                      final InsertStatementContext insertStatementContext, final EncryptAlgorithm encryptAlgorithm, final String tableName, final String encryptLogicColumnName) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptLogicColumnName);
+        List<Integer> encryptedGroupIndexes = getEncryptedGroupIndexes(insertStatementContext, columnIndex);
+        if (encryptedGroupIndexes.isEmpty()) {
+            return;
+        }
+        List<Object> originalValues = new ArrayList<>(encryptedGroupIndexes.size());
+        for (int each : encryptedGroupIndexes) {
+            originalValues.add(insertStatementContext.getInsertValueContexts().get(each).getValue(columnIndex));
+        }
+        Iterator<String> cipherValues = encryptAlgorithm.batchEncrypt(originalValues).iterator();
+        Iterator<Object> originalValueIterator = originalValues.iterator();
+        for (int each : encryptedGroupIndexes) {
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(each).getParameterIndex(columnIndex);
+            encryptInsertValue(
+                    encryptAlgorithm, tableName, parameterIndex, originalValueIterator.next(), cipherValues.next(), parameterBuilder.getParameterBuilders().get(each), encryptLogicColumnName);
+        }
+    }
+    
+    private List<Integer> getEncryptedGroupIndexes(final InsertStatementContext insertStatementContext, final int columnIndex) {
+        List<Integer> result = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, tableName, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex),
-                            standardParameterBuilder, encryptLogicColumnName);
-                }
+            if (!each.isEmpty() && insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                result.add(count);
             }
             count++;
         }
+        return result;
     }
 
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -88,9 +100,9 @@ public final class EncryptInsertValueParameterRewriter extends EncryptParameterR
         return columnNames.indexOf(encryptLogicColumnName);
     }
 
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final String tableName, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final String encryptLogicColumnName) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue));
+    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final String tableName, final int parameterIndex, final Object originalValue, final String cipherValue,
+                                    final StandardParameterBuilder parameterBuilder, final String encryptLogicColumnName) {
+        parameterBuilder.addReplacedParameters(parameterIndex, cipherValue);
         Collection<Object> addedParameters = new LinkedList<>();
         if (encryptAlgorithm instanceof QueryAssistedEncryptAlgorithm) {
             Optional<String> assistedColumnName = getEncryptRule().findAssistedQueryColumn(tableName, encryptLogicColumnName);
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.encrypt.rewrite.parameter.impl;
 
 import lombok.Setter;
+import org.apache.shardingsphere.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.encrypt.condition.EncryptConditionEngine;
+import org.apache.shardingsphere.encrypt.condition.LikePatternUtil;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptRangeCondition;
 import org.apache.shardingsphere.encrypt.rewrite.aware.QueryWithCipherColumnAware;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptCondition;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptConditionEngine;
 import org.apache.shardingsphere.encrypt.rewrite.parameter.EncryptParameterRewriter;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -28,6 +30,7 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -50,11 +53,13 @@ public final class EncryptPredicateParameterRewriter extends EncryptParameterRew
     @Override
     public void rewrite(final ParameterBuilder parameterBuilder, final SQLStatementContext sqlStatementContext, final List<Object> parameters) {
         List<EncryptCondition> encryptConditions = new EncryptConditionEngine(getEncryptRule(), schema).createEncryptConditions(sqlStatementContext);
-        if (encryptConditions.isEmpty()) {
+        if (encryptConditions.isEmpty() || !queryWithCipherColumn) {
             return;
         }
         for (EncryptCondition each : encryptConditions) {
-            if (queryWithCipherColumn) {
+            if (each instanceof EncryptRangeCondition && ((EncryptRangeCondition) each).isLike()) {
+                encryptLikeParameter(parameterBuilder, (EncryptRangeCondition) each, parameters);
+            } else {
                 encryptParameters(parameterBuilder, each.getPositionIndexMap(), getEncryptedValues(each, each.getValues(parameters)));
             }
         }
@@ -67,6 +72,17 @@ public final class EncryptPredicateParameterRewriter extends EncryptParameterRew
                 ? getEncryptRule().getEncryptAssistedQueryValues(tableName, columnName, originalValues) : getEncryptRule().getEncryptValues(tableName, columnName, originalValues);
     }
     
+    private void encryptLikeParameter(final ParameterBuilder parameterBuilder, final EncryptRangeCondition encryptCondition, final List<Object> parameters) {
+        if (encryptCondition.getPositionIndexMap().isEmpty()) {
+            return;
+        }
+        int parameterIndex = encryptCondition.getPositionIndexMap().get(0);
+        List<Object> encryptValues = getEncryptRule().getEncryptAssistedQueryPrefixValues(
+                encryptCondition.getTableName(), encryptCondition.getColumnName(), LikePatternUtil.getPrefix(encryptCondition.getValues(parameters).get(0)));
+        ((StandardParameterBuilder) parameterBuilder).addReplacedParameters(parameterIndex, encryptValues.get(0));
+        ((StandardParameterBuilder) parameterBuilder).addAddedParameters(parameterIndex + 1, Collections.singletonList(encryptValues.get(1)));
+    }
+    
     private void encryptParameters(final ParameterBuilder parameterBuilder, final Map<Integer, Integer> positionIndexes, final List<Object> encryptValues) {
         if (!positionIndexes.isEmpty()) {
             for (Entry<Integer, Integer> entry : positionIndexes.entrySet()) {
@@ -39,7 +39,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.Expressi
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -78,11 +80,7 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
     
     private void processPreviousSQLToken(final InsertStatementContext insertStatementContext, final InsertValuesToken insertValuesToken) {
         String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
-        int count = 0;
-        for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
-            encryptToken(insertValuesToken.getInsertValues().get(count), tableName, insertStatementContext, each);
-            count++;
-        }
+        encryptTokens(insertValuesToken.getInsertValues(), tableName, insertStatementContext);
     }
     
     private InsertValuesToken generateNewSQLToken(final InsertStatementContext insertStatementContext) {
@@ -90,10 +88,9 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
         Collection<InsertValuesSegment> insertValuesSegments = insertStatementContext.getSqlStatement().getValues();
         InsertValuesToken result = new EncryptInsertValuesToken(getStartIndex(insertValuesSegments), getStopIndex(insertValuesSegments));
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
-            InsertValue insertValueToken = new InsertValue(each.getValueExpressions());
-            encryptToken(insertValueToken, tableName, insertStatementContext, each);
-            result.getInsertValues().add(insertValueToken);
+            result.getInsertValues().add(new InsertValue(each.getValueExpressions()));
         }
+        encryptTokens(result.getInsertValues(), tableName, insertStatementContext);
         return result;
     }
     
@@ -113,7 +110,7 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
         return result;
     }
     
-    private void encryptToken(final InsertValue insertValueToken, final String tableName, final InsertStatementContext insertStatementContext, final InsertValueContext insertValueContext) {
+    private void encryptTokens(final List<InsertValue> insertValueTokens, final String tableName, final InsertStatementContext insertStatementContext) {
         Optional<SQLToken> useDefaultInsertColumnsToken = findPreviousSQLToken(UseDefaultInsertColumnsToken.class);
         Iterator<String> descendingColumnNames = insertStatementContext.getDescendingColumnNames();
         while (descendingColumnNames.hasNext()) {
@@ -122,14 +119,37 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
             if (encryptor.isPresent()) {
                 int columnIndex = useDefaultInsertColumnsToken.map(sqlToken -> ((UseDefaultInsertColumnsToken) sqlToken).getColumns().indexOf(columnName))
                         .orElseGet(() -> insertStatementContext.getColumnNames().indexOf(columnName));
-                Object originalValue = insertValueContext.getValue(columnIndex);
-                addPlainColumn(insertValueToken, columnIndex, tableName, columnName, insertValueContext, originalValue);
-                addAssistedQueryColumn(insertValueToken, encryptor.get(), columnIndex, tableName, columnName, insertValueContext, originalValue);
-                setCipherColumn(insertValueToken, encryptor.get(), columnIndex, insertValueContext.getValueExpressions().get(columnIndex), originalValue);
+                encryptTokens(insertValueTokens, encryptor.get(), columnIndex, tableName, columnName, insertStatementContext.getInsertValueContexts());
+            }
+        }
+    }
+    
+    private void encryptTokens(final List<InsertValue> insertValueTokens, final EncryptAlgorithm encryptAlgorithm, final int columnIndex,
+                               final String tableName, final String columnName, final List<InsertValueContext> insertValueContexts) {
+        Iterator<String> cipherValues = encryptLiteralValues(encryptAlgorithm, columnIndex, insertValueContexts);
+        int count = 0;
+        for (InsertValueContext each : insertValueContexts) {
+            InsertValue insertValueToken = insertValueTokens.get(count++);
+            Object originalValue = each.getValue(columnIndex);
+            addPlainColumn(insertValueToken, columnIndex, tableName, columnName, each, originalValue);
+            addAssistedQueryColumn(insertValueToken, encryptAlgorithm, columnIndex, tableName, columnName, each, originalValue);
+            ExpressionSegment valueExpression = each.getValueExpressions().get(columnIndex);
+            if (valueExpression instanceof LiteralExpressionSegment) {
+                insertValueToken.getValues().set(columnIndex, new LiteralExpressionSegment(valueExpression.getStartIndex(), valueExpression.getStopIndex(), cipherValues.next()));
             }
         }
     }
     
+    private Iterator<String> encryptLiteralValues(final EncryptAlgorithm encryptAlgorithm, final int columnIndex, final List<InsertValueContext> insertValueContexts) {
+        List<Object> result = new ArrayList<>(insertValueContexts.size());
+        for (InsertValueContext each : insertValueContexts) {
+            if (each.getValueExpressions().get(columnIndex) instanceof LiteralExpressionSegment) {
+                result.add(each.getValue(columnIndex));
+            }
+        }
+        return result.isEmpty() ? Collections.emptyIterator() : encryptAlgorithm.batchEncrypt(result).iterator();
+    }
+    
     private void addPlainColumn(final InsertValue insertValueToken, final int columnIndex,
                                 final String tableName, final String columnName, final InsertValueContext insertValueContext, final Object originalValue) {
         if (getEncryptRule().findPlainColumn(tableName, columnName).isPresent()) {
@@ -163,11 +183,4 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
         }
         return result;
     }
-    
-    private void setCipherColumn(final InsertValue insertValueToken,
-                                 final EncryptAlgorithm encryptAlgorithm, final int columnIndex, final ExpressionSegment valueExpression, final Object originalValue) {
-        if (valueExpression instanceof LiteralExpressionSegment) {
-            insertValueToken.getValues().set(columnIndex, new LiteralExpressionSegment(valueExpression.getStartIndex(), valueExpression.getStopIndex(), encryptAlgorithm.encrypt(originalValue)));
-        }
-    }
 }
@@ -18,23 +18,34 @@
 package org.apache.shardingsphere.encrypt.rewrite.token.generator.impl;
 
 import lombok.Setter;
+import org.apache.shardingsphere.encrypt.condition.EncryptCondition;
+import org.apache.shardingsphere.encrypt.condition.EncryptConditionEngine;
+import org.apache.shardingsphere.encrypt.condition.LikePatternUtil;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptInCondition;
+import org.apache.shardingsphere.encrypt.condition.impl.EncryptRangeCondition;
 import org.apache.shardingsphere.encrypt.rewrite.aware.QueryWithCipherColumnAware;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptCondition;
-import org.apache.shardingsphere.encrypt.rewrite.condition.EncryptConditionEngine;
-import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptInCondition;
 import org.apache.shardingsphere.encrypt.rewrite.token.generator.BaseEncryptSQLTokenGenerator;
 import org.apache.shardingsphere.encrypt.rewrite.token.pojo.EncryptPredicateEqualRightValueToken;
 import org.apache.shardingsphere.encrypt.rewrite.token.pojo.EncryptPredicateInRightValueToken;
+import org.apache.shardingsphere.encrypt.rewrite.token.pojo.EncryptPredicateRangeRightValueToken;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionBuilder;
 
+import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -48,6 +59,9 @@ import java.util.Optional;
 public final class EncryptPredicateRightValueTokenGenerator extends BaseEncryptSQLTokenGenerator 
         implements CollectionSQLTokenGenerator, SchemaMetaDataAware, ParametersAware, QueryWithCipherColumnAware {
     
+    private static final Collection<Integer> CHARACTER_DATA_TYPES = new HashSet<>(
+            Arrays.asList(Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB));
+    
     private ShardingSphereSchema schema;
     
     private List<Object> parameters;
@@ -62,17 +76,36 @@ public final class EncryptPredicateRightValueTokenGenerator extends BaseEncryptS
     @Override
     public Collection<SQLToken> generateSQLTokens(final SQLStatementContext sqlStatementContext) {
         List<EncryptCondition> encryptConditions = new EncryptConditionEngine(getEncryptRule(), schema).createEncryptConditions(sqlStatementContext);
+        if (queryWithCipherColumn && encryptConditions.stream().anyMatch(each -> getEncryptRule().isRangeQueryAssisted(each.getTableName(), each.getColumnName()))) {
+            checkFilterable(sqlStatementContext);
+        }
         return encryptConditions.isEmpty() ? Collections.emptyList() : generateSQLTokens(encryptConditions);
     }
     
     private Collection<SQLToken> generateSQLTokens(final List<EncryptCondition> encryptConditions) {
         Collection<SQLToken> result = new LinkedHashSet<>();
         for (EncryptCondition each : encryptConditions) {
-            result.add(generateSQLToken(each));
+            if (queryWithCipherColumn || !(each instanceof EncryptRangeCondition)) {
+                result.add(generateSQLToken(each));
+            }
         }
         return result;
     }
     
+    private void checkFilterable(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            throw new ShardingSphereException("Conditions on range query assisted encrypt column are only supported by SELECT statement.");
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (selectStatementContext.getWhere().isPresent() && new ExpressionBuilder(selectStatementContext.getWhere().get().getExpr()).extractAndPredicates().getAndPredicates().size() > 1) {
+            throw new ShardingSphereException("Conditions on range query assisted encrypt column can not be combined by OR.");
+        }
+        if (selectStatementContext.getPaginationContext().isHasPagination() || !selectStatementContext.getGroupByContext().getItems().isEmpty()
+                || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()) {
+            throw new ShardingSphereException("Conditions on range query assisted encrypt column can not be used with pagination, group by or aggregation.");
+        }
+    }
+    
     private SQLToken generateSQLToken(final EncryptCondition encryptCondition) {
         List<Object> originalValues = encryptCondition.getValues(parameters);
         int startIndex = encryptCondition.getStartIndex();
@@ -81,6 +114,9 @@ public final class EncryptPredicateRightValueTokenGenerator extends BaseEncryptS
     }
     
     private SQLToken generateSQLTokenForQueryWithCipherColumn(final EncryptCondition encryptCondition, final List<Object> originalValues, final int startIndex) {
+        if (encryptCondition instanceof EncryptRangeCondition) {
+            return generateSQLTokenForRangeCondition((EncryptRangeCondition) encryptCondition, originalValues, startIndex);
+        }
         int stopIndex = encryptCondition.getStopIndex();
         Map<Integer, Object> indexValues = getPositionValues(encryptCondition.getPositionValueMap().keySet(), getEncryptedValues(encryptCondition, originalValues));
         Collection<Integer> parameterMarkerIndexes = encryptCondition.getPositionIndexMap().keySet();
@@ -89,7 +125,29 @@ public final class EncryptPredicateRightValueTokenGenerator extends BaseEncryptS
                 : new EncryptPredicateEqualRightValueToken(startIndex, stopIndex, indexValues, parameterMarkerIndexes);
     }
     
+    private SQLToken generateSQLTokenForRangeCondition(final EncryptRangeCondition encryptCondition, final List<Object> originalValues, final int startIndex) {
+        checkCharacterColumn(encryptCondition);
+        List<Object> encryptedValues = getEncryptedValues(encryptCondition, originalValues);
+        Collection<Integer> valuePositions = encryptCondition.isLike() && !encryptCondition.getPositionValueMap().isEmpty() ? Arrays.asList(0, 1) : encryptCondition.getPositionValueMap().keySet();
+        Collection<Integer> parameterMarkerIndexes = encryptCondition.isLike() && !encryptCondition.getPositionIndexMap().isEmpty()
+                ? Arrays.asList(0, 1) : encryptCondition.getPositionIndexMap().keySet();
+        return new EncryptPredicateRangeRightValueToken(startIndex, encryptCondition.getStopIndex(), 
+                encryptCondition.getQueryAssistedOperator(), getPositionValues(valuePositions, encryptedValues), parameterMarkerIndexes);
+    }
+    
+    private void checkCharacterColumn(final EncryptRangeCondition encryptCondition) {
+        TableMetaData tableMetaData = schema.get(encryptCondition.getTableName());
+        ColumnMetaData columnMetaData = null == tableMetaData ? null : tableMetaData.getColumns().get(encryptCondition.getColumnName().toLowerCase());
+        if (null != columnMetaData && !CHARACTER_DATA_TYPES.contains(columnMetaData.getDataType())) {
+            throw new ShardingSphereException("Query assisted values are ordered as strings, so '%s' is only supported on range query assisted encrypt column of character type, but `%s.%s` is `%s`.", 
+                    encryptCondition.getOperator(), encryptCondition.getTableName(), encryptCondition.getColumnName(), columnMetaData.getDataTypeName());
+        }
+    }
+    
     private List<Object> getEncryptedValues(final EncryptCondition encryptCondition, final List<Object> originalValues) {
+        if (encryptCondition instanceof EncryptRangeCondition && ((EncryptRangeCondition) encryptCondition).isLike()) {
+            return getEncryptRule().getEncryptAssistedQueryPrefixValues(encryptCondition.getTableName(), encryptCondition.getColumnName(), LikePatternUtil.getPrefix(originalValues.get(0)));
+        }
         Optional<String> assistedQueryColumn = getEncryptRule().findAssistedQueryColumn(encryptCondition.getTableName(), encryptCondition.getColumnName());
         return assistedQueryColumn.isPresent() 
                 ? getEncryptRule().getEncryptAssistedQueryValues(encryptCondition.getTableName(), encryptCondition.getColumnName(), originalValues) 
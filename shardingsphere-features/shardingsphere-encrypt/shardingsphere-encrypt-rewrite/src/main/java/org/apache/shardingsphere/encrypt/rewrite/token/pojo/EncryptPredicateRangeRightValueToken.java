@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rewrite.token.pojo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Predicate range right value token for encrypt, which substitutes operator and right values.
+ */
+@EqualsAndHashCode
+public final class EncryptPredicateRangeRightValueToken extends SQLToken implements Substitutable {
+    
+    private static final String BETWEEN = "BETWEEN";
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final String operator;
+    
+    private final Map<Integer, Object> indexValues;
+    
+    private final Collection<Integer> parameterMarkerIndexes;
+    
+    public EncryptPredicateRangeRightValueToken(final int startIndex, final int stopIndex, final String operator, final Map<Integer, Object> indexValues, 
+                                                final Collection<Integer> parameterMarkerIndexes) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.operator = operator;
+        this.indexValues = indexValues;
+        this.parameterMarkerIndexes = parameterMarkerIndexes;
+    }
+    
+    @Override
+    public String toString() {
+        return BETWEEN.equals(operator) ? String.format(" %s %s AND %s", operator, getValue(0), getValue(1)) : String.format(" %s %s", operator, getValue(0));
+    }
+    
+    private String getValue(final int index) {
+        if (parameterMarkerIndexes.contains(index)) {
+            return "?";
+        }
+        return indexValues.get(index) instanceof String ? String.format("'%s'", indexValues.get(index)) : indexValues.get(index).toString();
+    }
+}
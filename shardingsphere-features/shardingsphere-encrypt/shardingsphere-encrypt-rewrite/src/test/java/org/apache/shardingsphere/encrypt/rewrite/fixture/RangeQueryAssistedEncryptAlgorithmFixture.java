@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rewrite.fixture;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
+
+public final class RangeQueryAssistedEncryptAlgorithmFixture implements RangeQueryAssistedEncryptAlgorithm {
+    
+    private static final int PREFIX_LENGTH = 2;
+    
+    @Override
+    public void init() {
+    }
+    
+    @Override
+    public String encrypt(final Object plaintext) {
+        return "encrypt_" + plaintext;
+    }
+    
+    @Override
+    public Object decrypt(final String ciphertext) {
+        return ciphertext.replaceAll("encrypt_", "");
+    }
+    
+    @Override
+    public String queryAssistedEncrypt(final String plaintext) {
+        return "range_" + plaintext.substring(0, Math.min(PREFIX_LENGTH, plaintext.length()));
+    }
+    
+    @Override
+    public Range<String> queryAssistedEncryptPrefix(final String prefix) {
+        return prefix.length() >= PREFIX_LENGTH ? Range.singleton(queryAssistedEncrypt(prefix)) : Range.closed(queryAssistedEncrypt(prefix), queryAssistedEncrypt(prefix) + "~");
+    }
+    
+    @Override
+    public String getType() {
+        return "RANGE_QUERY_ASSISTED_ENCRYPT";
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rewrite.token.generator.impl;
+
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.RangeQueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class EncryptPredicateRightValueTokenGeneratorTest {
+    
+    private final SQLStatementParserEngine sqlStatementParserEngine = new SQLStatementParserEngine("MySQL");
+    
+    private final ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+    
+    private EncryptPredicateRightValueTokenGenerator generator;
+    
+    @Before
+    public void setUp() {
+        EncryptRule encryptRule = mock(EncryptRule.class);
+        when(encryptRule.findEncryptor(anyString(), anyString())).thenReturn(Optional.empty());
+        when(encryptRule.findEncryptor("t_user", "name")).thenReturn(Optional.of(mock(RangeQueryAssistedEncryptAlgorithm.class)));
+        when(encryptRule.isRangeQueryAssisted("t_user", "name")).thenReturn(true);
+        generator = new EncryptPredicateRightValueTokenGenerator();
+        generator.setEncryptRule(encryptRule);
+        generator.setSchema(schema);
+        generator.setParameters(Collections.emptyList());
+        generator.setQueryWithCipherColumn(true);
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithOr() {
+        generateSQLTokens("SELECT name FROM t_user WHERE name > 'a' OR user_id = 1");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithPagination() {
+        generateSQLTokens("SELECT name FROM t_user WHERE name > 'a' LIMIT 10");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithAggregation() {
+        generateSQLTokens("SELECT COUNT(name) FROM t_user WHERE name > 'a'");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithUpdate() {
+        generateSQLTokens("UPDATE t_user SET user_id = 1 WHERE name = 'a'");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithNumberLiteral() {
+        generateSQLTokens("SELECT name FROM t_user WHERE name > 9");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithNumberParameter() {
+        generator.setParameters(Collections.singletonList(9));
+        generateSQLTokens("SELECT name FROM t_user WHERE name > ?");
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertGenerateSQLTokensWithNumberColumn() {
+        when(schema.get("t_user")).thenReturn(new TableMetaData(Collections.singletonList(new ColumnMetaData("name", Types.INTEGER, "INT", false, false, false)), Collections.emptyList()));
+        generateSQLTokens("SELECT name FROM t_user WHERE name > 'a'");
+    }
+    
+    @Test
+    public void assertGenerateSQLTokensWithPlainColumn() {
+        generator.setQueryWithCipherColumn(false);
+        assertThat(generateSQLTokens("UPDATE t_user SET user_id = 1 WHERE name > 'a'").size(), is(0));
+    }
+    
+    private Collection<SQLToken> generateSQLTokens(final String sql) {
+        return generator.generateSQLTokens(SQLStatementContextFactory.newInstance(schema, Collections.emptyList(), sqlStatementParserEngine.parse(sql, false)));
+    }
+}
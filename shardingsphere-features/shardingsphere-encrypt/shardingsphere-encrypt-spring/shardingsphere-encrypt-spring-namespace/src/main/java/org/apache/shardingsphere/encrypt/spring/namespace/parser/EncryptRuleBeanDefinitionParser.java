@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.spring.namespace.parser;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.encrypt.algorithm.config.AlgorithmProvidedEncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
@@ -81,6 +82,8 @@ public final class EncryptRuleBeanDefinitionParser extends AbstractBeanDefinitio
         factory.addConstructorArgValue(element.getAttribute(EncryptRuleBeanDefinitionTag.ASSISTED_QUERY_COLUMN_ATTRIBUTE));
         factory.addConstructorArgValue(element.getAttribute(EncryptRuleBeanDefinitionTag.PLAIN_COLUMN_ATTRIBUTE));
         factory.addConstructorArgValue(element.getAttribute(EncryptRuleBeanDefinitionTag.ENCRYPT_ALGORITHM_REF_ATTRIBUTE));
+        String decryptedValueCacheSize = element.getAttribute(EncryptRuleBeanDefinitionTag.DECRYPTED_VALUE_CACHE_SIZE_ATTRIBUTE);
+        factory.addConstructorArgValue(Strings.isNullOrEmpty(decryptedValueCacheSize) ? 0 : Integer.parseInt(decryptedValueCacheSize));
         return factory.getBeanDefinition();
     }
 }
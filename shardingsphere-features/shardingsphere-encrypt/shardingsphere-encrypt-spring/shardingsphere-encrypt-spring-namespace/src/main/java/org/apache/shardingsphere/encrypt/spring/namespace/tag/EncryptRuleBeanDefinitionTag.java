@@ -41,4 +41,6 @@ public final class EncryptRuleBeanDefinitionTag {
     public static final String PLAIN_COLUMN_ATTRIBUTE = "plain-column";
     
     public static final String ENCRYPT_ALGORITHM_REF_ATTRIBUTE = "encrypt-algorithm-ref";
+    
+    public static final String DECRYPTED_VALUE_CACHE_SIZE_ATTRIBUTE = "decrypted-value-cache-size";
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.algorithm;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
+import org.apache.shardingsphere.replicaquery.latency.DataSourceLatency;
+import org.apache.shardingsphere.replicaquery.spi.ReplicaLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least latency replica load-balance algorithm.
+ * 
+ * <p>Picks two random replicas and routes to the one with lower moving average latency weighted by in-flight executions.
+ * Replicas whose probed replication lag exceeds {@code max-replication-lag-milliseconds} or is unknown are excluded unless all of them lag.
+ * Latencies of replicas are registered when the rule is built.</p>
+ */
+@Getter
+@Setter
+public final class LeastLatencyReplicaLoadBalanceAlgorithm implements ReplicaLoadBalanceAlgorithm, ShardingSphereAlgorithmPostProcessor {
+    
+    private static final String MAX_REPLICATION_LAG_MILLISECONDS_KEY = "max-replication-lag-milliseconds";
+    
+    private static final String REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS_KEY = "replication-lag-probe-interval-milliseconds";
+    
+    private static final long DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private Properties props = new Properties();
+    
+    private long maxReplicationLagMillis = -1L;
+    
+    private long replicationLagProbeIntervalMillis = DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS;
+    
+    private Map<String, DataSourceLatency> dataSourceLatencies = Collections.emptyMap();
+    
+    @Override
+    public void init() {
+        maxReplicationLagMillis = Long.parseLong(props.getProperty(MAX_REPLICATION_LAG_MILLISECONDS_KEY, "-1"));
+        replicationLagProbeIntervalMillis = Long.parseLong(props.getProperty(REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS_KEY, String.valueOf(DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS)));
+    }
+    
+    /**
+     * Judge whether replication lag is checked.
+     *
+     * @return replication lag is checked or not
+     */
+    public boolean isReplicationLagChecked() {
+        return maxReplicationLagMillis >= 0L;
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String primaryDataSourceName, final List<String> replicaDataSourceNames) {
+        List<String> candidates = isReplicationLagChecked() ? getReplicationLagSatisfiedDataSources(replicaDataSourceNames) : replicaDataSourceNames;
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return getScore(candidates.get(first)) <= getScore(candidates.get(second)) ? candidates.get(first) : candidates.get(second);
+    }
+    
+    private List<String> getReplicationLagSatisfiedDataSources(final List<String> replicaDataSourceNames) {
+        List<String> result = new ArrayList<>(replicaDataSourceNames.size());
+        for (String each : replicaDataSourceNames) {
+            DataSourceLatency latency = dataSourceLatencies.get(each);
+            if (null != latency && latency.getReplicationLagMillis() <= maxReplicationLagMillis) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? replicaDataSourceNames : result;
+    }
+    
+    private double getScore(final String dataSourceName) {
+        DataSourceLatency latency = dataSourceLatencies.get(dataSourceName);
+        if (null == latency) {
+            return 0D;
+        }
+        double ewmaNanos = latency.getEwmaNanos();
+        return ewmaNanos < 0D ? 0D : ewmaNanos * (latency.getInFlightCount() + 1);
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_LATENCY";
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Execution latency of data source.
+ * 
+ * <p>Keeps a sliding window of recent execution latencies, their exponentially weighted moving average,
+ * the count of in-flight executions and the last probed replication lag.</p>
+ */
+public final class DataSourceLatency {
+    
+    private static final int WINDOW_SIZE = 128;
+    
+    private static final int MIN_SAMPLE_COUNT = 32;
+    
+    private static final long PERCENTILE_REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long MIN_STALLED_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private static final double EWMA_ALPHA = 0.2D;
+    
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+    
+    private final AtomicLong sampleCount = new AtomicLong();
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile long lastProgressNanos;
+    
+    private volatile long p95Nanos = -1L;
+    
+    private volatile long p95RefreshedNanos;
+    
+    private volatile double ewmaNanos = -1D;
+    
+    private volatile long replicationLagMillis = Long.MAX_VALUE;
+    
+    /**
+     * Start an execution.
+     */
+    public void start() {
+        if (0 == inFlightCount.getAndIncrement()) {
+            lastProgressNanos = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Finish an execution.
+     *
+     * @param elapsedNanos elapsed nanos of execution
+     */
+    public void finish(final long elapsedNanos) {
+        samples.set((int) (sampleCount.getAndIncrement() % WINDOW_SIZE), elapsedNanos);
+        double ewma = ewmaNanos;
+        ewmaNanos = ewma < 0D ? elapsedNanos : ewma + EWMA_ALPHA * (elapsedNanos - ewma);
+        lastProgressNanos = System.nanoTime();
+        inFlightCount.decrementAndGet();
+    }
+    
+    /**
+     * Get count of in-flight executions.
+     *
+     * @return count of in-flight executions
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get exponentially weighted moving average of latencies.
+     * 
+     * <p>Concurrent updates may lose a sample, which is acceptable for load balancing.</p>
+     *
+     * @return moving average nanos, or -1 if no sample
+     */
+    public double getEwmaNanos() {
+        return ewmaNanos;
+    }
+    
+    /**
+     * Get replication lag.
+     *
+     * @return replication lag millis, or {@code Long.MAX_VALUE} if unknown
+     */
+    public long getReplicationLagMillis() {
+        return replicationLagMillis;
+    }
+    
+    /**
+     * Set replication lag.
+     *
+     * @param replicationLagMillis replication lag millis, or {@code Long.MAX_VALUE} if unknown
+     */
+    public void setReplicationLagMillis(final long replicationLagMillis) {
+        this.replicationLagMillis = replicationLagMillis;
+    }
+    
+    /**
+     * Get 95th percentile of recent latencies.
+     *
+     * @return 95th percentile nanos, or -1 if not enough samples
+     */
+    public long getP95Nanos() {
+        long now = System.nanoTime();
+        if (now - p95RefreshedNanos > PERCENTILE_REFRESH_INTERVAL_NANOS || p95Nanos < 0L) {
+            p95Nanos = calculatePercentile(0.95D);
+            p95RefreshedNanos = now;
+        }
+        return p95Nanos;
+    }
+    
+    private long calculatePercentile(final double percentile) {
+        int size = (int) Math.min(sampleCount.get(), WINDOW_SIZE);
+        if (size < MIN_SAMPLE_COUNT) {
+            return -1L;
+        }
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(percentile * size) - 1];
+    }
+    
+    /**
+     * Judge whether data source is stalled.
+     * 
+     * <p>A data source is stalled when it has in-flight executions but none of them made progress within its 95th percentile latency.</p>
+     *
+     * @return data source is stalled or not
+     */
+    public boolean isStalled() {
+        if (0 == inFlightCount.get()) {
+            return false;
+        }
+        long p95 = getP95Nanos();
+        return p95 >= 0L && System.nanoTime() - lastProgressNanos > Math.max(p95, MIN_STALLED_NANOS);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source latency registry.
+ * 
+ * <p>Latencies are keyed by storage address of data source, so same named data sources of different schemas do not share latency.
+ * Executions are only recorded for data sources registered by components which consume latencies.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceLatencyRegistry {
+    
+    private static final Map<String, DataSourceLatency> LATENCIES = new ConcurrentHashMap<>();
+    
+    private static final Cache<DataSourceMetaData, String> STORAGE_KEYS = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Register latency of data source.
+     *
+     * @param dataSourceMetaData data source meta data
+     * @return registered latency of data source
+     */
+    public static DataSourceLatency register(final DataSourceMetaData dataSourceMetaData) {
+        String storageKey = getStorageKey(dataSourceMetaData);
+        DataSourceLatency result = LATENCIES.get(storageKey);
+        return null == result ? LATENCIES.computeIfAbsent(storageKey, key -> new DataSourceLatency()) : result;
+    }
+    
+    /**
+     * Find registered latency of data source.
+     *
+     * @param dataSourceMetaData data source meta data
+     * @return registered latency of data source
+     */
+    public static Optional<DataSourceLatency> find(final DataSourceMetaData dataSourceMetaData) {
+        if (LATENCIES.isEmpty() || null == dataSourceMetaData) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(LATENCIES.get(getStorageKey(dataSourceMetaData)));
+    }
+    
+    private static String getStorageKey(final DataSourceMetaData dataSourceMetaData) {
+        String result = STORAGE_KEYS.getIfPresent(dataSourceMetaData);
+        if (null == result) {
+            result = String.format("%s:%d/%s/%s", dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(), dataSourceMetaData.getCatalog(), dataSourceMetaData.getSchema());
+            STORAGE_KEYS.put(dataSourceMetaData, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Clear all latencies.
+     */
+    public static void clear() {
+        LATENCIES.clear();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execution hook to record latency of data source.
+ * 
+ * <p>Only data sources registered in {@code DataSourceLatencyRegistry} are recorded.</p>
+ */
+public final class DataSourceLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceLatency latency;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters, 
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        latency = DataSourceLatencyRegistry.find(dataSourceMetaData).orElse(null);
+        if (null != latency) {
+            latency.start();
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish();
+    }
+    
+    private void finish() {
+        if (null != latency) {
+            latency.finish(System.nanoTime() - startNanos);
+            latency = null;
+        }
+    }
+}
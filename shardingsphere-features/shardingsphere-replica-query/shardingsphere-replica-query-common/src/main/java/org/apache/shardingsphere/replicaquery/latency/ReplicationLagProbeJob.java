@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
+
+import javax.sql.DataSource;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Replication lag probe job.
+ * 
+ * <p>The job only weakly references its rule, and cancels itself once the rule is no longer used.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ReplicationLagProbeJob implements Runnable {
+    
+    private final String schemaName;
+    
+    private final WeakReference<ReplicaQueryRule> rule;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final Map<String, DataSourceLatency> latencies;
+    
+    private final ReplicationLagProbeSQL probeSQL;
+    
+    @Setter
+    private volatile ScheduledFuture<?> scheduledFuture;
+    
+    @Override
+    public void run() {
+        if (null == rule.get()) {
+            cancel();
+            return;
+        }
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            latencies.get(entry.getKey()).setReplicationLagMillis(probeSafely(entry.getKey(), entry.getValue()));
+        }
+    }
+    
+    private long probeSafely(final String dataSourceName, final DataSource dataSource) {
+        try {
+            return probe(dataSourceName, dataSource);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Probe replication lag of data source `{}` failed unexpectedly, treat it as lagging.", dataSourceName, ex);
+            return Long.MAX_VALUE;
+        }
+    }
+    
+    private long probe(final String dataSourceName, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(probeSQL.getSql())) {
+            if (!resultSet.next()) {
+                return Long.MAX_VALUE;
+            }
+            long lag = resultSet.getLong(probeSQL.getLagColumnLabel());
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag * probeSQL.getLagUnitMillis();
+        } catch (final SQLException ex) {
+            log.warn("An exception occurred while probe replication lag of data source `{}`", dataSourceName, ex);
+            return Long.MAX_VALUE;
+        }
+    }
+    
+    private void cancel() {
+        ScheduledFuture<?> future = scheduledFuture;
+        if (null != future) {
+            future.cancel(false);
+            ReplicationLagProbeScheduler.remove(schemaName, future);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Replication lag probe SQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ReplicationLagProbeSQL {
+    
+    MYSQL("MySQL", "SHOW SLAVE STATUS", "Seconds_Behind_Master", 1000L),
+    
+    POSTGRESQL("PostgreSQL", "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END AS lag_millis", "lag_millis", 1L);
+    
+    private final String databaseType;
+    
+    private final String sql;
+    
+    private final String lagColumnLabel;
+    
+    private final long lagUnitMillis;
+    
+    /**
+     * Find replication lag probe SQL.
+     *
+     * @param databaseType database type name
+     * @return replication lag probe SQL
+     */
+    public static Optional<ReplicationLagProbeSQL> find(final String databaseType) {
+        for (ReplicationLagProbeSQL each : values()) {
+            if (each.databaseType.equals(databaseType)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.replicaquery.algorithm.LeastLatencyReplicaLoadBalanceAlgorithm;
+import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryDataSourceRule;
+import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
+
+import javax.sql.DataSource;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe scheduler.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ReplicationLagProbeScheduler {
+    
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ReplicationLag-Probe-%d"));
+    
+    private static final Map<String, ScheduledFuture<?>> SCHEDULED_JOBS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register latencies of replicas balanced by least latency algorithm, and schedule replication lag probe job for them if replication lag is checked.
+     * 
+     * <p>Job scheduled previously for the same schema will be cancelled, and the job cancels itself once the rule is no longer used.</p>
+     *
+     * @param schemaName schema name
+     * @param rule replica query rule
+     * @param dataSourceMap data source map
+     * @param databaseType database type
+     */
+    public static synchronized void schedule(final String schemaName, final ReplicaQueryRule rule, final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType) {
+        if (null == schemaName || null == dataSourceMap || null == databaseType) {
+            return;
+        }
+        cancel(schemaName);
+        Map<String, DataSourceLatency> latencies = new LinkedHashMap<>();
+        Map<String, DataSource> probedDataSourceMap = new LinkedHashMap<>();
+        Collection<LeastLatencyReplicaLoadBalanceAlgorithm> algorithms = new LinkedList<>();
+        long intervalMillis = Long.MAX_VALUE;
+        for (String each : rule.getAllLogicDataSourceNames()) {
+            ReplicaQueryDataSourceRule dataSourceRule = rule.findDataSourceRule(each).orElseThrow(IllegalStateException::new);
+            if (!(dataSourceRule.getLoadBalancer() instanceof LeastLatencyReplicaLoadBalanceAlgorithm)) {
+                continue;
+            }
+            LeastLatencyReplicaLoadBalanceAlgorithm algorithm = (LeastLatencyReplicaLoadBalanceAlgorithm) dataSourceRule.getLoadBalancer();
+            algorithms.add(algorithm);
+            for (String replica : dataSourceRule.getReplicaDataSourceNames()) {
+                if (dataSourceMap.containsKey(replica) && !latencies.containsKey(replica)) {
+                    loadDataSourceMetaData(replica, dataSourceMap.get(replica), databaseType).ifPresent(optional -> latencies.put(replica, DataSourceLatencyRegistry.register(optional)));
+                }
+                if (algorithm.isReplicationLagChecked() && latencies.containsKey(replica)) {
+                    probedDataSourceMap.put(replica, dataSourceMap.get(replica));
+                    intervalMillis = Math.min(intervalMillis, algorithm.getReplicationLagProbeIntervalMillis());
+                }
+            }
+        }
+        algorithms.forEach(each -> each.setDataSourceLatencies(latencies));
+        Optional<ReplicationLagProbeSQL> probeSQL = ReplicationLagProbeSQL.find(databaseType.getName());
+        if (probeSQL.isPresent() && !probedDataSourceMap.isEmpty()) {
+            ReplicationLagProbeJob job = new ReplicationLagProbeJob(schemaName, new WeakReference<>(rule), probedDataSourceMap, latencies, probeSQL.get());
+            ScheduledFuture<?> scheduledFuture = EXECUTOR.scheduleWithFixedDelay(job, 0L, intervalMillis, TimeUnit.MILLISECONDS);
+            job.setScheduledFuture(scheduledFuture);
+            SCHEDULED_JOBS.put(schemaName, scheduledFuture);
+        }
+    }
+    
+    private static Optional<DataSourceMetaData> loadDataSourceMetaData(final String dataSourceName, final DataSource dataSource, final DatabaseType databaseType) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return Optional.of(databaseType.getDataSourceMetaData(metaData.getURL(), metaData.getUserName()));
+        } catch (final SQLException ex) {
+            log.warn("Can not load meta data of data source `{}`, its latency will not be recorded", dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Cancel replication lag probe job.
+     *
+     * @param schemaName schema name
+     */
+    public static synchronized void cancel(final String schemaName) {
+        ScheduledFuture<?> scheduledJob = SCHEDULED_JOBS.remove(schemaName);
+        if (null != scheduledJob) {
+            scheduledJob.cancel(false);
+        }
+    }
+    
+    static void remove(final String schemaName, final ScheduledFuture<?> scheduledFuture) {
+        SCHEDULED_JOBS.remove(schemaName, scheduledFuture);
+    }
+}
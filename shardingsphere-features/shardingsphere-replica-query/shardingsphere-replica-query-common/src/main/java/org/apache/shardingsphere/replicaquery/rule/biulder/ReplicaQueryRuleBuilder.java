@@ -17,19 +17,35 @@
 
 package org.apache.shardingsphere.replicaquery.rule.biulder;
 
+import lombok.Setter;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRuleBuilder;
+import org.apache.shardingsphere.infra.rule.builder.aware.ResourceAware;
 import org.apache.shardingsphere.replicaquery.api.config.ReplicaQueryRuleConfiguration;
 import org.apache.shardingsphere.replicaquery.constant.ReplicaQueryOrder;
+import org.apache.shardingsphere.replicaquery.latency.ReplicationLagProbeScheduler;
 import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
 
+import javax.sql.DataSource;
+import java.util.Map;
+
 /**
  * Replica query rule builder.
  */
-public final class ReplicaQueryRuleBuilder implements ShardingSphereRuleBuilder<ReplicaQueryRule, ReplicaQueryRuleConfiguration> {
+@Setter
+public final class ReplicaQueryRuleBuilder implements ShardingSphereRuleBuilder<ReplicaQueryRule, ReplicaQueryRuleConfiguration>, ResourceAware {
+    
+    private DatabaseType databaseType;
+    
+    private Map<String, DataSource> dataSourceMap;
+    
+    private String schemaName;
     
     @Override
     public ReplicaQueryRule build(final ReplicaQueryRuleConfiguration ruleConfig) {
-        return new ReplicaQueryRule(ruleConfig);
+        ReplicaQueryRule result = new ReplicaQueryRule(ruleConfig);
+        ReplicationLagProbeScheduler.schedule(schemaName, result, dataSourceMap, databaseType);
+        return result;
     }
     
     @Override
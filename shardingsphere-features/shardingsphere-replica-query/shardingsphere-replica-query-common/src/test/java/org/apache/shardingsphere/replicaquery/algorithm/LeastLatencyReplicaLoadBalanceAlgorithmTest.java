@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.algorithm;
+
+import org.apache.shardingsphere.replicaquery.latency.DataSourceLatency;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LeastLatencyReplicaLoadBalanceAlgorithmTest {
+    
+    private final List<String> replicaDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+    
+    private final Map<String, DataSourceLatency> latencies = new HashMap<>();
+    
+    @Before
+    public void setUp() {
+        latencies.put("test_replica_ds_1", new DataSourceLatency());
+        latencies.put("test_replica_ds_2", new DataSourceLatency());
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerLatency() {
+        LeastLatencyReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(new Properties());
+        record("test_replica_ds_1", 10000000L);
+        record("test_replica_ds_2", 1000000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_primary_ds", replicaDataSourceNames), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithFewerInFlightExecutions() {
+        LeastLatencyReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(new Properties());
+        record("test_replica_ds_1", 1000000L);
+        record("test_replica_ds_2", 1000000L);
+        latencies.get("test_replica_ds_2").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_primary_ds", replicaDataSourceNames), is("test_replica_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutLaggedReplica() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-lag-milliseconds", "1000");
+        record("test_replica_ds_1", 1000000L);
+        record("test_replica_ds_2", 10000000L);
+        latencies.get("test_replica_ds_1").setReplicationLagMillis(5000L);
+        latencies.get("test_replica_ds_2").setReplicationLagMillis(0L);
+        LeastLatencyReplicaLoadBalanceAlgorithm algorithm = createAlgorithm(props);
+        for (int i = 0; i < 10; i++) {
+            assertThat(algorithm.getDataSource("ds", "test_primary_ds", replicaDataSourceNames), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWhenAllReplicasLagged() {
+        Properties props = new Properties();
+        props.setProperty("max-replication-lag-milliseconds", "1000");
+        record("test_replica_ds_1", 1000000L);
+        record("test_replica_ds_2", 10000000L);
+        latencies.get("test_replica_ds_1").setReplicationLagMillis(5000L);
+        latencies.get("test_replica_ds_2").setReplicationLagMillis(Long.MAX_VALUE);
+        assertThat(createAlgorithm(props).getDataSource("ds", "test_primary_ds", replicaDataSourceNames), is("test_replica_ds_1"));
+    }
+    
+    private LeastLatencyReplicaLoadBalanceAlgorithm createAlgorithm(final Properties props) {
+        LeastLatencyReplicaLoadBalanceAlgorithm result = new LeastLatencyReplicaLoadBalanceAlgorithm();
+        result.setProps(props);
+        result.init();
+        result.setDataSourceLatencies(latencies);
+        return result;
+    }
+    
+    private void record(final String dataSourceName, final long elapsedNanos) {
+        DataSourceLatency latency = latencies.get(dataSourceName);
+        latency.start();
+        latency.finish(elapsedNanos);
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutRegisteredLatencies() {
+        LeastLatencyReplicaLoadBalanceAlgorithm algorithm = new LeastLatencyReplicaLoadBalanceAlgorithm();
+        algorithm.init();
+        assertThat(algorithm.getDataSource("ds", "test_primary_ds", Collections.singletonList("test_replica_ds_1")), is("test_replica_ds_1"));
+    }
+}
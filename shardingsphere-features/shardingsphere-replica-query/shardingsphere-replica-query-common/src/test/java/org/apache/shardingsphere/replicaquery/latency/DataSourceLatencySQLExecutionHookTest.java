@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DataSourceLatencySQLExecutionHookTest {
+    
+    @After
+    public void tearDown() {
+        DataSourceLatencyRegistry.clear();
+    }
+    
+    @Test
+    public void assertStartAndFinishWithRegisteredDataSource() {
+        DataSourceMetaData dataSourceMetaData = createDataSourceMetaData("127.0.0.1", "replica_ds");
+        DataSourceLatency latency = DataSourceLatencyRegistry.register(dataSourceMetaData);
+        DataSourceLatencySQLExecutionHook hook = new DataSourceLatencySQLExecutionHook();
+        hook.start("ds", "SELECT 1", Collections.emptyList(), createDataSourceMetaData("127.0.0.1", "replica_ds"), true, null);
+        assertThat(latency.getInFlightCount(), is(1));
+        hook.finishFailure(new RuntimeException());
+        assertThat(latency.getInFlightCount(), is(0));
+        hook.finishSuccess();
+        assertThat(latency.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertStartAndFinishWithUnregisteredDataSource() {
+        DataSourceLatency latency = DataSourceLatencyRegistry.register(createDataSourceMetaData("127.0.0.1", "replica_ds"));
+        DataSourceLatencySQLExecutionHook hook = new DataSourceLatencySQLExecutionHook();
+        hook.start("replica_ds", "SELECT 1", Collections.emptyList(), createDataSourceMetaData("127.0.0.2", "replica_ds"), true, null);
+        hook.finishSuccess();
+        assertThat(latency.getInFlightCount(), is(0));
+        assertFalse(DataSourceLatencyRegistry.find(createDataSourceMetaData("127.0.0.2", "replica_ds")).isPresent());
+    }
+    
+    private DataSourceMetaData createDataSourceMetaData(final String hostName, final String catalog) {
+        DataSourceMetaData result = mock(DataSourceMetaData.class);
+        when(result.getHostName()).thenReturn(hostName);
+        when(result.getPort()).thenReturn(3306);
+        when(result.getCatalog()).thenReturn(catalog);
+        return result;
+    }
+}
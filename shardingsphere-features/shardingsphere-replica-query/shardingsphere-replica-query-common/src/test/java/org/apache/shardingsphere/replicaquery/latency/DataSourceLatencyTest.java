@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceLatencyTest {
+    
+    @Test
+    public void assertGetP95NanosWithoutEnoughSamples() {
+        DataSourceLatency latency = new DataSourceLatency();
+        latency.start();
+        latency.finish(100L);
+        assertThat(latency.getP95Nanos(), is(-1L));
+    }
+    
+    @Test
+    public void assertGetP95Nanos() {
+        DataSourceLatency latency = new DataSourceLatency();
+        for (int i = 1; i <= 100; i++) {
+            latency.start();
+            latency.finish(i);
+        }
+        assertThat(latency.getP95Nanos(), is(95L));
+        assertThat(latency.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertIsNotStalledWithoutInFlight() {
+        DataSourceLatency latency = new DataSourceLatency();
+        for (int i = 0; i < 100; i++) {
+            latency.start();
+            latency.finish(1L);
+        }
+        assertFalse(latency.isStalled());
+    }
+    
+    @Test
+    public void assertIsStalled() throws InterruptedException {
+        DataSourceLatency latency = new DataSourceLatency();
+        for (int i = 0; i < 100; i++) {
+            latency.start();
+            latency.finish(1L);
+        }
+        latency.start();
+        assertFalse(latency.isStalled());
+        TimeUnit.MILLISECONDS.sleep(20L);
+        assertTrue(latency.isStalled());
+        latency.finish(TimeUnit.MILLISECONDS.toNanos(20L));
+        assertFalse(latency.isStalled());
+    }
+}
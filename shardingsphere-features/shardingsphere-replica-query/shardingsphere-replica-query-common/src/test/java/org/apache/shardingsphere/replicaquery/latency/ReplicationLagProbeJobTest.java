@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.replicaquery.latency;
+
+import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public final class ReplicationLagProbeJobTest {
+    
+    private final ReplicaQueryRule rule = mock(ReplicaQueryRule.class);
+    
+    private final DataSourceLatency latency = new DataSourceLatency();
+    
+    private final Map<String, DataSourceLatency> latencies = Collections.singletonMap("replica_ds", latency);
+    
+    @Test
+    public void assertRun() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicationLagProbeSQL.MYSQL.getSql())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(2L);
+        new ReplicationLagProbeJob("logic_db", new WeakReference<>(rule), Collections.singletonMap("replica_ds", dataSource), latencies, ReplicationLagProbeSQL.MYSQL).run();
+        assertThat(latency.getReplicationLagMillis(), is(2000L));
+    }
+    
+    @Test
+    public void assertRunWithUnreachableReplica() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        latency.setReplicationLagMillis(0L);
+        new ReplicationLagProbeJob("logic_db", new WeakReference<>(rule), Collections.singletonMap("replica_ds", dataSource), latencies, ReplicationLagProbeSQL.MYSQL).run();
+        assertThat(latency.getReplicationLagMillis(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertRunWithUnexpectedException() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicationLagProbeSQL.MYSQL.getSql())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenThrow(new NumberFormatException("NULL"));
+        latency.setReplicationLagMillis(0L);
+        new ReplicationLagProbeJob("logic_db", new WeakReference<>(rule), Collections.singletonMap("replica_ds", dataSource), latencies, ReplicationLagProbeSQL.MYSQL).run();
+        assertThat(latency.getReplicationLagMillis(), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertRunAfterRuleReleased() {
+        DataSource dataSource = mock(DataSource.class);
+        ScheduledFuture<?> scheduledFuture = mock(ScheduledFuture.class);
+        ReplicationLagProbeJob job = new ReplicationLagProbeJob("logic_db", new WeakReference<>(null), Collections.singletonMap("replica_ds", dataSource), latencies, ReplicationLagProbeSQL.MYSQL);
+        job.setScheduledFuture(scheduledFuture);
+        job.run();
+        verify(scheduledFuture).cancel(false);
+        verifyZeroInteractions(dataSource);
+    }
+}
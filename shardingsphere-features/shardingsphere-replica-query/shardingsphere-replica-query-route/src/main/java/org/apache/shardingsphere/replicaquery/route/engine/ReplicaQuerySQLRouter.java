@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.replicaquery.route.engine;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -43,7 +44,7 @@ public final class ReplicaQuerySQLRouter implements SQLRouter<ReplicaQueryRule>
     @Override
     public RouteContext createRouteContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ReplicaQueryRule rule, final ConfigurationProperties props) {
         RouteContext result = new RouteContext();
-        String dataSourceName = new ReplicaQueryDataSourceRouter(rule.getSingleDataSourceRule()).route(logicSQL.getSqlStatementContext().getSqlStatement());
+        String dataSourceName = createDataSourceRouter(rule.getSingleDataSourceRule(), metaData, props).route(logicSQL.getSqlStatementContext().getSqlStatement());
         result.getRouteUnits().add(new RouteUnit(new RouteMapper(DefaultSchema.LOGIC_NAME, dataSourceName), Collections.emptyList()));
         return result;
     }
@@ -58,7 +59,7 @@ public final class ReplicaQuerySQLRouter implements SQLRouter<ReplicaQueryRule>
             Optional<ReplicaQueryDataSourceRule> dataSourceRule = rule.findDataSourceRule(dataSourceName);
             if (dataSourceRule.isPresent() && dataSourceRule.get().getName().equalsIgnoreCase(each.getDataSourceMapper().getActualName())) {
                 toBeRemoved.add(each);
-                String actualDataSourceName = new ReplicaQueryDataSourceRouter(dataSourceRule.get()).route(logicSQL.getSqlStatementContext().getSqlStatement());
+                String actualDataSourceName = createDataSourceRouter(dataSourceRule.get(), metaData, props).route(logicSQL.getSqlStatementContext().getSqlStatement());
                 toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), actualDataSourceName), each.getTableMappers()));
             }
         }
@@ -66,6 +67,11 @@ public final class ReplicaQuerySQLRouter implements SQLRouter<ReplicaQueryRule>
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private ReplicaQueryDataSourceRouter createDataSourceRouter(final ReplicaQueryDataSourceRule dataSourceRule, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.REPLICA_QUERY_STALLED_REPLICA_AVOIDANCE_ENABLED)
+                ? new ReplicaQueryDataSourceRouter(dataSourceRule, metaData.getResource().getDataSourcesMetaData()) : new ReplicaQueryDataSourceRouter(dataSourceRule);
+    }
+    
     @Override
     public int getOrder() {
         return ReplicaQueryOrder.ORDER;
@@ -18,20 +18,34 @@
 package org.apache.shardingsphere.replicaquery.route.engine.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.replicaquery.latency.DataSourceLatency;
+import org.apache.shardingsphere.replicaquery.latency.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryDataSourceRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.Optional;
+
 /**
  * Data source router for replica query.
+ * 
+ * <p>Stalled replica is avoided only if data sources meta data is provided.</p>
  */
 @RequiredArgsConstructor
 public final class ReplicaQueryDataSourceRouter {
     
     private final ReplicaQueryDataSourceRule rule;
     
+    private final DataSourcesMetaData dataSourcesMetaData;
+    
+    public ReplicaQueryDataSourceRouter(final ReplicaQueryDataSourceRule rule) {
+        this(rule, null);
+    }
+    
     /**
      * Route.
      * 
@@ -43,7 +57,33 @@ public final class ReplicaQueryDataSourceRouter {
             PrimaryVisitedManager.setPrimaryVisited();
             return rule.getPrimaryDataSourceName();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getPrimaryDataSourceName(), rule.getReplicaDataSourceNames());
+        String result = rule.getLoadBalancer().getDataSource(rule.getName(), rule.getPrimaryDataSourceName(), rule.getReplicaDataSourceNames());
+        return null != dataSourcesMetaData && isStalled(result) ? findAvailableReplica(result) : result;
+    }
+    
+    private String findAvailableReplica(final String stalledReplicaName) {
+        String result = stalledReplicaName;
+        int minInFlightCount = Integer.MAX_VALUE;
+        for (String each : rule.getReplicaDataSourceNames()) {
+            if (each.equals(stalledReplicaName) || isStalled(each)) {
+                continue;
+            }
+            int inFlightCount = findLatency(each).map(DataSourceLatency::getInFlightCount).orElse(0);
+            if (inFlightCount < minInFlightCount) {
+                result = each;
+                minInFlightCount = inFlightCount;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isStalled(final String dataSourceName) {
+        return findLatency(dataSourceName).map(DataSourceLatency::isStalled).orElse(false);
+    }
+    
+    private Optional<DataSourceLatency> findLatency(final String dataSourceName) {
+        DataSourceMetaData dataSourceMetaData = dataSourcesMetaData.getDataSourceMetaData(dataSourceName);
+        return null == dataSourceMetaData ? Optional.empty() : Optional.of(DataSourceLatencyRegistry.register(dataSourceMetaData));
     }
     
     private boolean isPrimaryRoute(final SQLStatement sqlStatement) {
@@ -19,8 +19,12 @@ package org.apache.shardingsphere.replicaquery.route.engine;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.DatabaseAccessConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -32,6 +36,8 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 import org.apache.shardingsphere.replicaquery.api.config.ReplicaQueryRuleConfiguration;
 import org.apache.shardingsphere.replicaquery.api.config.rule.ReplicaQueryDataSourceRuleConfiguration;
+import org.apache.shardingsphere.replicaquery.latency.DataSourceLatency;
+import org.apache.shardingsphere.replicaquery.latency.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.replicaquery.route.engine.impl.PrimaryVisitedManager;
 import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.LockSegment;
@@ -45,8 +51,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -67,6 +76,8 @@ public final class ReplicaQuerySQLRouterTest {
     
     private static final String REPLICA_DATASOURCE = "query";
     
+    private static final String STALLED_REPLICA_DATASOURCE = "stalled_query";
+    
     private ReplicaQueryRule rule;
     
     @Mock
@@ -88,6 +99,7 @@ public final class ReplicaQuerySQLRouterTest {
     @After
     public void tearDown() {
         PrimaryVisitedManager.clear();
+        DataSourceLatencyRegistry.clear();
     }
     
     @Test
@@ -179,6 +191,37 @@ public final class ReplicaQuerySQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(PRIMARY_DATASOURCE));
     }
     
+    @Test
+    public void assertCreateRouteContextToReplicaDataSourceWithStalledReplica() throws InterruptedException {
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "", Collections.emptyList());
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigs = new LinkedHashMap<>(2, 1);
+        databaseAccessConfigs.put(REPLICA_DATASOURCE, new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/replica_ds", "root"));
+        databaseAccessConfigs.put(STALLED_REPLICA_DATASOURCE, new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.2:3306/replica_ds", "root"));
+        DataSourcesMetaData dataSourcesMetaData = new DataSourcesMetaData(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), databaseAccessConfigs);
+        ShardingSphereResource resource = mock(ShardingSphereResource.class);
+        when(resource.getDataSourcesMetaData()).thenReturn(dataSourcesMetaData);
+        DataSourceLatency stalledLatency = DataSourceLatencyRegistry.register(dataSourcesMetaData.getDataSourceMetaData(STALLED_REPLICA_DATASOURCE));
+        for (int i = 0; i < 32; i++) {
+            stalledLatency.start();
+            stalledLatency.finish(1L);
+        }
+        stalledLatency.start();
+        Thread.sleep(20L);
+        ReplicaQueryRule stalledReplicaRule = new ReplicaQueryRule(new ReplicaQueryRuleConfiguration(Collections.singleton(new ReplicaQueryDataSourceRuleConfiguration(
+                DATASOURCE_NAME, PRIMARY_DATASOURCE, Arrays.asList(REPLICA_DATASOURCE, STALLED_REPLICA_DATASOURCE), null)), Collections.emptyMap()));
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.singleton(stalledReplicaRule));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema", resource, ruleMetaData, mock(ShardingSphereSchema.class));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.REPLICA_QUERY_STALLED_REPLICA_AVOIDANCE_ENABLED.getKey(), Boolean.TRUE.toString());
+        for (int i = 0; i < 10; i++) {
+            RouteContext actual = sqlRouter.createRouteContext(logicSQL, metaData, stalledReplicaRule, new ConfigurationProperties(props));
+            assertThat(actual.getActualDataSourceNames().iterator().next(), is(REPLICA_DATASOURCE));
+        }
+    }
+    
     private RouteContext mockRouteContext() {
         RouteContext result = new RouteContext();
         RouteUnit routeUnit = new RouteUnit(new RouteMapper(DATASOURCE_NAME, DATASOURCE_NAME), Collections.singletonList(new RouteMapper("table", "table_0")));
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.condition;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.List;
+
+/**
+ * Shadow value accessor, which reads value of shadow column from parameter index or literal.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShadowValueAccessor {
+    
+    private final int parameterIndex;
+    
+    private final Object literal;
+    
+    public ShadowValueAccessor(final int parameterIndex) {
+        this(parameterIndex, null);
+    }
+    
+    public ShadowValueAccessor(final ExpressionSegment expressionSegment) {
+        this(expressionSegment instanceof ParameterMarkerExpressionSegment ? ((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex() : -1,
+                expressionSegment instanceof LiteralExpressionSegment ? ((LiteralExpressionSegment) expressionSegment).getLiterals() : null);
+    }
+    
+    /**
+     * Get value of shadow column.
+     *
+     * @param parameters SQL parameters
+     * @return value of shadow column
+     */
+    public Object getValue(final List<Object> parameters) {
+        return parameterIndex < 0 ? literal : parameters.get(parameterIndex);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.condition;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionBuilder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+
+/**
+ * Shadow value accessor engine.
+ */
+@RequiredArgsConstructor
+public final class ShadowValueAccessorEngine {
+    
+    private final ShadowRule shadowRule;
+    
+    /**
+     * Create shadow value accessors.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return shadow value accessors, SQL is shadow if any of them reads shadow value
+     */
+    public Collection<ShadowValueAccessor> createShadowValueAccessors(final SQLStatementContext<?> sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return createInsertShadowValueAccessors((InsertStatementContext) sqlStatementContext);
+        }
+        if (!(sqlStatementContext instanceof WhereAvailable)) {
+            return Collections.emptyList();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
+        if (!whereSegment.isPresent()) {
+            return Collections.emptyList();
+        }
+        Collection<ShadowValueAccessor> result = new LinkedList<>();
+        for (AndPredicate each : new ExpressionBuilder(whereSegment.get().getExpr()).extractAndPredicates().getAndPredicates()) {
+            createShadowValueAccessor(each.getPredicates()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private Collection<ShadowValueAccessor> createInsertShadowValueAccessors(final InsertStatementContext insertStatementContext) {
+        int count = 0;
+        for (ColumnSegment each : insertStatementContext.getSqlStatement().getColumns()) {
+            if (each.getIdentifier().getValue().equals(shadowRule.getColumn())) {
+                return Collections.singletonList(new ShadowValueAccessor(count));
+            }
+            count++;
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<ShadowValueAccessor> createShadowValueAccessor(final Collection<ExpressionSegment> predicates) {
+        for (ExpressionSegment each : predicates) {
+            if (!(each instanceof BinaryOperationExpression) || !(((BinaryOperationExpression) each).getLeft() instanceof ColumnSegment)) {
+                continue;
+            }
+            ColumnSegment column = (ColumnSegment) ((BinaryOperationExpression) each).getLeft();
+            ExpressionSegment right = ((BinaryOperationExpression) each).getRight();
+            if (column.getIdentifier().getValue().equals(shadowRule.getColumn()) && (right instanceof LiteralExpressionSegment || right instanceof ParameterMarkerExpressionSegment)) {
+                return Optional.of(new ShadowValueAccessor(right));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -17,10 +17,18 @@
 
 package org.apache.shardingsphere.shadow.rule;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.shadow.api.config.ShadowRuleConfiguration;
+import org.apache.shardingsphere.shadow.condition.ShadowValueAccessor;
+import org.apache.shardingsphere.shadow.condition.ShadowValueAccessorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +42,9 @@ public final class ShadowRule implements ShardingSphereRule {
     
     private final String column;
     
+    @Getter(AccessLevel.NONE)
+    private final Cache<SQLStatement, Collection<ShadowValueAccessor>> shadowValueAccessorCache = CacheBuilder.newBuilder().weakKeys().build();
+    
     public ShadowRule(final ShadowRuleConfiguration shadowRuleConfig) {
         column = shadowRuleConfig.getColumn();
         shadowMappings = new HashMap<>(shadowRuleConfig.getShadowDataSourceNames().size());
@@ -41,4 +52,23 @@ public final class ShadowRule implements ShardingSphereRule {
             shadowMappings.put(shadowRuleConfig.getSourceDataSourceNames().get(i), shadowRuleConfig.getShadowDataSourceNames().get(i));
         }
     }
+    
+    /**
+     * Get shadow value accessors.
+     * 
+     * <p>
+     * Accessors are created once for each parsed SQL statement, prepared statements reuse them for every execution.
+     * </p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return shadow value accessors
+     */
+    public Collection<ShadowValueAccessor> getShadowValueAccessors(final SQLStatementContext<?> sqlStatementContext) {
+        Collection<ShadowValueAccessor> result = shadowValueAccessorCache.getIfPresent(sqlStatementContext.getSqlStatement());
+        if (null == result) {
+            result = new ShadowValueAccessorEngine(this).createShadowValueAccessors(sqlStatementContext);
+            shadowValueAccessorCache.put(sqlStatementContext.getSqlStatement(), result);
+        }
+        return result;
+    }
 }
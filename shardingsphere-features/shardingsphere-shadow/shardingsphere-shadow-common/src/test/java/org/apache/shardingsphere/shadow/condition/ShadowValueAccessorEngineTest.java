@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.condition;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.shadow.api.config.ShadowRuleConfiguration;
+import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShadowValueAccessorEngineTest {
+    
+    private final ShadowRule shadowRule = new ShadowRule(new ShadowRuleConfiguration("shadow", Collections.singletonList("ds"), Collections.singletonList("shadow_ds")));
+    
+    @Test
+    public void assertCreateShadowValueAccessorsWithParameter() {
+        ExpressionSegment shadowExpression = createEqualsExpression("shadow", new ParameterMarkerExpressionSegment(0, 0, 1));
+        BinaryOperationExpression expression = new BinaryOperationExpression(0, 0, createEqualsExpression("id", new ParameterMarkerExpressionSegment(0, 0, 0)), shadowExpression, "and", "");
+        Collection<ShadowValueAccessor> actual = new ShadowValueAccessorEngine(shadowRule).createShadowValueAccessors(createSelectStatementContext(expression));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getValue(Arrays.asList(1, true)), is(true));
+    }
+    
+    @Test
+    public void assertCreateShadowValueAccessorsWithLiteral() {
+        ExpressionSegment shadowExpression = createEqualsExpression("shadow", new LiteralExpressionSegment(0, 0, "true"));
+        Collection<ShadowValueAccessor> actual = new ShadowValueAccessorEngine(shadowRule).createShadowValueAccessors(createSelectStatementContext(shadowExpression));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getValue(Collections.emptyList()), is("true"));
+    }
+    
+    @Test
+    public void assertCreateShadowValueAccessorsWithoutShadowColumn() {
+        ExpressionSegment expression = createEqualsExpression("id", new ParameterMarkerExpressionSegment(0, 0, 0));
+        assertTrue(new ShadowValueAccessorEngine(shadowRule).createShadowValueAccessors(createSelectStatementContext(expression)).isEmpty());
+    }
+    
+    private ExpressionSegment createEqualsExpression(final String columnName, final ExpressionSegment right) {
+        return new BinaryOperationExpression(0, 0, new ColumnSegment(0, 0, new IdentifierValue(columnName)), right, "=", "");
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final ExpressionSegment expression) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setWhere(new WhereSegment(0, 0, expression));
+        return new SelectStatementContext(selectStatement, null, null, null, null);
+    }
+}
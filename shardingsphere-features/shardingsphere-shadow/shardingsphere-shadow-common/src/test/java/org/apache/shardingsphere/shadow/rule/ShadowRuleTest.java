@@ -17,14 +17,18 @@
 
 package org.apache.shardingsphere.shadow.rule;
 
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.shadow.api.config.ShadowRuleConfiguration;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShadowRuleTest {
     
@@ -38,6 +42,15 @@ public final class ShadowRuleTest {
         assertShadowRule(createShadowRule());
     }
     
+    @Test
+    public void assertGetShadowValueAccessorsOncePerSQLStatement() {
+        ShadowRule rule = createShadowRule();
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        SelectStatementContext sqlStatementContext = new SelectStatementContext(selectStatement, null, null, null, null);
+        assertTrue(rule.getShadowValueAccessors(sqlStatementContext).isEmpty());
+        assertSame(rule.getShadowValueAccessors(sqlStatementContext), rule.getShadowValueAccessors(new SelectStatementContext(selectStatement, null, null, null, null)));
+    }
+    
     private ShadowRule createShadowRule() {
         return new ShadowRule(new ShadowRuleConfiguration("shadow", Arrays.asList("ds", "ds1"), Arrays.asList("shadow_ds", "shadow_ds1")));
     }
@@ -72,15 +72,14 @@ public final class ShadowSQLRouter implements SQLRouter<ShadowRule> {
             routeContext.getRouteUnits().addAll(toBeAdded);
             return;
         }
-        Collection<RouteUnit> toBeRemoved = new LinkedList<>();
-        if (isShadow(logicSQL.getSqlStatementContext(), logicSQL.getParameters(), rule)) {
-            for (RouteUnit each : routeContext.getRouteUnits()) {
-                toBeRemoved.add(each);
-                String shadowDataSourceName = rule.getShadowMappings().get(each.getDataSourceMapper().getActualName());
-                toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), shadowDataSourceName), each.getTableMappers()));
-            }
+        if (!isShadow(logicSQL.getSqlStatementContext(), logicSQL.getParameters(), rule)) {
+            return;
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String shadowDataSourceName = rule.getShadowMappings().get(each.getDataSourceMapper().getActualName());
+            toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), shadowDataSourceName), each.getTableMappers()));
         }
-        routeContext.getRouteUnits().removeAll(toBeRemoved);
+        routeContext.getRouteUnits().clear();
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
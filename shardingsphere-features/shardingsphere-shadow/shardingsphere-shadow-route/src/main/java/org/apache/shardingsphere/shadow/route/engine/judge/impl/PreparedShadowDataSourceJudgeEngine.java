@@ -17,27 +17,13 @@
 
 package org.apache.shardingsphere.shadow.route.engine.judge.impl;
 
-import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.shadow.route.engine.judge.ShadowDataSourceJudgeEngine;
 import org.apache.shardingsphere.shadow.route.engine.judge.util.ShadowValueJudgeUtil;
 import org.apache.shardingsphere.shadow.rule.ShadowRule;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
-import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
-import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
-import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionBuilder;
 
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Prepared shadow data source judge engine.
@@ -53,61 +39,6 @@ public final class PreparedShadowDataSourceJudgeEngine implements ShadowDataSour
     
     @Override
     public boolean isShadow() {
-        if (sqlStatementContext instanceof InsertStatementContext) {
-            Collection<ColumnSegment> columnSegments = (((InsertStatementContext) sqlStatementContext).getSqlStatement()).getColumns();
-            int count = 0;
-            for (ColumnSegment each : columnSegments) {
-                if (each.getIdentifier().getValue().equals(shadowRule.getColumn())) {
-                    return ShadowValueJudgeUtil.isShadowValue(parameters.get(count));
-                }
-                count++;
-            }
-            return false;
-        }
-        if (!(sqlStatementContext instanceof WhereAvailable)) {
-            return false;
-        }
-        Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
-        if (!whereSegment.isPresent()) {
-            return false;
-        }
-        ExpressionSegment expression = whereSegment.get().getExpr();
-        ExpressionBuilder expressionBuilder = new ExpressionBuilder(expression);
-        Collection<AndPredicate> andPredicates = new LinkedList<>(expressionBuilder.extractAndPredicates().getAndPredicates());
-        for (AndPredicate andPredicate : andPredicates) {
-            if (judgePredicateSegments(andPredicate.getPredicates())) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    private boolean judgePredicateSegments(final Collection<ExpressionSegment> predicates) {
-        for (ExpressionSegment each : predicates) {
-            if (!(each instanceof BinaryOperationExpression)) {
-                continue;
-            }
-            BinaryOperationExpression expression = (BinaryOperationExpression) each;
-            ColumnSegment column = null;
-            ExpressionSegment right = null;
-            if (expression.getLeft() instanceof ColumnSegment) {
-                column = (ColumnSegment) ((BinaryOperationExpression) each).getLeft();
-                right = ((BinaryOperationExpression) each).getRight();
-            }
-            if (null == column) {
-                continue;
-            }
-            if (column.getIdentifier().getValue().equals(shadowRule.getColumn())) {
-                Preconditions.checkArgument(each instanceof BinaryOperationExpression, "must be BinaryOperationExpression");
-                if (right instanceof LiteralExpressionSegment) {
-                    return ShadowValueJudgeUtil.isShadowValue(((LiteralExpressionSegment) right).getLiterals());
-                }
-                if (right instanceof ParameterMarkerExpressionSegment) {
-                    int parameterMarkerIndex = ((ParameterMarkerExpressionSegment) right).getParameterMarkerIndex();
-                    return ShadowValueJudgeUtil.isShadowValue(parameters.get(parameterMarkerIndex));
-                }
-            }
-        }
-        return false;
+        return shadowRule.getShadowValueAccessors(sqlStatementContext).stream().anyMatch(each -> ShadowValueJudgeUtil.isShadowValue(each.getValue(parameters)));
     }
 }
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.sharding.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * Key generate algorithm.
  */
@@ -31,4 +34,18 @@ public interface KeyGenerateAlgorithm extends ShardingSphereAlgorithm, ShardingS
      * @return generated key
      */
     Comparable<?> generateKey();
+    
+    /**
+     * Generate keys.
+     * 
+     * @param count count of keys
+     * @return generated keys
+     */
+    default Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
 }
@@ -23,8 +23,11 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -36,6 +39,8 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last milliseconds and sequence are packed into one atomic long, keys are reserved by compare and set without lock.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
     
@@ -78,11 +83,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMilliseconds;
     
-    private int sequenceOffset = -1;
-    
-    private long sequence;
+    private volatile int sequenceOffset = -1;
     
-    private long lastMilliseconds;
+    private final AtomicLong lastMillisecondsAndSequence = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -118,25 +121,60 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Comparable<?> generateKey() {
+        long reserved = reserve(1);
+        return toKey(reserved >>> SEQUENCE_BITS, reserved & SEQUENCE_MASK);
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            int remaining = count - result.size();
+            long reserved = reserve(remaining);
+            long milliseconds = reserved >>> SEQUENCE_BITS;
+            long firstSequence = reserved & SEQUENCE_MASK;
+            long lastSequence = Math.min(firstSequence + remaining - 1, SEQUENCE_MASK);
+            for (long each = firstSequence; each <= lastSequence; each++) {
+                result.add(toKey(milliseconds, each));
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long reserve(final int count) {
+        while (true) {
+            long last = lastMillisecondsAndSequence.get();
+            long lastMilliseconds = last >>> SEQUENCE_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            int currentSequenceOffset = sequenceOffset;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = (last + 1) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                currentSequenceOffset = vibrateSequenceOffset(currentSequenceOffset);
+                firstSequence = currentSequenceOffset;
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (lastMillisecondsAndSequence.compareAndSet(last, currentMilliseconds << SEQUENCE_BITS | lastSequence)) {
+                sequenceOffset = currentSequenceOffset;
+                return currentMilliseconds << SEQUENCE_BITS | firstSequence;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long toKey(final long milliseconds, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -155,8 +193,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset(final int currentSequenceOffset) {
+        return currentSequenceOffset >= maxVibrationOffset ? 0 : currentSequenceOffset + 1;
     }
     
     @Override
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Target name index cache.
+ * 
+ * <p>Available target names of a table rule are stable collections, so indexes are cached by collection identity.
+ * Entries are bounded by least recently used order and released with their collections.</p>
+ *
+ * @param <T> type of target name index
+ */
+public final class TargetNameIndexCache<T> {
+    
+    private static final int MAX_CACHED_INDEX_COUNT = 1024;
+    
+    private final Cache<Collection<String>, T> indexes = CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_INDEX_COUNT).build();
+    
+    private final Function<Collection<String>, T> indexCreator;
+    
+    public TargetNameIndexCache(final Function<Collection<String>, T> indexCreator) {
+        this.indexCreator = indexCreator;
+    }
+    
+    /**
+     * Get target name index, create it if absent.
+     *
+     * @param availableTargetNames available target names
+     * @return target name index
+     */
+    public T get(final Collection<String> availableTargetNames) {
+        T result = indexes.getIfPresent(availableTargetNames);
+        if (null == result) {
+            result = indexCreator.apply(availableTargetNames);
+            indexes.put(availableTargetNames, result);
+        }
+        return result;
+    }
+}
@@ -22,18 +22,28 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAlgorithmException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -71,6 +81,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private Set<Integer> tableSuffixLengths;
+    
+    private volatile TargetNameIndexCache<Map<String, Collection<String>>> suffixIndexes = new TargetNameIndexCache<>(this::createSuffixIndex);
+    
     @Override
     public void init() {
         String dateTimePattern = getDateTimePattern();
@@ -81,6 +95,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern();
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        tableSuffixLengths = getTableSuffixLengths();
+        suffixIndexes = new TargetNameIndexCache<>(this::createSuffixIndex);
     }
     
     private String getDateTimePattern() {
@@ -119,11 +135,22 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         throw new UnsupportedOperationException(String.format("Cannot find step unit for specified %s property: `%s`", INTERVAL_UNIT_KEY, stepUnit));
     }
     
+    private Set<Integer> getTableSuffixLengths() {
+        Set<Integer> result = new TreeSet<>();
+        result.add(dateTimeLower.format(tableSuffixPattern).length());
+        result.add(dateTimeUpper.format(tableSuffixPattern).length());
+        result.add(LocalDateTime.of(dateTimeLower.getYear(), 1, 1, 0, 0, 0).format(tableSuffixPattern).length());
+        result.add(LocalDateTime.of(dateTimeLower.getYear(), 12, 31, 23, 59, 59).format(tableSuffixPattern).length());
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        return availableTargetNames.stream()
-                .filter(each -> each.endsWith(parseDateTime(shardingValue.getValue().toString()).format(tableSuffixPattern)))
-                .findFirst().orElseThrow(() -> new ShardingAlgorithmException(String.format("failed to shard value %s, and availableTables %s", shardingValue, availableTargetNames)));
+        Collection<String> result = getMatchedTables(toDateTime(shardingValue.getValue()), availableTargetNames, suffixIndexes.get(availableTargetNames));
+        if (result.isEmpty()) {
+            throw new ShardingAlgorithmException(String.format("failed to shard value %s, and availableTables %s", shardingValue, availableTargetNames));
+        }
+        return result.iterator().next();
     }
     
     @Override
@@ -133,25 +160,59 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         if (!hasStartTime && !hasEndTime) {
             return availableTargetNames;
         }
-        LocalDateTime startTime = hasStartTime ? parseDateTime(shardingValue.getValueRange().lowerEndpoint().toString()) : dateTimeLower;
-        LocalDateTime endTime = hasEndTime ? parseDateTime(shardingValue.getValueRange().upperEndpoint().toString()) : dateTimeUpper;
-        LocalDateTime calculateTime = startTime;
+        LocalDateTime startTime = hasStartTime ? toDateTime(shardingValue.getValueRange().lowerEndpoint()) : dateTimeLower;
+        LocalDateTime endTime = hasEndTime ? toDateTime(shardingValue.getValueRange().upperEndpoint()) : dateTimeUpper;
+        Map<String, Collection<String>> suffixIndex = suffixIndexes.get(availableTargetNames);
         Set<String> result = new HashSet<>();
-        while (!calculateTime.isAfter(endTime)) {
-            result.addAll(getMatchedTables(calculateTime, availableTargetNames));
-            calculateTime = calculateTime.plus(stepAmount, stepUnit);
+        long lastStep = startTime.isAfter(endTime) ? -1L : stepUnit.between(startTime, endTime) / stepAmount;
+        for (long step = 0L; step <= lastStep; step++) {
+            result.addAll(getMatchedTables(startTime.plus(step * stepAmount, stepUnit), availableTargetNames, suffixIndex));
         }
-        result.addAll(getMatchedTables(endTime, availableTargetNames));
+        result.addAll(getMatchedTables(endTime, availableTargetNames, suffixIndex));
         return result;
     }
     
+    private LocalDateTime toDateTime(final Comparable<?> value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().atStartOfDay();
+        }
+        if (value instanceof Date) {
+            return LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault());
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+        return parseDateTime(value.toString());
+    }
+    
     private LocalDateTime parseDateTime(final String value) {
         return LocalDateTime.parse(value.substring(0, dateTimePatternLength), dateTimeFormatter);
     }
     
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
+    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames, final Map<String, Collection<String>> suffixIndex) {
         String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        if (tableSuffixLengths.contains(tableSuffix.length())) {
+            return suffixIndex.getOrDefault(tableSuffix, Collections.emptyList());
+        }
+        return availableTargetNames.stream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toList());
+    }
+    
+    private Map<String, Collection<String>> createSuffixIndex(final Collection<String> availableTargetNames) {
+        Map<String, Collection<String>> result = new HashMap<>(availableTargetNames.size() * tableSuffixLengths.size(), 1);
+        for (String each : availableTargetNames) {
+            for (int suffixLength : tableSuffixLengths) {
+                if (each.length() >= suffixLength) {
+                    result.computeIfAbsent(each.substring(each.length() - suffixLength), key -> new LinkedList<>()).add(each);
+                }
+            }
+        }
+        return result;
     }
     
     @Override
@@ -20,15 +20,19 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Properties;
 
 /**
@@ -38,6 +42,10 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private volatile Map<Integer, Range<Long>> partitionRange;
     
+    private volatile long[] partitionLowerBounds;
+    
+    private volatile TargetNameIndexCache<Map<Integer, Collection<String>>> targetNameIndexes = new TargetNameIndexCache<>(this::createTargetNameIndex);
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -45,26 +53,34 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     @Override
     public final void init() {
         partitionRange = calculatePartitionRange(props);
+        partitionLowerBounds = calculatePartitionLowerBounds(partitionRange);
+        targetNameIndexes = new TargetNameIndexCache<>(this::createTargetNameIndex);
     }
     
     protected abstract Map<Integer, Range<Long>> calculatePartitionRange(Properties props);
     
+    private long[] calculatePartitionLowerBounds(final Map<Integer, Range<Long>> partitionRange) {
+        long[] result = new long[partitionRange.size() - 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = partitionRange.get(i + 1).lowerEndpoint();
+        }
+        return result;
+    }
+    
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(String.valueOf(getPartition(shardingValue.getValue())))).findFirst().orElse(null);
+        Collection<String> result = targetNameIndexes.get(availableTargetNames).get(getPartition(shardingValue.getValue()));
+        return null == result ? null : result.iterator().next();
     }
     
     @Override
     public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Long> shardingValue) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
+        Map<Integer, Collection<String>> targetNameIndex = targetNameIndexes.get(availableTargetNames);
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(partition))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(targetNameIndex.getOrDefault(partition, Collections.emptyList()));
         }
         return result;
     }
@@ -74,16 +90,32 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
     
     private int getLastPartition(final Range<Long> valueRange) {
-        return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
+        return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionLowerBounds.length;
     }
     
-    private Integer getPartition(final Long value) {
-        for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(value)) {
-                return entry.getKey();
+    private int getPartition(final long value) {
+        int result = Arrays.binarySearch(partitionLowerBounds, value);
+        if (result < 0) {
+            return -result - 1;
+        }
+        while (result < partitionLowerBounds.length && partitionLowerBounds[result] == value) {
+            result++;
+        }
+        return result;
+    }
+    
+    private Map<Integer, Collection<String>> createTargetNameIndex(final Collection<String> availableTargetNames) {
+        Map<Integer, Collection<String>> result = new HashMap<>(availableTargetNames.size(), 1);
+        for (String each : availableTargetNames) {
+            int suffixIndex = each.length();
+            while (suffixIndex > 0 && Character.isDigit(each.charAt(suffixIndex - 1))) {
+                suffixIndex--;
+            }
+            if (suffixIndex < each.length() && each.length() - suffixIndex < 10) {
+                result.computeIfAbsent(Integer.parseInt(each.substring(suffixIndex)), key -> new LinkedList<>()).add(each);
             }
         }
-        throw new UnsupportedOperationException("");
+        return result;
     }
     
     @Override
@@ -355,12 +355,26 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -24,7 +24,9 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -32,6 +34,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -72,6 +76,39 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        int taskNumber = threadNumber << 2;
+        Collection<Future<Collection<Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> keyGenerateAlgorithm.generateKeys(5000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * 5000, 1);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 5000));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis());
+        setSequence(keyGenerateAlgorithm, (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(4)), is(Arrays.<Comparable<?>>asList(4094L, 4095L, 4194304L, 4194305L)));
+    }
+    
     @Test
     public void assertLastDigitalOfGenerateKeySameMillisecond() {
         SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
@@ -162,17 +199,21 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerateAlgorithm, value);
+    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long value) {
+        AtomicLong lastMillisecondsAndSequence = getLastMillisecondsAndSequence(keyGenerateAlgorithm);
+        lastMillisecondsAndSequence.set(lastMillisecondsAndSequence.get() >>> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS | value);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long value) {
+        AtomicLong lastMillisecondsAndSequence = getLastMillisecondsAndSequence(keyGenerateAlgorithm);
+        lastMillisecondsAndSequence.set(value << DEFAULT_SEQUENCE_BITS | lastMillisecondsAndSequence.get() & ((1L << DEFAULT_SEQUENCE_BITS) - 1));
+    }
+    
+    private AtomicLong getLastMillisecondsAndSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm) throws ReflectiveOperationException {
+        Field field = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisecondsAndSequence");
+        field.setAccessible(true);
+        return (AtomicLong) field.get(keyGenerateAlgorithm);
     }
     
     @Test(expected = IllegalArgumentException.class)
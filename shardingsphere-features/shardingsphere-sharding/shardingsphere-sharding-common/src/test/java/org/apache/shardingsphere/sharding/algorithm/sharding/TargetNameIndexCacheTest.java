@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TargetNameIndexCacheTest {
+    
+    @Test
+    public void assertGetByIdentity() {
+        AtomicInteger createdCount = new AtomicInteger();
+        TargetNameIndexCache<Integer> cache = new TargetNameIndexCache<>(each -> createdCount.incrementAndGet());
+        Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+        assertThat(cache.get(availableTargetNames), is(1));
+        assertThat(cache.get(availableTargetNames), is(1));
+        assertThat(cache.get(new ArrayList<>(availableTargetNames)), is(2));
+    }
+    
+    @Test
+    public void assertGetWithManyAvailableTargetNames() {
+        AtomicInteger createdCount = new AtomicInteger();
+        TargetNameIndexCache<Integer> cache = new TargetNameIndexCache<>(each -> createdCount.incrementAndGet());
+        List<Collection<String>> availableTargetNamesList = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            availableTargetNamesList.add(Collections.singletonList("t_order_" + i));
+        }
+        for (int i = 0; i < 3; i++) {
+            availableTargetNamesList.forEach(cache::get);
+        }
+        assertThat(createdCount.get(), is(100));
+    }
+}
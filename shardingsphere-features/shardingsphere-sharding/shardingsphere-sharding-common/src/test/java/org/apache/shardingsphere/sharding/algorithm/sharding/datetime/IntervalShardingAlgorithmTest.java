@@ -23,6 +23,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.junit.Before;
 import org.junit.Test;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
@@ -103,6 +104,19 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(7));
     }
     
+    @Test
+    public void assertPreciseDoShardingWithLocalDateTime() {
+        assertThat(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources,
+                new PreciseShardingValue<>("t_order", "create_time", LocalDateTime.of(2020, 1, 1, 0, 0, 1))), is("t_order_202001"));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithTimestamp() {
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, new RangeShardingValue<>("t_order", "create_time",
+                Range.closed(Timestamp.valueOf("2019-10-15 10:59:08"), Timestamp.valueOf("2020-04-08 10:59:08"))));
+        assertThat(actual.size(), is(7));
+    }
+    
     @Test
     public void assertLowerHalfRangeDoSharding() {
         Collection<String> actual = shardingAlgorithmByQuarter.doSharding(
@@ -48,6 +48,13 @@ public final class BoundaryBasedRangeShardingAlgorithmTest {
         assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0L)), is("t_order_0"));
     }
     
+    @Test
+    public void assertPreciseDoShardingWithSameSuffix() {
+        List<String> availableTargetNames = Lists.newArrayList("t_order_11", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 1L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 5L)), is("t_order_2"));
+    }
+    
     @Test
     public void assertRangeDoSharding() {
         List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
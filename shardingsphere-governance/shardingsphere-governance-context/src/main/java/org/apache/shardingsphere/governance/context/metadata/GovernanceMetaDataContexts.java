@@ -24,9 +24,13 @@ import org.apache.shardingsphere.governance.core.event.model.datasource.DataSour
 import org.apache.shardingsphere.governance.core.event.model.datasource.DataSourceChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataAddedEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDeletedEvent;
+import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataRenewedEvent;
 import org.apache.shardingsphere.governance.core.event.model.props.PropertiesChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.SchemaDeletedPersistEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.SchemaPersistEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
 import org.apache.shardingsphere.governance.core.registry.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.schema.GovernanceSchema;
@@ -55,6 +59,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -93,7 +98,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     }
     
     private void persistMetaData() {
-        metaDataContexts.getMetaDataMap().forEach((key, value) -> governanceFacade.getConfigCenter().persistSchema(key, value.getSchema()));
+        metaDataContexts.getMetaDataMap().forEach((key, value) -> ShardingSphereEventBus.getInstance().post(new SchemaPersistEvent(key, value.getSchema())));
     }
     
     @Override
@@ -147,8 +152,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     public synchronized void renew(final MetaDataAddedEvent event) throws SQLException {
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         metaDataMap.put(event.getSchemaName(), createAddedMetaData(event));
-        metaDataContexts = new StandardMetaDataContexts(metaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
-        governanceFacade.getConfigCenter().persistSchema(event.getSchemaName(), metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getSchema());
+        renewMetaDataMap(metaDataMap);
+        ShardingSphereEventBus.getInstance().post(new SchemaPersistEvent(event.getSchemaName(), metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getSchema()));
         ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(), 
                 metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), metaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
     }
@@ -162,8 +167,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     public synchronized void renew(final MetaDataDeletedEvent event) {
         Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         metaDataMap.remove(event.getSchemaName());
-        metaDataContexts = new StandardMetaDataContexts(metaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
-        governanceFacade.getConfigCenter().deleteSchema(event.getSchemaName());
+        renewMetaDataMap(metaDataMap);
+        ShardingSphereEventBus.getInstance().post(new SchemaDeletedPersistEvent(event.getSchemaName()));
     }
     
     /**
@@ -174,7 +179,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final PropertiesChangedEvent event) {
         ConfigurationProperties props = new ConfigurationProperties(event.getProps());
-        metaDataContexts = new StandardMetaDataContexts(getChangedMataDataMap(), metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), props);
+        metaDataContexts = new StandardMetaDataContexts(
+                metaDataContexts.getMetaDataMap(), metaDataContexts.getExecutorEngine(), metaDataContexts.getCalciteContextFactory(), metaDataContexts.getAuthentication(), props);
     }
     
     /**
@@ -184,7 +190,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      */
     @Subscribe
     public synchronized void renew(final AuthenticationChangedEvent event) {
-        metaDataContexts = new StandardMetaDataContexts(metaDataContexts.getMetaDataMap(), metaDataContexts.getExecutorEngine(), event.getAuthentication(), metaDataContexts.getProps());
+        metaDataContexts = new StandardMetaDataContexts(
+                metaDataContexts.getMetaDataMap(), metaDataContexts.getExecutorEngine(), metaDataContexts.getCalciteContextFactory(), event.getAuthentication(), metaDataContexts.getProps());
     }
     
     /**
@@ -195,19 +202,39 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final SchemaChangedEvent event) {
         try {
-            Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap().size(), 1);
-            for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
-                String schemaName = entry.getKey();
-                ShardingSphereMetaData oldMetaData = entry.getValue();
-                ShardingSphereMetaData newMetaData = event.getSchemaName().equals(schemaName) ? getChangedMetaData(oldMetaData, event.getSchema(), schemaName) : oldMetaData;
-                newMetaDataMap.put(schemaName, newMetaData);
+            ShardingSphereMetaData oldMetaData = metaDataContexts.getMetaDataMap().get(event.getSchemaName());
+            if (null != oldMetaData) {
+                renewMetaData(event.getSchemaName(), getChangedMetaData(oldMetaData, event.getSchema(), event.getSchemaName()));
+                Collection<String> tableNames = new HashSet<>(oldMetaData.getSchema().getAllTableNames());
+                tableNames.addAll(event.getSchema().getAllTableNames());
+                ShardingSphereEventBus.getInstance().post(new MetaDataRenewedEvent(event.getSchemaName(), tableNames));
             }
-            metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
         } finally {
-            if (StateContext.getCurrentState() == StateType.LOCK) {
-                StateContext.switchState(new StateEvent(StateType.LOCK, false));
-                governanceFacade.getRegistryCenter().persistInstanceData("");
+            releaseLock();
+        }
+    }
+    
+    /**
+     * Renew meta data of the changed tables.
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataChangedEvent event) {
+        try {
+            ShardingSphereMetaData oldMetaData = metaDataContexts.getMetaDataMap().get(event.getSchemaName());
+            if (null == oldMetaData) {
+                return;
             }
+            ShardingSphereSchema schema = new ShardingSphereSchema(oldMetaData.getSchema().getAllTableNames().stream().collect(Collectors.toMap(each -> each, oldMetaData.getSchema()::get)));
+            event.getChangedTables().forEach(schema::put);
+            event.getDeletedTables().forEach(schema::remove);
+            renewMetaData(event.getSchemaName(), getChangedMetaData(oldMetaData, schema, event.getSchemaName()));
+            Collection<String> tableNames = new HashSet<>(event.getChangedTables().keySet());
+            tableNames.addAll(event.getDeletedTables());
+            ShardingSphereEventBus.getInstance().post(new MetaDataRenewedEvent(event.getSchemaName(), tableNames));
+        } finally {
+            releaseLock();
         }
     }
     
@@ -219,12 +246,10 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      */
     @Subscribe
     public synchronized void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         String schemaName = event.getSchemaName();
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations()));
-        metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
-        governanceFacade.getConfigCenter().persistSchema(schemaName, newMetaDataMap.get(schemaName).getSchema());
+        ShardingSphereMetaData newMetaData = getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations());
+        renewMetaData(schemaName, newMetaData);
+        ShardingSphereEventBus.getInstance().post(new SchemaPersistEvent(schemaName, newMetaData.getSchema()));
     }
     
     /**
@@ -236,12 +261,9 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final DataSourceChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations()));
-        metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
-        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(),
-                metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), newMetaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
+        ShardingSphereMetaData newMetaData = getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations());
+        renewMetaData(schemaName, newMetaData);
+        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(schemaName, newMetaData.getResource().getDatabaseType(), newMetaData.getResource().getDataSources()));
     }
     
     /**
@@ -267,15 +289,26 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         MetaDataContextsBuilder metaDataContextsBuilder = new MetaDataContextsBuilder(dataSourcesMap, 
                 Collections.singletonMap(schemaName, governanceFacade.getConfigCenter().loadRuleConfigurations(schemaName)), 
                 metaDataContexts.getAuthentication(), metaDataContexts.getProps().getProps());
-        return metaDataContextsBuilder.build().getMetaDataMap().get(schemaName);
+        return metaDataContextsBuilder.buildMetaData(schemaName);
     }
     
-    private Map<String, ShardingSphereMetaData> getChangedMataDataMap() {
-        Map<String, ShardingSphereMetaData> result = new HashMap<>(metaDataContexts.getMetaDataMap().size());
-        for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
-            result.put(entry.getKey(), entry.getValue());
+    private void releaseLock() {
+        if (StateContext.getCurrentState() == StateType.LOCK) {
+            StateContext.switchState(new StateEvent(StateType.LOCK, false));
+            governanceFacade.getRegistryCenter().persistInstanceData("");
         }
-        return result;
+    }
+    
+    private void renewMetaData(final String schemaName, final ShardingSphereMetaData metaData) {
+        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
+        metaDataMap.put(schemaName, metaData);
+        renewMetaDataMap(metaDataMap);
+    }
+    
+    private void renewMetaDataMap(final Map<String, ShardingSphereMetaData> metaDataMap) {
+        // Copy on write: meta data of unchanged schemas and their calcite logic schemas are reused, readers switch to the new contexts atomically.
+        CalciteContextFactory calciteContextFactory = new CalciteContextFactory(metaDataMap, metaDataContexts.getCalciteContextFactory());
+        metaDataContexts = new StandardMetaDataContexts(metaDataMap, metaDataContexts.getExecutorEngine(), calciteContextFactory, metaDataContexts.getAuthentication(), metaDataContexts.getProps());
     }
     
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final ShardingSphereSchema schema, final String schemaName) {
@@ -286,7 +319,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
         MetaDataContextsBuilder builder = new MetaDataContextsBuilder(Collections.singletonMap(oldMetaData.getName(), oldMetaData.getResource().getDataSources()),
                 Collections.singletonMap(oldMetaData.getName(), ruleConfigs), metaDataContexts.getAuthentication(), metaDataContexts.getProps().getProps());
-        return builder.build().getMetaDataMap().values().iterator().next();
+        return builder.buildMetaData(oldMetaData.getName(), oldMetaData.getResource());
     }
     
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
@@ -297,7 +330,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         Map<String, Map<String, DataSource>> dataSourcesMap = Collections.singletonMap(oldMetaData.getName(), 
                 getNewDataSources(oldMetaData.getResource().getDataSources(), getAddedDataSources(oldMetaData, newDataSourceConfigs), modifiedDataSources, deletedDataSources));
         return new MetaDataContextsBuilder(dataSourcesMap, Collections.singletonMap(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations()), metaDataContexts.getAuthentication(), 
-                metaDataContexts.getProps().getProps()).build().getMetaDataMap().get(oldMetaData.getName());
+                metaDataContexts.getProps().getProps()).buildMetaData(oldMetaData.getName());
     }
     
     private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, 
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDe
 import org.apache.shardingsphere.governance.core.event.model.props.PropertiesChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenter;
 import org.apache.shardingsphere.governance.core.registry.event.DisabledStateChangedEvent;
@@ -39,6 +40,8 @@ import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.optimize.context.CalciteContextFactory;
 import org.apache.shardingsphere.infra.rule.event.RuleChangedEvent;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.apache.shardingsphere.replicaquery.rule.ReplicaQueryRule;
@@ -160,11 +163,14 @@ public final class GovernanceMetaDataContextsTest {
     
     @Test
     public void assertPropertiesChanged() {
+        final CalciteContextFactory calciteContextFactory = governanceMetaDataContexts.getCalciteContextFactory();
         Properties properties = new Properties();
         properties.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), "true");
         PropertiesChangedEvent event = new PropertiesChangedEvent(properties);
         governanceMetaDataContexts.renew(event);
         assertThat(governanceMetaDataContexts.getProps().getProps().getProperty(ConfigurationPropertyKey.SQL_SHOW.getKey()), is("true"));
+        assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
+        assertThat(governanceMetaDataContexts.getCalciteContextFactory(), is(calciteContextFactory));
     }
     
     @Test
@@ -190,12 +196,24 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertTableMetaDataChanged() {
+        TableMetaData tableMetaData = new TableMetaData(Collections.emptyList(), Collections.emptyList());
+        governanceMetaDataContexts.renew(new TableMetaDataChangedEvent("schema", Collections.singletonMap("t_order", tableMetaData), Collections.emptyList()));
+        assertThat(governanceMetaDataContexts.getMetaData("schema").getSchema().get("t_order"), is(tableMetaData));
+        assertThat(governanceMetaDataContexts.getMetaData("schema").getResource(), is(metaData.getResource()));
+        assertThat(governanceMetaDataContexts.getMetaData("schema").getRuleMetaData(), is(metaData.getRuleMetaData()));
+        governanceMetaDataContexts.renew(new TableMetaDataChangedEvent("schema", Collections.emptyMap(), Collections.singletonList("t_order")));
+        assertFalse(governanceMetaDataContexts.getMetaData("schema").getSchema().containsTable("t_order"));
+    }
+    
     @Test
     public void assertRuleConfigurationsChanged() throws SQLException {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
         RuleConfigurationsChangedEvent event = new RuleConfigurationsChangedEvent("schema", new LinkedList<>());
         governanceMetaDataContexts.renew(event);
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
+        assertThat(governanceMetaDataContexts.getMetaData("schema").getResource(), is(metaData.getResource()));
     }
     
     @Test
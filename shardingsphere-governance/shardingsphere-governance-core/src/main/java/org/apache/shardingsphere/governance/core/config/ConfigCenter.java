@@ -26,13 +26,16 @@ import org.apache.shardingsphere.encrypt.algorithm.config.AlgorithmProvidedEncry
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.governance.core.event.model.datasource.DataSourcePersistEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsPersistEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.SchemaDeletedPersistEvent;
 import org.apache.shardingsphere.governance.core.event.model.schema.SchemaNamePersistEvent;
 import org.apache.shardingsphere.governance.core.event.model.schema.SchemaPersistEvent;
 import org.apache.shardingsphere.governance.core.yaml.config.YamlDataSourceConfiguration;
 import org.apache.shardingsphere.governance.core.yaml.config.YamlDataSourceConfigurationWrap;
 import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
+import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlTableMetaData;
 import org.apache.shardingsphere.governance.core.yaml.swapper.DataSourceConfigurationYamlSwapper;
 import org.apache.shardingsphere.governance.core.yaml.swapper.SchemaYamlSwapper;
+import org.apache.shardingsphere.governance.core.yaml.swapper.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.repository.api.ConfigurationRepository;
 import org.apache.shardingsphere.ha.api.config.HARuleConfiguration;
 import org.apache.shardingsphere.ha.api.config.rule.HADataSourceRuleConfiguration;
@@ -43,6 +46,7 @@ import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.event.impl.PrimaryDataSourceUpdateEvent;
 import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
@@ -65,6 +69,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -76,10 +81,12 @@ public final class ConfigCenter {
     
     private final ConfigurationRepository repository;
     
+    private final Map<String, Map<String, String>> persistedTables = new ConcurrentHashMap<>();
+    
     public ConfigCenter(final ConfigurationRepository repository) {
         node = new ConfigCenterNode();
         this.repository = repository;
-        ShardingSphereEventBus.getInstance().register(this);
+        ShardingSphereEventBus.registerAsync(this);
     }
     
     /**
@@ -156,6 +163,16 @@ public final class ConfigCenter {
         persistSchema(event.getSchemaName(), event.getSchema());
     }
     
+    /**
+     * Delete meta data.
+     *
+     * @param event schema deleted persist event
+     */
+    @Subscribe
+    public synchronized void renew(final SchemaDeletedPersistEvent event) {
+        deleteSchema(event.getSchemaName());
+    }
+    
     /**
      * Persist new HA rule configurations.
      *
@@ -376,12 +393,62 @@ public final class ConfigCenter {
     
     /**
      * Persist ShardingSphere schema.
+     * 
+     * <p>Every table is persisted as an individual node, only the tables changed since last persistence are written.</p>
      *
      * @param schemaName schema name
      * @param schema ShardingSphere schema
      */
-    public void persistSchema(final String schemaName, final ShardingSphereSchema schema) {
-        repository.persist(node.getSchemaPath(schemaName), YamlEngine.marshal(new SchemaYamlSwapper().swapToYamlConfiguration(schema)));
+    public synchronized void persistSchema(final String schemaName, final ShardingSphereSchema schema) {
+        Map<String, String> persisted = persistedTables.computeIfAbsent(schemaName, this::loadPersistedTables);
+        Map<String, String> current = new LinkedHashMap<>(schema.getAllTableNames().size(), 1);
+        for (String each : schema.getAllTableNames()) {
+            current.put(each, YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(schema.get(each))));
+        }
+        boolean changed = false;
+        for (Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(persisted.get(entry.getKey()))) {
+                repository.persist(node.getSchemaTablePath(schemaName, entry.getKey()), entry.getValue());
+                changed = true;
+            }
+        }
+        for (String each : persisted.keySet()) {
+            if (!current.containsKey(each)) {
+                repository.delete(node.getSchemaTablePath(schemaName, each));
+                changed = true;
+            }
+        }
+        if (changed || !isSchemaVersioned(schemaName)) {
+            repository.persist(node.getSchemaVersionPath(schemaName), String.valueOf(loadSchemaVersion(schemaName) + 1));
+        }
+        persistedTables.put(schemaName, current);
+    }
+    
+    private Map<String, String> loadPersistedTables(final String schemaName) {
+        if (!isSchemaVersioned(schemaName)) {
+            return new LinkedHashMap<>();
+        }
+        List<String> tableNames = repository.getChildrenKeys(node.getSchemaTablesPath(schemaName));
+        Map<String, String> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            result.put(each, repository.get(node.getSchemaTablePath(schemaName, each)));
+        }
+        return result;
+    }
+    
+    private boolean isSchemaVersioned(final String schemaName) {
+        return !Strings.isNullOrEmpty(repository.get(node.getSchemaVersionPath(schemaName)));
+    }
+    
+    /**
+     * Load version of ShardingSphere schema.
+     *
+     * @param schemaName schema name
+     * @return version of ShardingSphere schema, 0 if schema has not been persisted
+     */
+    public long loadSchemaVersion(final String schemaName) {
+        String result = repository.get(node.getSchemaVersionPath(schemaName));
+        return Strings.isNullOrEmpty(result) ? 0L : Long.parseLong(result);
     }
     
     /**
@@ -391,6 +458,13 @@ public final class ConfigCenter {
      * @return ShardingSphere schema
      */
     public Optional<ShardingSphereSchema> loadSchema(final String schemaName) {
+        if (isSchemaVersioned(schemaName)) {
+            Map<String, TableMetaData> tables = new LinkedHashMap<>();
+            for (String each : repository.getChildrenKeys(node.getSchemaTablesPath(schemaName))) {
+                tables.put(each, new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(repository.get(node.getSchemaTablePath(schemaName, each)), YamlTableMetaData.class)));
+            }
+            return Optional.of(new ShardingSphereSchema(tables));
+        }
         String path = repository.get(node.getSchemaPath(schemaName));
         if (Strings.isNullOrEmpty(path)) {
             return Optional.empty();
@@ -403,7 +477,8 @@ public final class ConfigCenter {
      * 
      * @param schemaName schema name
      */
-    public void deleteSchema(final String schemaName) {
+    public synchronized void deleteSchema(final String schemaName) {
+        persistedTables.remove(schemaName);
         repository.delete(node.getSchemaNamePath(schemaName));
     }
     
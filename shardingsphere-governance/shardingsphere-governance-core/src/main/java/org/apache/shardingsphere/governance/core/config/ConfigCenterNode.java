@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -42,6 +43,10 @@ public final class ConfigCenterNode {
     
     private static final String SCHEMA_NODE = "schema";
     
+    private static final String TABLES_NODE = "tables";
+    
+    private static final String VERSION_NODE = "version";
+    
     private static final String AUTHENTICATION_NODE = "authentication";
     
     private static final String PROPS_NODE = "props";
@@ -99,6 +104,53 @@ public final class ConfigCenterNode {
         return getFullPath(schemaName, SCHEMA_NODE);
     }
     
+    /**
+     * Get schema tables path.
+     *
+     * @param schemaName schema name
+     * @return schema tables path
+     */
+    public String getSchemaTablesPath(final String schemaName) {
+        return Joiner.on(PATH_SEPARATOR).join(getSchemaPath(schemaName), TABLES_NODE);
+    }
+    
+    /**
+     * Get schema table path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return schema table path
+     */
+    public String getSchemaTablePath(final String schemaName, final String tableName) {
+        return Joiner.on(PATH_SEPARATOR).join(getSchemaTablesPath(schemaName), tableName);
+    }
+    
+    /**
+     * Get schema version path.
+     *
+     * @param schemaName schema name
+     * @return schema version path
+     */
+    public String getSchemaVersionPath(final String schemaName) {
+        return Joiner.on(PATH_SEPARATOR).join(getSchemaPath(schemaName), VERSION_NODE);
+    }
+    
+    /**
+     * Find table name.
+     *
+     * @param schemaName schema name
+     * @param schemaTableNodeFullPath schema table node full path
+     * @return table name
+     */
+    public Optional<String> findTableName(final String schemaName, final String schemaTableNodeFullPath) {
+        String prefix = getSchemaTablesPath(schemaName) + PATH_SEPARATOR;
+        if (!schemaTableNodeFullPath.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        String result = schemaTableNodeFullPath.substring(prefix.length());
+        return result.isEmpty() || result.contains(PATH_SEPARATOR) ? Optional.empty() : Optional.of(result);
+    }
+    
     /**
      * Get authentication path.
      *
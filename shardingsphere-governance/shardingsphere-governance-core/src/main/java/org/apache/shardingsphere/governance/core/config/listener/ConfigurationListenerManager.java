@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.governance.core.config.listener;
 
+import org.apache.shardingsphere.governance.core.facade.properties.GovernanceProperties;
+import org.apache.shardingsphere.governance.core.facade.properties.GovernancePropertyKey;
 import org.apache.shardingsphere.governance.repository.api.ConfigurationRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 
 import java.util.Collection;
+import java.util.Properties;
 
 /**
  * Configuration listener manager.
@@ -34,7 +37,12 @@ public final class ConfigurationListenerManager {
     private final AuthenticationChangedListener authenticationChangedListener;
     
     public ConfigurationListenerManager(final ConfigurationRepository configurationRepository, final Collection<String> schemaNames) {
-        schemaChangedListener = new SchemaChangedListener(configurationRepository, schemaNames);
+        this(configurationRepository, schemaNames, new GovernanceProperties(new Properties()));
+    }
+    
+    public ConfigurationListenerManager(final ConfigurationRepository configurationRepository, final Collection<String> schemaNames, final GovernanceProperties props) {
+        schemaChangedListener = new SchemaChangedListener(configurationRepository, schemaNames, 
+                props.<Long>getValue(GovernancePropertyKey.WATCH_COALESCING_WINDOW_MILLISECONDS), props.<Integer>getValue(GovernancePropertyKey.WATCH_COALESCING_MAX_BATCH_SIZE));
         propertiesChangedListener = new PropertiesChangedListener(configurationRepository);
         authenticationChangedListener = new AuthenticationChangedListener(configurationRepository);
     }
@@ -47,4 +55,13 @@ public final class ConfigurationListenerManager {
         propertiesChangedListener.watch(Type.UPDATED);
         authenticationChangedListener.watch(Type.UPDATED);
     }
+    
+    /**
+     * Close all configuration changed listeners.
+     */
+    public void close() {
+        schemaChangedListener.close();
+        propertiesChangedListener.close();
+        authenticationChangedListener.close();
+    }
 }
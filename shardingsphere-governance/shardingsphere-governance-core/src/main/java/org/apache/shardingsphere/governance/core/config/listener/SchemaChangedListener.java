@@ -28,22 +28,29 @@ import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataAd
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.core.yaml.config.YamlDataSourceConfigurationWrap;
 import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
+import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlTableMetaData;
 import org.apache.shardingsphere.governance.core.yaml.swapper.DataSourceConfigurationYamlSwapper;
 import org.apache.shardingsphere.governance.core.yaml.swapper.SchemaYamlSwapper;
+import org.apache.shardingsphere.governance.core.yaml.swapper.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.governance.repository.api.ConfigurationRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
@@ -59,11 +66,41 @@ public final class SchemaChangedListener extends PostGovernanceRepositoryEventLi
     private final Collection<String> existedSchemaNames;
     
     public SchemaChangedListener(final ConfigurationRepository configurationRepository, final Collection<String> schemaNames) {
-        super(configurationRepository, new ConfigCenterNode().getAllSchemaConfigPaths(schemaNames));
+        this(configurationRepository, schemaNames, 0L, 1);
+    }
+    
+    public SchemaChangedListener(final ConfigurationRepository configurationRepository, final Collection<String> schemaNames, 
+                                 final long coalescingWindowMilliseconds, final int coalescingMaxBatchSize) {
+        super(configurationRepository, new ConfigCenterNode().getAllSchemaConfigPaths(schemaNames), coalescingWindowMilliseconds, coalescingMaxBatchSize);
         configurationNode = new ConfigCenterNode();
         existedSchemaNames = new LinkedHashSet<>(schemaNames);
     }
     
+    @Override
+    protected Collection<GovernanceEvent> createEvents(final Collection<DataChangedEvent> events) {
+        List<GovernanceEvent> result = new ArrayList<>(events.size());
+        for (GovernanceEvent each : super.createEvents(events)) {
+            GovernanceEvent lastEvent = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (each instanceof TableMetaDataChangedEvent && lastEvent instanceof TableMetaDataChangedEvent
+                    && ((TableMetaDataChangedEvent) each).getSchemaName().equals(((TableMetaDataChangedEvent) lastEvent).getSchemaName())) {
+                result.set(result.size() - 1, mergeTableMetaDataChangedEvent((TableMetaDataChangedEvent) lastEvent, (TableMetaDataChangedEvent) each));
+            } else {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private TableMetaDataChangedEvent mergeTableMetaDataChangedEvent(final TableMetaDataChangedEvent event, final TableMetaDataChangedEvent laterEvent) {
+        Map<String, TableMetaData> changedTables = new LinkedHashMap<>(event.getChangedTables());
+        Collection<String> deletedTables = new LinkedHashSet<>(event.getDeletedTables());
+        changedTables.keySet().removeAll(laterEvent.getDeletedTables());
+        changedTables.putAll(laterEvent.getChangedTables());
+        deletedTables.removeAll(laterEvent.getChangedTables().keySet());
+        deletedTables.addAll(laterEvent.getDeletedTables());
+        return new TableMetaDataChangedEvent(event.getSchemaName(), changedTables, deletedTables);
+    }
+    
     @Override
     protected Optional<GovernanceEvent> createEvent(final DataChangedEvent event) {
         // TODO Consider removing the following one.
@@ -71,7 +108,14 @@ public final class SchemaChangedListener extends PostGovernanceRepositoryEventLi
             return createSchemaNamesUpdatedEvent(event.getValue());
         }
         String schemaName = configurationNode.getSchemaName(event.getKey());
-        if (Strings.isNullOrEmpty(schemaName) || !isValidNodeChangedEvent(schemaName, event.getKey())) {
+        if (Strings.isNullOrEmpty(schemaName)) {
+            return Optional.empty();
+        }
+        Optional<String> tableName = configurationNode.findTableName(schemaName, event.getKey());
+        if (tableName.isPresent() && existedSchemaNames.contains(schemaName)) {
+            return createTableMetaDataEvent(schemaName, tableName.get(), event);
+        }
+        if (!isValidNodeChangedEvent(schemaName, event.getKey())) {
             return Optional.empty();
         }
         if (Type.ADDED == event.getType()) {
@@ -140,6 +184,18 @@ public final class SchemaChangedListener extends PostGovernanceRepositoryEventLi
         return new RuleConfigurationsChangedEvent(schemaName, new YamlRuleConfigurationSwapperEngine().swapToRuleConfigurations(configurations.getRules()));
     }
     
+    private Optional<GovernanceEvent> createTableMetaDataEvent(final String schemaName, final String tableName, final DataChangedEvent event) {
+        if (Type.DELETED == event.getType()) {
+            return Optional.of(new TableMetaDataChangedEvent(schemaName, Collections.emptyMap(), Collections.singletonList(tableName)));
+        }
+        if (Type.ADDED == event.getType() || Type.UPDATED == event.getType()) {
+            YamlTableMetaData yamlTableMetaData = YamlEngine.unmarshal(event.getValue(), YamlTableMetaData.class);
+            return null == yamlTableMetaData ? Optional.empty() : Optional.of(new TableMetaDataChangedEvent(
+                    schemaName, Collections.singletonMap(tableName, new TableMetaDataYamlSwapper().swapToObject(yamlTableMetaData)), Collections.emptyList()));
+        }
+        return Optional.empty();
+    }
+    
     private GovernanceEvent createSchemaChangedEvent(final String schemaName, final DataChangedEvent event) {
         return new SchemaChangedEvent(schemaName, new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlSchema.class)));
     }
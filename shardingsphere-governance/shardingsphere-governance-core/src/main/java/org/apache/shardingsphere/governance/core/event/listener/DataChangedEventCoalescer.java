@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.event.listener;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Data changed event coalescer.
+ * 
+ * <p>
+ * Data changed events are collected during the window which starts from the first pending event, and deduplicated by key with the latest one kept.
+ * Pending events are delivered as one batch when the window elapsed or the max batch size reached.
+ * Each coalescer owns its scheduler thread, which is stopped by {@link #close()}.
+ * </p>
+ */
+public final class DataChangedEventCoalescer implements AutoCloseable {
+    
+    private final long windowMilliseconds;
+    
+    private final int maxBatchSize;
+    
+    private final Consumer<Collection<DataChangedEvent>> batchConsumer;
+    
+    private final Object deliverLock = new Object();
+    
+    private final ScheduledExecutorService scheduler;
+    
+    private Map<String, DataChangedEvent> pendingEvents = new LinkedHashMap<>();
+    
+    public DataChangedEventCoalescer(final long windowMilliseconds, final int maxBatchSize, final Consumer<Collection<DataChangedEvent>> batchConsumer) {
+        Preconditions.checkArgument(windowMilliseconds > 0 && maxBatchSize > 0, "Coalescing window and max batch size must be positive.");
+        this.windowMilliseconds = windowMilliseconds;
+        this.maxBatchSize = maxBatchSize;
+        this.batchConsumer = batchConsumer;
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-GovernanceWatchCoalescer-%d").build());
+    }
+    
+    /**
+     * Add data changed event.
+     * 
+     * @param event data changed event
+     */
+    public void add(final DataChangedEvent event) {
+        if (addPendingEvent(event)) {
+            flush();
+        }
+    }
+    
+    private synchronized boolean addPendingEvent(final DataChangedEvent event) {
+        if (scheduler.isShutdown()) {
+            return false;
+        }
+        if (pendingEvents.isEmpty()) {
+            scheduler.schedule(this::flush, windowMilliseconds, TimeUnit.MILLISECONDS);
+        }
+        pendingEvents.remove(event.getKey());
+        pendingEvents.put(event.getKey(), event);
+        return pendingEvents.size() >= maxBatchSize;
+    }
+    
+    /**
+     * Deliver pending events as one batch.
+     */
+    public void flush() {
+        synchronized (deliverLock) {
+            Collection<DataChangedEvent> events = takePendingEvents();
+            if (!events.isEmpty()) {
+                batchConsumer.accept(events);
+            }
+        }
+    }
+    
+    private synchronized Collection<DataChangedEvent> takePendingEvents() {
+        Collection<DataChangedEvent> result = new ArrayList<>(pendingEvents.values());
+        pendingEvents = new LinkedHashMap<>();
+        return result;
+    }
+    
+    /**
+     * Stop scheduler and discard pending events.
+     */
+    @Override
+    public synchronized void close() {
+        scheduler.shutdownNow();
+        pendingEvents = new LinkedHashMap<>();
+    }
+}
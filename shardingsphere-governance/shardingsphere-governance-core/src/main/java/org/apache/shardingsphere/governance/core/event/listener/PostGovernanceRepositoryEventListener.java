@@ -25,7 +25,10 @@ import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Post governance repository event listener.
@@ -39,22 +42,57 @@ public abstract class PostGovernanceRepositoryEventListener<T> implements Govern
     
     private final Collection<String> watchKeys;
     
+    private final long coalescingWindowMilliseconds;
+    
+    private final int coalescingMaxBatchSize;
+    
+    private DataChangedEventCoalescer coalescer;
+    
+    protected PostGovernanceRepositoryEventListener(final GovernanceRepository governanceRepository, final Collection<String> watchKeys) {
+        this(governanceRepository, watchKeys, 0L, 1);
+    }
+    
     @Override
     public final void watch(final Type... types) {
         Collection<Type> typeList = Arrays.asList(types);
+        Consumer<DataChangedEvent> dataChangedEventConsumer = createDataChangedEventConsumer();
         for (String watchKey : watchKeys) {
-            watch(watchKey, typeList);
+            governanceRepository.watch(watchKey, dataChangedEvent -> {
+                if (typeList.contains(dataChangedEvent.getType())) {
+                    dataChangedEventConsumer.accept(dataChangedEvent);
+                }
+            });
+        }
+    }
+    
+    private Consumer<DataChangedEvent> createDataChangedEventConsumer() {
+        if (coalescingWindowMilliseconds <= 0L) {
+            return each -> postEvents(Collections.singletonList(each));
+        }
+        coalescer = new DataChangedEventCoalescer(coalescingWindowMilliseconds, coalescingMaxBatchSize, this::postEvents);
+        return coalescer::add;
+    }
+    
+    /**
+     * Close listener, events pending for coalescing are discarded.
+     */
+    public final void close() {
+        if (null != coalescer) {
+            coalescer.close();
         }
     }
     
-    private void watch(final String watchKey, final Collection<Type> types) {
-        governanceRepository.watch(watchKey, dataChangedEvent -> {
-            if (types.contains(dataChangedEvent.getType())) {
-                Optional<T> event = createEvent(dataChangedEvent);
-                event.ifPresent(ShardingSphereEventBus.getInstance()::post);
-            }
-        });
+    private void postEvents(final Collection<DataChangedEvent> dataChangedEvents) {
+        createEvents(dataChangedEvents).forEach(ShardingSphereEventBus.getInstance()::post);
     }
     
     protected abstract Optional<T> createEvent(DataChangedEvent event);
+    
+    protected Collection<T> createEvents(final Collection<DataChangedEvent> events) {
+        Collection<T> result = new LinkedList<>();
+        for (DataChangedEvent each : events) {
+            createEvent(each).ifPresent(result::add);
+        }
+        return result;
+    }
 }
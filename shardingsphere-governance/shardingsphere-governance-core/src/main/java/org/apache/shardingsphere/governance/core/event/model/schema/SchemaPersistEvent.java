@@ -19,7 +19,9 @@ package org.apache.shardingsphere.governance.core.event.model.schema;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.governance.core.config.ConfigCenterNode;
 import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
+import org.apache.shardingsphere.infra.eventbus.CoalescibleEvent;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 
 /**
@@ -27,9 +29,14 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
  */
 @RequiredArgsConstructor
 @Getter
-public final class SchemaPersistEvent implements GovernanceEvent {
+public final class SchemaPersistEvent implements GovernanceEvent, CoalescibleEvent {
     
     private final String schemaName;
     
     private final ShardingSphereSchema schema;
+    
+    @Override
+    public Object getCoalescingKey() {
+        return new ConfigCenterNode().getSchemaNamePath(schemaName);
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.governance.core.facade;
 import lombok.Getter;
 import org.apache.shardingsphere.governance.core.config.ConfigCenter;
 import org.apache.shardingsphere.governance.core.facade.listener.GovernanceListenerManager;
+import org.apache.shardingsphere.governance.core.facade.properties.GovernanceProperties;
 import org.apache.shardingsphere.governance.core.facade.repository.GovernanceRepositoryFacade;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenter;
 import org.apache.shardingsphere.governance.repository.api.config.GovernanceConfiguration;
@@ -60,8 +61,13 @@ public final class GovernanceFacade implements AutoCloseable {
         repositoryFacade = new GovernanceRepositoryFacade(config);
         registryCenter = new RegistryCenter(repositoryFacade.getRegistryRepository());
         configCenter = new ConfigCenter(repositoryFacade.getConfigurationRepository());
-        listenerManager = new GovernanceListenerManager(repositoryFacade.getRegistryRepository(),
-                repositoryFacade.getConfigurationRepository(), schemaNames.isEmpty() ? configCenter.getAllSchemaNames() : schemaNames);
+        listenerManager = new GovernanceListenerManager(repositoryFacade.getRegistryRepository(), repositoryFacade.getConfigurationRepository(), 
+                schemaNames.isEmpty() ? configCenter.getAllSchemaNames() : schemaNames, createGovernanceProperties(config));
+    }
+    
+    private GovernanceProperties createGovernanceProperties(final GovernanceConfiguration config) {
+        Properties props = config.getRegistryCenterConfiguration().getProps();
+        return new GovernanceProperties(null == props ? new Properties() : props);
     }
     
     /**
@@ -92,6 +98,9 @@ public final class GovernanceFacade implements AutoCloseable {
     
     @Override
     public void close() {
+        if (null != listenerManager) {
+            listenerManager.close();
+        }
         repositoryFacade.close();
     }
 }
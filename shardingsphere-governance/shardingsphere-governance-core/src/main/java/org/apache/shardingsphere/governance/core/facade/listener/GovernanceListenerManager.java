@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.governance.core.facade.listener;
 
 import org.apache.shardingsphere.governance.core.config.listener.ConfigurationListenerManager;
+import org.apache.shardingsphere.governance.core.facade.properties.GovernanceProperties;
 import org.apache.shardingsphere.governance.core.registry.listener.RegistryListenerManager;
 import org.apache.shardingsphere.governance.repository.api.ConfigurationRepository;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
 
 import java.util.Collection;
+import java.util.Properties;
 
 /**
  * Governance listener manager.
@@ -34,7 +36,12 @@ public final class GovernanceListenerManager {
     private final RegistryListenerManager registryListenerManager;
     
     public GovernanceListenerManager(final RegistryRepository registryRepository, final ConfigurationRepository configurationRepository, final Collection<String> schemaNames) {
-        configurationListenerManager = new ConfigurationListenerManager(configurationRepository, schemaNames);
+        this(registryRepository, configurationRepository, schemaNames, new GovernanceProperties(new Properties()));
+    }
+    
+    public GovernanceListenerManager(final RegistryRepository registryRepository, final ConfigurationRepository configurationRepository, 
+                                     final Collection<String> schemaNames, final GovernanceProperties props) {
+        configurationListenerManager = new ConfigurationListenerManager(configurationRepository, schemaNames, props);
         registryListenerManager = new RegistryListenerManager(registryRepository, schemaNames);
     }
     
@@ -45,4 +52,11 @@ public final class GovernanceListenerManager {
         configurationListenerManager.initListeners();
         registryListenerManager.initListeners();
     }
+    
+    /**
+     * Close all governance listeners.
+     */
+    public void close() {
+        configurationListenerManager.close();
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.facade.properties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.properties.TypedPropertyKey;
+
+/**
+ * Typed property key of governance.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum GovernancePropertyKey implements TypedPropertyKey {
+    
+    /**
+     * Window milliseconds to coalesce watched schema configuration changes, 0 means disable coalescing.
+     */
+    WATCH_COALESCING_WINDOW_MILLISECONDS("watchCoalescingWindowMilliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max size of coalesced schema configuration changes delivered in one batch.
+     */
+    WATCH_COALESCING_MAX_BATCH_SIZE("watchCoalescingMaxBatchSize", String.valueOf(1000), int.class);
+    
+    private final String key;
+    
+    private final String defaultValue;
+    
+    private final Class<?> type;
+}
@@ -26,6 +26,14 @@ public final class LockNode {
     
     private static final String GLOBAL_LOCK_NODE = "glock";
     
+    private static final String LOCK_NODE = "lock";
+    
+    private static final String MUTEX_NODE = "mutex";
+    
+    private static final String TABLES_LOCK_NODE = "tables";
+    
+    private static final String TABLES_LOCK_ACK_NODE = "ack";
+    
     /**
      * Get global lock node path.
      * 
@@ -34,4 +42,79 @@ public final class LockNode {
     public String getGlobalLockNodePath() {
         return Joiner.on("/").join("", GLOBAL_LOCK_NODE);
     }
+    
+    /**
+     * Get lock mutex node path.
+     * 
+     * @return lock mutex node path
+     */
+    public String getLockMutexNodePath() {
+        return Joiner.on("/").join("", LOCK_NODE, MUTEX_NODE);
+    }
+    
+    /**
+     * Get tables lock node path.
+     * 
+     * @return tables lock node path
+     */
+    public String getTablesLockNodePath() {
+        return Joiner.on("/").join("", LOCK_NODE, TABLES_LOCK_NODE);
+    }
+    
+    /**
+     * Get tables lock node path of schema.
+     * 
+     * @param schemaName schema name
+     * @return tables lock node path of schema
+     */
+    public String getTablesLockNodePath(final String schemaName) {
+        return Joiner.on("/").join(getTablesLockNodePath(), schemaName);
+    }
+    
+    /**
+     * Get table lock node path.
+     * 
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table lock node path
+     */
+    public String getTableLockNodePath(final String schemaName, final String tableName) {
+        return Joiner.on("/").join(getTablesLockNodePath(), schemaName, tableName);
+    }
+    
+    /**
+     * Get table lock ack node path.
+     * 
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table lock ack node path
+     */
+    public String getTableLockAckNodePath(final String schemaName, final String tableName) {
+        return Joiner.on("/").join("", LOCK_NODE, TABLES_LOCK_ACK_NODE, schemaName, tableName);
+    }
+    
+    /**
+     * Get table lock ack node path of lock.
+     * 
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param lockId lock id
+     * @return table lock ack node path of lock
+     */
+    public String getTableLockAckNodePath(final String schemaName, final String tableName, final String lockId) {
+        return Joiner.on("/").join(getTableLockAckNodePath(schemaName, tableName), lockId);
+    }
+    
+    /**
+     * Get table lock ack node path of instance.
+     * 
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param lockId lock id
+     * @param instanceId instance id
+     * @return table lock ack node path of instance
+     */
+    public String getTableLockAckNodePath(final String schemaName, final String tableName, final String lockId, final String instanceId) {
+        return Joiner.on("/").join(getTableLockAckNodePath(schemaName, tableName, lockId), instanceId);
+    }
 }
@@ -18,23 +18,62 @@
 package org.apache.shardingsphere.governance.core.lock.strategy;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.shardingsphere.governance.core.event.model.lock.GlobalLockAddedEvent;
+import org.apache.shardingsphere.governance.core.event.model.lock.TableLockChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataRenewedEvent;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenter;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenterNodeStatus;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.lock.LockMode;
 import org.apache.shardingsphere.infra.lock.LockStrategy;
 import org.apache.shardingsphere.infra.lock.LockStrategyType;
+import org.apache.shardingsphere.infra.lock.TableLockManager;
 import org.apache.shardingsphere.infra.state.StateContext;
 import org.apache.shardingsphere.infra.state.StateEvent;
 import org.apache.shardingsphere.infra.state.StateType;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Governance lock strategy.
+ * 
+ * <p>
+ * Exclusive table lock is claimed in registry center before locked locally,
+ * so the table lock acquired for DDL of other instance is never blocked by local DDL waiting for the same registry center node.
+ * </p>
  */
 public final class GovernanceLockStrategy implements LockStrategy {
     
+    private static final long REMOTE_TABLE_LOCK_TIMEOUT_MILLISECONDS = 50000L;
+    
+    private static final long META_DATA_RENEW_TIMEOUT_MILLISECONDS = 5000L;
+    
+    private final TableLockManager tableLockManager = new TableLockManager();
+    
+    private final Collection<String> claimingLockIds = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, String> ownedTableLocks = new ConcurrentHashMap<>();
+    
+    private final Map<String, RemoteTableLock> remoteTableLocks = new ConcurrentHashMap<>();
+    
+    private final Collection<RemoteTableLock> releasingTableLocks = ConcurrentHashMap.newKeySet();
+    
+    private final ExecutorService remoteTableLockExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-RemoteTableLock-%d").build());
+    
+    private final ScheduledExecutorService remoteTableLockReleaser = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-RemoteTableLockReleaser-%d").build());
+    
     private RegistryCenter registryCenter;
     
     /**
@@ -52,11 +91,55 @@ public final class GovernanceLockStrategy implements LockStrategy {
         return registryCenter.tryGlobalLock(timeout, timeUnit);
     }
     
+    @Override
+    public boolean tryLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode, final long timeout, final TimeUnit timeUnit) {
+        if (LockMode.SHARED == lockMode) {
+            return tableLockManager.tryLock(schemaName, tableNames, lockMode, timeout, timeUnit);
+        }
+        long startTime = System.currentTimeMillis();
+        long timeoutMilliseconds = timeUnit.toMillis(timeout);
+        if (!tryTableLock(schemaName, tableNames, timeoutMilliseconds)) {
+            return false;
+        }
+        if (tableLockManager.tryLock(schemaName, tableNames, LockMode.EXCLUSIVE, timeoutMilliseconds - (System.currentTimeMillis() - startTime), TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        releaseRegistryTableLock(schemaName, tableNames);
+        return false;
+    }
+    
+    private boolean tryTableLock(final String schemaName, final Collection<String> tableNames, final long timeoutMilliseconds) {
+        String lockId = UUID.randomUUID().toString();
+        claimingLockIds.add(lockId);
+        try {
+            if (registryCenter.tryTableLock(schemaName, tableNames, lockId, timeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                tableNames.forEach(each -> ownedTableLocks.put(getTableKey(schemaName, each), lockId));
+                return true;
+            }
+            return false;
+        } finally {
+            claimingLockIds.remove(lockId);
+        }
+    }
+    
+    private void releaseRegistryTableLock(final String schemaName, final Collection<String> tableNames) {
+        registryCenter.releaseTableLock(schemaName, tableNames);
+        tableNames.forEach(each -> ownedTableLocks.remove(getTableKey(schemaName, each)));
+    }
+    
     @Override
     public void releaseLock() {
         registryCenter.releaseGlobalLock();
     }
     
+    @Override
+    public void releaseLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode) {
+        if (LockMode.EXCLUSIVE == lockMode) {
+            releaseRegistryTableLock(schemaName, tableNames);
+        }
+        tableLockManager.releaseLock(schemaName, tableNames, lockMode);
+    }
+    
     @Override
     public boolean checkLock() {
         return registryCenter.checkLock();
@@ -87,4 +170,95 @@ public final class GovernanceLockStrategy implements LockStrategy {
         StateContext.switchState(new StateEvent(StateType.LOCK, true));
         registryCenter.persistInstanceData(RegistryCenterNodeStatus.LOCKED.toString());
     }
+    
+    /**
+     * Lock or unlock table after table lock of other instance changed.
+     * 
+     * <p>
+     * Exclusive lock is acquired by remote table lock executor, so the event thread is never blocked by executing DML.
+     * The lock is acknowledged after acquired, and held until both the owner instance released it and the changed meta data renewed,
+     * or at most meta data renew timeout after the owner instance released it if the DDL did not change any meta data.
+     * </p>
+     *
+     * @param event table lock changed event
+     */
+    @Subscribe
+    public void lockTable(final TableLockChangedEvent event) {
+        String tableKey = getTableKey(event.getSchemaName(), event.getTableName());
+        if (!event.isLocked()) {
+            RemoteTableLock remoteTableLock = remoteTableLocks.get(tableKey);
+            if (null != remoteTableLock) {
+                releaseByOwner(tableKey, remoteTableLock);
+            }
+            return;
+        }
+        if (isOwnedLock(event.getLockId())) {
+            return;
+        }
+        RemoteTableLock remoteTableLock = new RemoteTableLock(event.getSchemaName(), event.getTableName(), event.getLockId());
+        if (null == remoteTableLocks.putIfAbsent(tableKey, remoteTableLock)) {
+            remoteTableLockExecutor.execute(() -> acquire(tableKey, remoteTableLock));
+        }
+    }
+    
+    private boolean isOwnedLock(final String lockId) {
+        return claimingLockIds.contains(lockId) || ownedTableLocks.containsValue(lockId);
+    }
+    
+    private void acquire(final String tableKey, final RemoteTableLock remoteTableLock) {
+        if (!tableLockManager.tryLock(remoteTableLock.getSchemaName(), Collections.singleton(remoteTableLock.getTableName()), 
+                LockMode.EXCLUSIVE, REMOTE_TABLE_LOCK_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+            remoteTableLocks.remove(tableKey, remoteTableLock);
+            releasingTableLocks.remove(remoteTableLock);
+            return;
+        }
+        if (remoteTableLock.acquired()) {
+            registryCenter.ackTableLock(remoteTableLock.getSchemaName(), remoteTableLock.getTableName(), remoteTableLock.getLockId());
+        } else {
+            release(remoteTableLock);
+        }
+    }
+    
+    private void releaseByOwner(final String tableKey, final RemoteTableLock remoteTableLock) {
+        releasingTableLocks.add(remoteTableLock);
+        remoteTableLocks.remove(tableKey, remoteTableLock);
+        if (remoteTableLock.releaseByOwner()) {
+            release(remoteTableLock);
+        } else {
+            remoteTableLockReleaser.schedule(() -> release(remoteTableLock), META_DATA_RENEW_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Release table locks held for other instance after meta data renewed.
+     *
+     * @param event meta data renewed event
+     */
+    @Subscribe
+    public void releaseTableLock(final MetaDataRenewedEvent event) {
+        Collection<String> tableKeys = event.getTableNames().stream().map(each -> getTableKey(event.getSchemaName(), each)).collect(Collectors.toSet());
+        for (RemoteTableLock each : remoteTableLocks.values()) {
+            renewMetaData(tableKeys, each);
+        }
+        for (RemoteTableLock each : releasingTableLocks) {
+            renewMetaData(tableKeys, each);
+        }
+    }
+    
+    private void renewMetaData(final Collection<String> tableKeys, final RemoteTableLock remoteTableLock) {
+        if (tableKeys.contains(getTableKey(remoteTableLock.getSchemaName(), remoteTableLock.getTableName())) && remoteTableLock.renewMetaData()) {
+            release(remoteTableLock);
+        }
+    }
+    
+    private void release(final RemoteTableLock remoteTableLock) {
+        releasingTableLocks.remove(remoteTableLock);
+        if (remoteTableLock.release()) {
+            tableLockManager.releaseLock(remoteTableLock.getSchemaName(), Collections.singleton(remoteTableLock.getTableName()), LockMode.EXCLUSIVE);
+        }
+    }
+    
+    private String getTableKey(final String schemaName, final String tableName) {
+        return (schemaName + "." + tableName).toLowerCase();
+    }
 }
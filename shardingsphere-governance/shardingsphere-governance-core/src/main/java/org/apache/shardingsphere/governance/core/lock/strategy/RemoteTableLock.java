@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.lock.strategy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Table lock held for other instance.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class RemoteTableLock {
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final String schemaName;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final String tableName;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final String lockId;
+    
+    private boolean held;
+    
+    private boolean ownerReleased;
+    
+    private boolean metaDataRenewed;
+    
+    private boolean released;
+    
+    /**
+     * Mark local lock acquired.
+     * 
+     * @return true if local lock should be held until owner released, false if owner already released
+     */
+    synchronized boolean acquired() {
+        held = true;
+        return !ownerReleased;
+    }
+    
+    /**
+     * Mark lock released by owner instance.
+     * 
+     * @return true if meta data already renewed and local lock can be released
+     */
+    synchronized boolean releaseByOwner() {
+        ownerReleased = true;
+        return held && metaDataRenewed;
+    }
+    
+    /**
+     * Mark meta data of the table renewed.
+     * 
+     * @return true if owner already released and local lock can be released
+     */
+    synchronized boolean renewMetaData() {
+        if (!held) {
+            return false;
+        }
+        metaDataRenewed = true;
+        return ownerReleased;
+    }
+    
+    /**
+     * Mark local lock released.
+     * 
+     * @return true if local lock is held and not released yet
+     */
+    synchronized boolean release() {
+        if (!held || released) {
+            return false;
+        }
+        released = true;
+        return true;
+    }
+}
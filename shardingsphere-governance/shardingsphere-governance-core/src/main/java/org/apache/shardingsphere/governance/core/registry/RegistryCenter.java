@@ -36,6 +36,8 @@ public final class RegistryCenter {
     
     private static final int CHECK_RETRY_INTERVAL_SECONDS = 3;
     
+    private static final long TABLE_LOCK_RETRY_INTERVAL_MILLISECONDS = 50L;
+    
     private final RegistryCenterNode node;
     
     private final RegistryRepository repository;
@@ -49,7 +51,7 @@ public final class RegistryCenter {
         repository = registryRepository;
         instance = GovernanceInstance.getInstance();
         lockNode = new LockNode();
-        registryRepository.initLock(lockNode.getGlobalLockNodePath());
+        registryRepository.initLock(lockNode.getLockMutexNodePath());
         ShardingSphereEventBus.getInstance().register(this);
     }
     
@@ -131,15 +133,104 @@ public final class RegistryCenter {
      * @return true if get the lock, false if not
      */
     public boolean tryGlobalLock(final long timeout, final TimeUnit timeUnit) {
-        return repository.tryLock(timeout, timeUnit);
+        boolean result = repository.tryLock(timeout, timeUnit);
+        if (result) {
+            repository.persist(lockNode.getGlobalLockNodePath(), instance.getInstanceId());
+        }
+        return result;
     }
     
     /**
      * Release global lock.
      */
     public void releaseGlobalLock() {
-        repository.releaseLock();
         repository.delete(lockNode.getGlobalLockNodePath());
+        repository.releaseLock();
+    }
+    
+    /**
+     * Try to get lock of tables, and wait until all other instances acknowledged.
+     *
+     * @param schemaName schema name
+     * @param tableNames table names
+     * @param lockId lock id
+     * @param timeout the maximum time to acquire lock
+     * @param timeUnit time unit
+     * @return true if get the lock, false if not
+     */
+    public boolean tryTableLock(final String schemaName, final Collection<String> tableNames, final String lockId, final long timeout, final TimeUnit timeUnit) {
+        long deadline = System.currentTimeMillis() + timeUnit.toMillis(timeout);
+        while (!tryPersistTableLock(schemaName, tableNames, lockId, deadline - System.currentTimeMillis())) {
+            if (!sleepUntil(deadline)) {
+                return false;
+            }
+        }
+        Collection<String> instanceIds = loadAllInstances().stream().filter(each -> !each.equals(instance.getInstanceId())).collect(Collectors.toList());
+        while (!isTableLockAcknowledged(schemaName, tableNames, lockId, instanceIds)) {
+            if (!sleepUntil(deadline)) {
+                releaseTableLock(schemaName, tableNames);
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean tryPersistTableLock(final String schemaName, final Collection<String> tableNames, final String lockId, final long timeoutMilliseconds) {
+        if (!repository.tryLock(Math.max(timeoutMilliseconds, 0L), TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        try {
+            Collection<String> lockedTableNames = repository.getChildrenKeys(lockNode.getTablesLockNodePath(schemaName));
+            if (tableNames.stream().anyMatch(lockedTableNames::contains)) {
+                return false;
+            }
+            tableNames.forEach(each -> repository.persistEphemeral(lockNode.getTableLockNodePath(schemaName, each), lockId));
+            return true;
+        } finally {
+            repository.releaseLock();
+        }
+    }
+    
+    private boolean isTableLockAcknowledged(final String schemaName, final Collection<String> tableNames, final String lockId, final Collection<String> instanceIds) {
+        return tableNames.stream().allMatch(each -> repository.getChildrenKeys(lockNode.getTableLockAckNodePath(schemaName, each, lockId)).containsAll(instanceIds));
+    }
+    
+    private boolean sleepUntil(final long deadline) {
+        long sleepMilliseconds = Math.min(TABLE_LOCK_RETRY_INTERVAL_MILLISECONDS, deadline - System.currentTimeMillis());
+        if (sleepMilliseconds <= 0L) {
+            return false;
+        }
+        try {
+            Thread.sleep(sleepMilliseconds);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Acknowledge lock of table held by other instance.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param lockId lock id
+     */
+    public void ackTableLock(final String schemaName, final String tableName, final String lockId) {
+        repository.persistEphemeral(lockNode.getTableLockAckNodePath(schemaName, tableName, lockId, instance.getInstanceId()), "");
+    }
+    
+    /**
+     * Release lock of tables.
+     *
+     * @param schemaName schema name
+     * @param tableNames table names
+     */
+    public void releaseTableLock(final String schemaName, final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            repository.delete(lockNode.getTableLockNodePath(schemaName, each));
+            repository.delete(lockNode.getTableLockAckNodePath(schemaName, each));
+        }
     }
     
     /**
@@ -33,10 +33,13 @@ public final class RegistryListenerManager {
     
     private final GlobalLockChangedListener globalLockChangedListener;
     
+    private final TableLockChangedListener tableLockChangedListener;
+    
     public RegistryListenerManager(final RegistryRepository registryRepository, final Collection<String> schemaNames) {
         terminalStateChangedListener = new TerminalStateChangedListener(registryRepository);
         dataSourceStateChangedListener = new DataSourceStateChangedListener(registryRepository, schemaNames);
         globalLockChangedListener = new GlobalLockChangedListener(registryRepository);
+        tableLockChangedListener = new TableLockChangedListener(registryRepository);
     }
     
     /**
@@ -46,5 +49,6 @@ public final class RegistryListenerManager {
         terminalStateChangedListener.watch(Type.UPDATED);
         dataSourceStateChangedListener.watch(Type.UPDATED, Type.DELETED, Type.ADDED);
         globalLockChangedListener.watch(Type.ADDED);
+        tableLockChangedListener.watch(Type.ADDED, Type.DELETED);
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.listener;
+
+import org.apache.shardingsphere.governance.core.event.listener.PostGovernanceRepositoryEventListener;
+import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.event.model.lock.TableLockChangedEvent;
+import org.apache.shardingsphere.governance.core.lock.node.LockNode;
+import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Table lock changed listener.
+ */
+public final class TableLockChangedListener extends PostGovernanceRepositoryEventListener<GovernanceEvent> {
+    
+    private final Pattern tableLockNodePattern;
+    
+    public TableLockChangedListener(final RegistryRepository registryRepository) {
+        super(registryRepository, Collections.singleton(new LockNode().getTablesLockNodePath()));
+        tableLockNodePattern = Pattern.compile(new LockNode().getTablesLockNodePath() + "/([^/]+)/([^/]+)$");
+    }
+    
+    @Override
+    protected Optional<GovernanceEvent> createEvent(final DataChangedEvent event) {
+        Matcher matcher = tableLockNodePattern.matcher(event.getKey());
+        return matcher.find() ? Optional.of(new TableLockChangedEvent(matcher.group(1), matcher.group(2), event.getValue(), Type.DELETED != event.getType())) : Optional.empty();
+    }
+}
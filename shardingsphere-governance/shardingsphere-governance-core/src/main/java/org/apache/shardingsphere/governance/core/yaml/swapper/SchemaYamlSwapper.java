@@ -19,18 +19,11 @@ package org.apache.shardingsphere.governance.core.yaml.swapper;
 
 import com.google.common.collect.Maps;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlColumnMetaData;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlIndexMetaData;
 import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
 import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlTableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
-import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
-import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
-import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlSwapper;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -42,10 +35,12 @@ import java.util.stream.Collectors;
  */
 public final class SchemaYamlSwapper implements YamlSwapper<YamlSchema, ShardingSphereSchema> {
     
+    private final TableMetaDataYamlSwapper tableMetaDataYamlSwapper = new TableMetaDataYamlSwapper();
+    
     @Override
     public YamlSchema swapToYamlConfiguration(final ShardingSphereSchema schema) {
         Map<String, YamlTableMetaData> tables = schema.getAllTableNames().stream()
-                .collect(Collectors.toMap(each -> each, each -> convertYamlTable(schema.get(each)), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+                .collect(Collectors.toMap(each -> each, each -> tableMetaDataYamlSwapper.swapToYamlConfiguration(schema.get(each)), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
         YamlSchema result = new YamlSchema();
         result.setTables(tables);
         return result;
@@ -58,58 +53,6 @@ public final class SchemaYamlSwapper implements YamlSwapper<YamlSchema, Sharding
     
     private ShardingSphereSchema convertSchema(final YamlSchema schema) {
         return new ShardingSphereSchema(MapUtils.isEmpty(schema.getTables()) ? Maps.newLinkedHashMap() : schema.getTables().entrySet().stream()
-                .collect(Collectors.toMap(Entry::getKey, entry -> convertTable(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
-    }
-    
-    private TableMetaData convertTable(final YamlTableMetaData table) {
-        return new TableMetaData(convertColumns(table.getColumns()), convertIndexes(table.getIndexes()));
-    }
-    
-    private Collection<IndexMetaData> convertIndexes(final Map<String, YamlIndexMetaData> indexes) {
-        return null == indexes ? Collections.emptyList() : indexes.values().stream().map(this::convertIndex).collect(Collectors.toList());
-    }
-    
-    private IndexMetaData convertIndex(final YamlIndexMetaData index) {
-        return new IndexMetaData(index.getName());
-    }
-    
-    private Collection<ColumnMetaData> convertColumns(final Map<String, YamlColumnMetaData> indexes) {
-        return null == indexes ? Collections.emptyList() : indexes.values().stream().map(this::convertColumn).collect(Collectors.toList());
-    }
-    
-    private ColumnMetaData convertColumn(final YamlColumnMetaData column) {
-        return new ColumnMetaData(column.getName(), column.getDataType(), column.getDataTypeName(), column.isPrimaryKey(), column.isGenerated(), column.isCaseSensitive());
-    }
-    
-    private YamlTableMetaData convertYamlTable(final TableMetaData table) {
-        YamlTableMetaData result = new YamlTableMetaData();
-        result.setColumns(convertYamlColumns(table.getColumns()));
-        result.setIndexes(convertYamlIndexes(table.getIndexes()));
-        return result;
-    }
-    
-    private Map<String, YamlIndexMetaData> convertYamlIndexes(final Map<String, IndexMetaData> indexes) {
-        return indexes.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlIndex(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
-    }
-    
-    private YamlIndexMetaData convertYamlIndex(final IndexMetaData index) {
-        YamlIndexMetaData result = new YamlIndexMetaData();
-        result.setName(index.getName());
-        return result;
-    }
-    
-    private Map<String, YamlColumnMetaData> convertYamlColumns(final Map<String, ColumnMetaData> columns) {
-        return columns.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> convertYamlColumn(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
-    }
-    
-    private YamlColumnMetaData convertYamlColumn(final ColumnMetaData column) {
-        YamlColumnMetaData result = new YamlColumnMetaData();
-        result.setName(column.getName());
-        result.setCaseSensitive(column.isCaseSensitive());
-        result.setGenerated(column.isGenerated());
-        result.setPrimaryKey(column.isPrimaryKey());
-        result.setDataType(result.getDataType());
-        result.setDataTypeName(result.getDataTypeName());
-        return result;
+                .collect(Collectors.toMap(Entry::getKey, entry -> tableMetaDataYamlSwapper.swapToObject(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
     }
 }
@@ -22,9 +22,11 @@ import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class ConfigCenterNodeTest {
@@ -76,4 +78,22 @@ public final class ConfigCenterNodeTest {
     public void assertGetTablePath() {
         assertThat(configurationNode.getSchemaPath("sharding_db"), is("/metadata/sharding_db/schema"));
     }
+    
+    @Test
+    public void assertGetSchemaTablePath() {
+        assertThat(configurationNode.getSchemaTablePath("sharding_db", "t_order"), is("/metadata/sharding_db/schema/tables/t_order"));
+    }
+    
+    @Test
+    public void assertGetSchemaVersionPath() {
+        assertThat(configurationNode.getSchemaVersionPath("sharding_db"), is("/metadata/sharding_db/schema/version"));
+    }
+    
+    @Test
+    public void assertFindTableName() {
+        assertThat(configurationNode.findTableName("sharding_db", "/metadata/sharding_db/schema/tables/t_order"), is(Optional.of("t_order")));
+        assertFalse(configurationNode.findTableName("sharding_db", "/metadata/sharding_db/schema/tables").isPresent());
+        assertFalse(configurationNode.findTableName("sharding_db", "/metadata/sharding_db/schema/version").isPresent());
+        assertFalse(configurationNode.findTableName("sharding_db", "/metadata/replica_query_db/schema/tables/t_order").isPresent());
+    }
 }
@@ -36,6 +36,8 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
@@ -541,7 +543,41 @@ public final class ConfigCenterTest {
         ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
         ConfigCenter configCenter = new ConfigCenter(configurationRepository);
         configCenter.persistSchema("sharding_db", schema);
-        verify(configurationRepository).persist(eq("/metadata/sharding_db/schema"), anyString());
+        verify(configurationRepository).persist(eq("/metadata/sharding_db/schema/tables/t_order"), anyString());
+        verify(configurationRepository).persist("/metadata/sharding_db/schema/version", "1");
+    }
+    
+    @Test
+    public void assertPersistSchemaWithChangedTablesOnly() {
+        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
+        TableMetaData orderItemTableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("item_id", 4, "int", true, false, false)), Collections.emptyList());
+        schema.put("t_order_item", orderItemTableMetaData);
+        ConfigCenter configCenter = new ConfigCenter(configurationRepository);
+        configCenter.persistSchema("sharding_db", schema);
+        when(configurationRepository.get("/metadata/sharding_db/schema/version")).thenReturn("1");
+        schema.put("t_order_item", new TableMetaData(Collections.singletonList(new ColumnMetaData("item_id", 4, "int", false, false, false)), Collections.emptyList()));
+        schema.remove("t_order");
+        configCenter.persistSchema("sharding_db", schema);
+        verify(configurationRepository).persist(eq("/metadata/sharding_db/schema/tables/t_order"), anyString());
+        verify(configurationRepository, times(2)).persist(eq("/metadata/sharding_db/schema/tables/t_order_item"), anyString());
+        verify(configurationRepository).delete("/metadata/sharding_db/schema/tables/t_order");
+        verify(configurationRepository).persist("/metadata/sharding_db/schema/version", "2");
+        configCenter.persistSchema("sharding_db", schema);
+        verify(configurationRepository, times(2)).persist(eq("/metadata/sharding_db/schema/tables/t_order_item"), anyString());
+    }
+    
+    @Test
+    public void assertLoadSchemaWithTableNodes() {
+        when(configurationRepository.get("/metadata/sharding_db/schema/version")).thenReturn("3");
+        when(configurationRepository.getChildrenKeys("/metadata/sharding_db/schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        String yamlTableMetaData = YamlEngine.marshal(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class).getTables().get("t_order"));
+        when(configurationRepository.get("/metadata/sharding_db/schema/tables/t_order")).thenReturn(yamlTableMetaData);
+        ConfigCenter configCenter = new ConfigCenter(configurationRepository);
+        Optional<ShardingSphereSchema> actual = configCenter.loadSchema("sharding_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames(), is(Collections.singleton("t_order")));
+        assertThat(actual.get().get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+        assertThat(configCenter.loadSchemaVersion("sharding_db"), is(3L));
     }
     
     @Test
@@ -565,7 +601,7 @@ public final class ConfigCenterTest {
         SchemaPersistEvent event = new SchemaPersistEvent("sharding_db", new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class)));
         ConfigCenter configCenter = new ConfigCenter(configurationRepository);
         configCenter.renew(event);
-        verify(configurationRepository).persist(eq("/metadata/sharding_db/schema"), anyString());
+        verify(configurationRepository).persist(eq("/metadata/sharding_db/schema/tables/t_order"), anyString());
     }
     
     @Test
@@ -56,6 +56,18 @@ public final class ConfigurationListenerManagerTest {
         verify(authenticationChangedListener).watch(Type.UPDATED);
     }
     
+    @Test
+    public void assertClose() {
+        ConfigurationListenerManager actual = new ConfigurationListenerManager(configurationRepository, Arrays.asList("sharding_db", "replica_query_db"));
+        setField(actual, "schemaChangedListener", schemaChangedListener);
+        setField(actual, "propertiesChangedListener", propertiesChangedListener);
+        setField(actual, "authenticationChangedListener", authenticationChangedListener);
+        actual.close();
+        verify(schemaChangedListener).close();
+        verify(propertiesChangedListener).close();
+        verify(authenticationChangedListener).close();
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static void setField(final Object target, final String fieldName, final Object fieldValue) {
         Field field = target.getClass().getDeclaredField(fieldName);
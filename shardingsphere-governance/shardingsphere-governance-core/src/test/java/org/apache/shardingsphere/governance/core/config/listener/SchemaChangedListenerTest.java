@@ -25,6 +25,7 @@ import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataAd
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.ConfigurationRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
@@ -42,8 +43,12 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -260,6 +265,50 @@ public final class SchemaChangedListenerTest {
         assertTrue(((SchemaChangedEvent) actual.get()).getSchema().getAllTableNames().contains("t_order"));
     }
     
+    @Test
+    public void assertCreateTableMetaDataChangedEvent() {
+        String yamlTableMetaData = "columns:\n  id:\n    name: id\n    dataType: 4\n    primaryKey: true\n";
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/metadata/sharding_db/schema/tables/t_order", yamlTableMetaData, Type.UPDATED);
+        Optional<GovernanceEvent> actual = schemaChangedListener.createEvent(dataChangedEvent);
+        assertTrue(actual.isPresent());
+        TableMetaDataChangedEvent event = (TableMetaDataChangedEvent) actual.get();
+        assertThat(event.getSchemaName(), is("sharding_db"));
+        assertThat(event.getChangedTables().get("t_order").getColumns().get("id").getDataType(), is(4));
+        assertTrue(event.getDeletedTables().isEmpty());
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataDeletedEvent() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/metadata/sharding_db/schema/tables/t_order", "", Type.DELETED);
+        Optional<GovernanceEvent> actual = schemaChangedListener.createEvent(dataChangedEvent);
+        assertTrue(actual.isPresent());
+        assertTrue(((TableMetaDataChangedEvent) actual.get()).getChangedTables().isEmpty());
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getDeletedTables(), is(Collections.singletonList("t_order")));
+    }
+    
+    @Test
+    public void assertCreateEventsWithMergedTableMetaDataChangedEvents() {
+        String yamlTableMetaData = "columns:\n  id:\n    name: id\n    dataType: 4\n    primaryKey: true\n";
+        Collection<DataChangedEvent> dataChangedEvents = Arrays.asList(
+                new DataChangedEvent("/metadata/sharding_db/schema/tables/t_order", yamlTableMetaData, Type.ADDED),
+                new DataChangedEvent("/metadata/sharding_db/schema/tables/t_order_item", yamlTableMetaData, Type.ADDED),
+                new DataChangedEvent("/metadata/sharding_db/schema/tables/t_user", "", Type.DELETED),
+                new DataChangedEvent("/metadata/sharding_db/rule", readYAML(SHARDING_RULE_FILE), Type.UPDATED),
+                new DataChangedEvent("/metadata/sharding_db/schema/tables/t_config", yamlTableMetaData, Type.ADDED));
+        List<GovernanceEvent> actual = new ArrayList<>(schemaChangedListener.createEvents(dataChangedEvents));
+        assertThat(actual.size(), is(3));
+        TableMetaDataChangedEvent mergedEvent = (TableMetaDataChangedEvent) actual.get(0);
+        assertThat(mergedEvent.getChangedTables().keySet(), is(new LinkedHashSet<>(Arrays.asList("t_order", "t_order_item"))));
+        assertThat(new ArrayList<>(mergedEvent.getDeletedTables()), is(Collections.singletonList("t_user")));
+        assertThat(actual.get(1), instanceOf(RuleConfigurationsChangedEvent.class));
+        assertThat(((TableMetaDataChangedEvent) actual.get(2)).getChangedTables().keySet(), is(Collections.singleton("t_config")));
+    }
+    
+    @Test
+    public void assertCreateEventWithSchemaVersionChanged() {
+        assertFalse(schemaChangedListener.createEvent(new DataChangedEvent("/metadata/sharding_db/schema/version", "2", Type.UPDATED)).isPresent());
+    }
+    
     @SneakyThrows({IOException.class, URISyntaxException.class})
     private String readYAML(final String yamlFile) {
         return Files.readAllLines(Paths.get(ClassLoader.getSystemResource(yamlFile).toURI())).stream().map(each -> each + System.lineSeparator()).collect(Collectors.joining());
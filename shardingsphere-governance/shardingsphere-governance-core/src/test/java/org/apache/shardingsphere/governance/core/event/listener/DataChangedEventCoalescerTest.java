@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.event.listener;
+
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataChangedEventCoalescerTest {
+    
+    private final List<Collection<DataChangedEvent>> batches = new CopyOnWriteArrayList<>();
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithoutWindow() {
+        new DataChangedEventCoalescer(0L, 1, batches::add);
+    }
+    
+    @Test
+    public void assertFlushAfterWindow() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        DataChangedEventCoalescer coalescer = new DataChangedEventCoalescer(50L, 100, each -> {
+            batches.add(each);
+            latch.countDown();
+        });
+        coalescer.add(new DataChangedEvent("/test/foo", "1", Type.ADDED));
+        coalescer.add(new DataChangedEvent("/test/bar", "1", Type.ADDED));
+        coalescer.add(new DataChangedEvent("/test/foo", "2", Type.UPDATED));
+        assertTrue(batches.isEmpty());
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertThat(batches.size(), is(1));
+        assertThat(getKeyValues(batches.get(0)), is(Arrays.asList("/test/bar=1", "/test/foo=2")));
+        coalescer.close();
+    }
+    
+    @Test
+    public void assertFlushWhenMaxBatchSizeReached() {
+        DataChangedEventCoalescer coalescer = new DataChangedEventCoalescer(TimeUnit.HOURS.toMillis(1L), 2, batches::add);
+        coalescer.add(new DataChangedEvent("/test/foo", "1", Type.ADDED));
+        coalescer.add(new DataChangedEvent("/test/foo", "2", Type.UPDATED));
+        assertTrue(batches.isEmpty());
+        coalescer.add(new DataChangedEvent("/test/bar", "1", Type.ADDED));
+        coalescer.add(new DataChangedEvent("/test/foo", "", Type.DELETED));
+        assertThat(batches.size(), is(1));
+        assertThat(getKeyValues(batches.get(0)), is(Arrays.asList("/test/foo=2", "/test/bar=1")));
+        coalescer.flush();
+        assertThat(batches.size(), is(2));
+        assertThat(batches.get(1).iterator().next().getType(), is(Type.DELETED));
+        coalescer.close();
+    }
+    
+    @Test
+    public void assertClose() {
+        DataChangedEventCoalescer coalescer = new DataChangedEventCoalescer(TimeUnit.HOURS.toMillis(1L), 100, batches::add);
+        coalescer.add(new DataChangedEvent("/test/foo", "1", Type.ADDED));
+        coalescer.close();
+        coalescer.add(new DataChangedEvent("/test/bar", "1", Type.ADDED));
+        coalescer.flush();
+        assertTrue(batches.isEmpty());
+    }
+    
+    private List<String> getKeyValues(final Collection<DataChangedEvent> events) {
+        return events.stream().map(each -> each.getKey() + "=" + each.getValue()).collect(Collectors.toList());
+    }
+}
@@ -28,8 +28,15 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -63,6 +70,29 @@ public final class PostGovernanceRepositoryEventListenerTest {
         verify(governanceRepository).watch(eq("test"), any());
     }
     
+    @Test
+    public void assertWatchWithCoalescing() {
+        Collection<DataChangedEvent> actual = new LinkedList<>();
+        PostGovernanceRepositoryEventListener<GovernanceEvent> postEventListener = new PostGovernanceRepositoryEventListener<GovernanceEvent>(
+                governanceRepository, Arrays.asList("test", "dev"), TimeUnit.HOURS.toMillis(1L), 2) {
+            
+            @Override
+            protected Optional<GovernanceEvent> createEvent(final DataChangedEvent event) {
+                actual.add(event);
+                return Optional.of(mock(GovernanceEvent.class));
+            }
+        };
+        doAnswer(invocationOnMock -> {
+            DataChangedEventListener listener = (DataChangedEventListener) invocationOnMock.getArguments()[1];
+            listener.onChange(new DataChangedEvent(invocationOnMock.getArguments()[0] + "/foo", "value", Type.UPDATED));
+            listener.onChange(new DataChangedEvent(invocationOnMock.getArguments()[0] + "/foo", "value", Type.DELETED));
+            return mock(DataChangedEventListener.class);
+        }).when(governanceRepository).watch(anyString(), any(DataChangedEventListener.class));
+        postEventListener.watch(Type.UPDATED);
+        assertThat(actual.stream().map(DataChangedEvent::getKey).collect(Collectors.toList()), is(Arrays.asList("test/foo", "dev/foo")));
+        postEventListener.close();
+    }
+    
     @Test
     public void assertWatchMultipleKey() {
         PostGovernanceRepositoryEventListener<GovernanceEvent> postEventListener = new PostGovernanceRepositoryEventListener<GovernanceEvent>(governanceRepository, Arrays.asList("test", "dev")) {
@@ -97,6 +97,7 @@ public final class GovernanceFacadeTest {
     @Test
     public void assertClose() {
         governanceFacade.close();
+        verify(listenerManager).close();
         verify(repositoryFacade).close();
     }
 }
@@ -55,4 +55,12 @@ public final class GovernanceListenerManagerTest {
         verify(configurationListenerManager).initListeners();
         verify(registryListenerManager).initListeners();
     }
+    
+    @Test
+    public void assertClose() {
+        GovernanceListenerManager actual = new GovernanceListenerManager(registryRepository, configurationRepository, Collections.emptyList());
+        FieldUtil.setField(actual, "configurationListenerManager", configurationListenerManager);
+        actual.close();
+        verify(configurationListenerManager).close();
+    }
 }
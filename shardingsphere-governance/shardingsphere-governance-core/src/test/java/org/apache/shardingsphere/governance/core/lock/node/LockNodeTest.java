@@ -36,4 +36,21 @@ public final class LockNodeTest {
     public void getGlobalLockNodePath() {
         assertThat(lockNode.getGlobalLockNodePath(), is("/glock"));
     }
+    
+    @Test
+    public void getLockMutexNodePath() {
+        assertThat(lockNode.getLockMutexNodePath(), is("/lock/mutex"));
+    }
+    
+    @Test
+    public void getTableLockNodePath() {
+        assertThat(lockNode.getTablesLockNodePath("sharding_db"), is("/lock/tables/sharding_db"));
+        assertThat(lockNode.getTableLockNodePath("sharding_db", "t_order"), is("/lock/tables/sharding_db/t_order"));
+    }
+    
+    @Test
+    public void getTableLockAckNodePath() {
+        assertThat(lockNode.getTableLockAckNodePath("sharding_db", "t_order"), is("/lock/ack/sharding_db/t_order"));
+        assertThat(lockNode.getTableLockAckNodePath("sharding_db", "t_order", "lock_id", "instance_id"), is("/lock/ack/sharding_db/t_order/lock_id/instance_id"));
+    }
 }
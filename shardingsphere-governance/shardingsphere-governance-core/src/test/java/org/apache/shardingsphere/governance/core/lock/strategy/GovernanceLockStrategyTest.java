@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.governance.core.lock.strategy;
 
+import org.apache.shardingsphere.governance.core.event.model.lock.TableLockChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataRenewedEvent;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenter;
 import org.apache.shardingsphere.governance.core.registry.util.FieldUtil;
+import org.apache.shardingsphere.infra.lock.LockMode;
 import org.apache.shardingsphere.infra.lock.LockStrategy;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,10 +29,26 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class GovernanceLockStrategyTest {
@@ -37,6 +56,11 @@ public final class GovernanceLockStrategyTest {
     @Mock
     private RegistryCenter registryCenter;
     
+    @Mock
+    private RegistryCenter otherRegistryCenter;
+    
+    private final Collection<String> tableNames = Collections.singleton("t_order");
+    
     private LockStrategy lockStrategy;
     
     @Before
@@ -56,4 +80,133 @@ public final class GovernanceLockStrategyTest {
         lockStrategy.releaseLock();
         verify(registryCenter).releaseGlobalLock();
     }
+    
+    @Test
+    public void assertTrySharedTableLock() {
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        lockStrategy.releaseLock("sharding_db", tableNames, LockMode.SHARED);
+        verify(registryCenter, never()).releaseTableLock("sharding_db", tableNames);
+    }
+    
+    @Test
+    public void assertTryExclusiveTableLock() {
+        when(registryCenter.tryTableLock(eq("sharding_db"), eq(tableNames), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        assertFalse(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 10L, TimeUnit.MILLISECONDS));
+        lockStrategy.releaseLock("sharding_db", tableNames, LockMode.EXCLUSIVE);
+        verify(registryCenter).releaseTableLock("sharding_db", tableNames);
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertTryExclusiveTableLockFailedInRegistryCenter() {
+        assertFalse(lockStrategy.tryLock("sharding_db", tableNames, LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertLockTableByOtherInstance() {
+        GovernanceLockStrategy governanceLockStrategy = (GovernanceLockStrategy) lockStrategy;
+        governanceLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", "lock_id", true));
+        verify(registryCenter, timeout(1000L)).ackTableLock("sharding_db", "t_order", "lock_id");
+        assertFalse(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 10L, TimeUnit.MILLISECONDS));
+        governanceLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", "lock_id", false));
+        assertFalse(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 10L, TimeUnit.MILLISECONDS));
+        governanceLockStrategy.releaseTableLock(new MetaDataRenewedEvent("sharding_db", tableNames));
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertLockTableByOtherInstanceWithMetaDataRenewedBeforeReleased() {
+        GovernanceLockStrategy governanceLockStrategy = (GovernanceLockStrategy) lockStrategy;
+        governanceLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", "lock_id", true));
+        verify(registryCenter, timeout(1000L)).ackTableLock("sharding_db", "t_order", "lock_id");
+        governanceLockStrategy.releaseTableLock(new MetaDataRenewedEvent("sharding_db", Collections.singleton("t_order_item")));
+        governanceLockStrategy.releaseTableLock(new MetaDataRenewedEvent("sharding_db", tableNames));
+        assertFalse(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 10L, TimeUnit.MILLISECONDS));
+        governanceLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", "lock_id", false));
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    public void assertLockTableByOtherInstanceNotBlockedByExecutingDML() {
+        GovernanceLockStrategy governanceLockStrategy = (GovernanceLockStrategy) lockStrategy;
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        governanceLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", "lock_id", true));
+        verify(registryCenter, never()).ackTableLock("sharding_db", "t_order", "lock_id");
+        lockStrategy.releaseLock("sharding_db", tableNames, LockMode.SHARED);
+        verify(registryCenter, timeout(1000L)).ackTableLock("sharding_db", "t_order", "lock_id");
+    }
+    
+    @Test
+    public void assertLockTableByCurrentInstance() {
+        GovernanceLockStrategy governanceLockStrategy = (GovernanceLockStrategy) lockStrategy;
+        when(registryCenter.tryTableLock(eq("sharding_db"), eq(tableNames), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            governanceLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", invocation.getArgument(2), true));
+            return true;
+        });
+        assertTrue(lockStrategy.tryLock("sharding_db", tableNames, LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        lockStrategy.releaseLock("sharding_db", tableNames, LockMode.EXCLUSIVE);
+        verify(registryCenter, never()).ackTableLock(eq("sharding_db"), eq("t_order"), anyString());
+    }
+    
+    @Test
+    public void assertTryExclusiveTableLockConcurrentlyByTwoInstances() throws Exception {
+        GovernanceLockStrategy otherLockStrategy = new GovernanceLockStrategy();
+        FieldUtil.setField(otherLockStrategy, "registryCenter", otherRegistryCenter);
+        AtomicReference<String> tableLockNode = new AtomicReference<>();
+        Collection<String> acknowledgedLockIds = ConcurrentHashMap.newKeySet();
+        CountDownLatch claimingLatch = new CountDownLatch(2);
+        mockRegistryCenter(registryCenter, otherRegistryCenter, otherLockStrategy, tableLockNode, acknowledgedLockIds, claimingLatch);
+        mockRegistryCenter(otherRegistryCenter, registryCenter, (GovernanceLockStrategy) lockStrategy, tableLockNode, acknowledgedLockIds, claimingLatch);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> locked = executorService.submit(() -> tryExclusiveTableLockAndRelease(lockStrategy));
+            Future<Boolean> otherLocked = executorService.submit(() -> tryExclusiveTableLockAndRelease(otherLockStrategy));
+            assertTrue(locked.get());
+            assertTrue(otherLocked.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private void mockRegistryCenter(final RegistryCenter registryCenter, final RegistryCenter otherRegistryCenter, final GovernanceLockStrategy otherLockStrategy,
+                                    final AtomicReference<String> tableLockNode, final Collection<String> acknowledgedLockIds, final CountDownLatch claimingLatch) {
+        when(registryCenter.tryTableLock(eq("sharding_db"), eq(tableNames), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            String lockId = invocation.getArgument(2);
+            long deadline = System.currentTimeMillis() + (long) invocation.getArgument(3);
+            claimingLatch.countDown();
+            claimingLatch.await(1L, TimeUnit.SECONDS);
+            while (!tableLockNode.compareAndSet(null, lockId)) {
+                if (System.currentTimeMillis() > deadline) {
+                    return false;
+                }
+                Thread.sleep(10L);
+            }
+            otherLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", lockId, true));
+            while (!acknowledgedLockIds.contains(lockId)) {
+                if (System.currentTimeMillis() > deadline) {
+                    tableLockNode.set(null);
+                    otherLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", lockId, false));
+                    return false;
+                }
+                Thread.sleep(10L);
+            }
+            return true;
+        });
+        doAnswer(invocation -> acknowledgedLockIds.add(invocation.getArgument(2))).when(otherRegistryCenter).ackTableLock(eq("sharding_db"), eq("t_order"), anyString());
+        doAnswer(invocation -> {
+            otherLockStrategy.lockTable(new TableLockChangedEvent("sharding_db", "t_order", tableLockNode.getAndSet(null), false));
+            otherLockStrategy.releaseTableLock(new MetaDataRenewedEvent("sharding_db", tableNames));
+            return null;
+        }).when(registryCenter).releaseTableLock("sharding_db", tableNames);
+    }
+    
+    private boolean tryExclusiveTableLockAndRelease(final LockStrategy lockStrategy) {
+        if (!lockStrategy.tryLock("sharding_db", tableNames, LockMode.EXCLUSIVE, 5000L, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        lockStrategy.releaseLock("sharding_db", tableNames, LockMode.EXCLUSIVE);
+        return true;
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.governance.core.registry;
 
+import org.apache.shardingsphere.governance.core.registry.instance.GovernanceInstance;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,12 +26,18 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -89,9 +96,78 @@ public final class RegistryCenterTest {
         verify(registryRepository).tryLock(eq(50L), eq(TimeUnit.MILLISECONDS));
     }
     
+    @Test
+    public void assertTryGlobalLockWithGlobalLockNodePersisted() {
+        when(registryRepository.tryLock(50L, TimeUnit.MILLISECONDS)).thenReturn(true);
+        assertTrue(registryCenter.tryGlobalLock(50L, TimeUnit.MILLISECONDS));
+        verify(registryRepository).persist(eq("/glock"), anyString());
+    }
+    
     @Test
     public void assertReleaseGlobalLock() {
         registryCenter.releaseGlobalLock();
+        verify(registryRepository).delete("/glock");
+        verify(registryRepository).releaseLock();
+    }
+    
+    @Test
+    public void assertTryTableLock() {
+        when(registryRepository.tryLock(anyLong(), any())).thenReturn(true);
+        assertTrue(registryCenter.tryTableLock("sharding_db", Collections.singleton("t_order"), "lock_id", 50L, TimeUnit.MILLISECONDS));
+        verify(registryRepository).persistEphemeral("/lock/tables/sharding_db/t_order", "lock_id");
         verify(registryRepository).releaseLock();
     }
+    
+    @Test
+    public void assertTryTableLockWhenTableLocked() {
+        when(registryRepository.tryLock(anyLong(), any())).thenReturn(true);
+        when(registryRepository.getChildrenKeys("/lock/tables/sharding_db")).thenReturn(Collections.singletonList("t_order"));
+        assertFalse(registryCenter.tryTableLock("sharding_db", Collections.singleton("t_order"), "lock_id", 10L, TimeUnit.MILLISECONDS));
+        verify(registryRepository, never()).persistEphemeral(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertTryTableLockWithAllInstancesAcknowledged() {
+        when(registryRepository.tryLock(anyLong(), any())).thenReturn(true);
+        when(registryRepository.getChildrenKeys("/states/proxynodes")).thenReturn(Arrays.asList(GovernanceInstance.getInstance().getInstanceId(), "other_instance"));
+        when(registryRepository.getChildrenKeys("/lock/ack/sharding_db/t_order/lock_id")).thenReturn(Collections.singletonList("other_instance"));
+        assertTrue(registryCenter.tryTableLock("sharding_db", Collections.singleton("t_order"), "lock_id", 50L, TimeUnit.MILLISECONDS));
+        verify(registryRepository, never()).delete(anyString());
+    }
+    
+    @Test
+    public void assertTryTableLockWithoutInstanceAcknowledged() {
+        when(registryRepository.tryLock(anyLong(), any())).thenReturn(true);
+        when(registryRepository.getChildrenKeys("/states/proxynodes")).thenReturn(Collections.singletonList("other_instance"));
+        assertFalse(registryCenter.tryTableLock("sharding_db", Collections.singleton("t_order"), "lock_id", 10L, TimeUnit.MILLISECONDS));
+        verify(registryRepository).delete("/lock/tables/sharding_db/t_order");
+        verify(registryRepository).delete("/lock/ack/sharding_db/t_order");
+    }
+    
+    @Test
+    public void assertTryTableLockWhenInterrupted() {
+        when(registryRepository.tryLock(anyLong(), any())).thenReturn(true);
+        when(registryRepository.getChildrenKeys("/states/proxynodes")).thenReturn(Collections.singletonList("other_instance"));
+        Thread.currentThread().interrupt();
+        try {
+            assertFalse(registryCenter.tryTableLock("sharding_db", Collections.singleton("t_order"), "lock_id", 50000L, TimeUnit.MILLISECONDS));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        verify(registryRepository).delete("/lock/tables/sharding_db/t_order");
+    }
+    
+    @Test
+    public void assertAckTableLock() {
+        registryCenter.ackTableLock("sharding_db", "t_order", "lock_id");
+        verify(registryRepository).persistEphemeral("/lock/ack/sharding_db/t_order/lock_id/" + GovernanceInstance.getInstance().getInstanceId(), "");
+    }
+    
+    @Test
+    public void assertReleaseTableLock() {
+        registryCenter.releaseTableLock("sharding_db", Collections.singleton("t_order"));
+        verify(registryRepository).delete("/lock/tables/sharding_db/t_order");
+        verify(registryRepository).delete("/lock/ack/sharding_db/t_order");
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.listener;
+
+import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.event.model.lock.TableLockChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TableLockChangedListenerTest {
+    
+    private TableLockChangedListener tableLockChangedListener;
+    
+    @Mock
+    private RegistryRepository registryRepository;
+    
+    @Before
+    public void setUp() {
+        tableLockChangedListener = new TableLockChangedListener(registryRepository);
+    }
+    
+    @Test
+    public void assertCreateEventWithTableLocked() {
+        Optional<GovernanceEvent> actual = tableLockChangedListener.createEvent(new DataChangedEvent("/lock/tables/sharding_db/t_order", "lock_id", Type.ADDED));
+        assertTrue(actual.isPresent());
+        TableLockChangedEvent event = (TableLockChangedEvent) actual.get();
+        assertThat(event.getSchemaName(), is("sharding_db"));
+        assertThat(event.getTableName(), is("t_order"));
+        assertThat(event.getLockId(), is("lock_id"));
+        assertTrue(event.isLocked());
+    }
+    
+    @Test
+    public void assertCreateEventWithTableUnlocked() {
+        Optional<GovernanceEvent> actual = tableLockChangedListener.createEvent(new DataChangedEvent("/lock/tables/sharding_db/t_order", "", Type.DELETED));
+        assertTrue(actual.isPresent());
+        assertFalse(((TableLockChangedEvent) actual.get()).isLocked());
+    }
+    
+    @Test
+    public void assertCreateEventWithSchemaNode() {
+        assertFalse(tableLockChangedListener.createEvent(new DataChangedEvent("/lock/tables/sharding_db", "", Type.ADDED)).isPresent());
+    }
+}
@@ -26,6 +26,7 @@ import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
+import io.etcd.jetcd.options.WatchOption;
 import io.etcd.jetcd.watch.WatchEvent;
 import lombok.Getter;
 import lombok.Setter;
@@ -131,7 +132,8 @@ public final class EtcdRepository implements ConfigurationRepository, RegistryRe
                 }
             }
         });
-        client.getWatchClient().watch(ByteSequence.from(key, StandardCharsets.UTF_8), listener);
+        ByteSequence prefix = ByteSequence.from(key, StandardCharsets.UTF_8);
+        client.getWatchClient().watch(prefix, WatchOption.newBuilder().withPrefix(prefix).build(), listener);
     }
     
     private Type getEventChangedType(final WatchEvent event) {
@@ -63,6 +63,24 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     QUERY_WITH_CIPHER_COLUMN("query-with-cipher-column", String.valueOf(Boolean.TRUE), boolean.class),
     
+    /**
+     * Whether route reads away from stalled replica for replica query.
+     * 
+     * <p>
+     * A replica is stalled when it has in-flight SQL executions, but none of them finished within its 95th percentile latency.
+     * </p>
+     */
+    REPLICA_QUERY_STALLED_REPLICA_AVOIDANCE_ENABLED("replica-query-stalled-replica-avoidance-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * File of SQLs to warm up SQL parser when application startup.
+     * 
+     * <p>
+     * One SQL per line, lines of logic SQL from {@code sql-show} log are accepted too.
+     * </p>
+     */
+    SQL_PARSER_WARM_UP_FILE("sql-parser-warm-up-file", "", String.class),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous event subscriber.
+ * 
+ * <p>
+ * Events are handled by the subscribe methods of delegated subscriber on a dedicated thread in posted order.
+ * Posting thread is blocked when the bounded queue is full, and pending {@link CoalescibleEvent} is superseded by the latest one with same coalescing key.
+ * </p>
+ */
+@Slf4j
+public final class AsyncEventSubscriber {
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    private final Object subscriber;
+    
+    private final Map<Class<?>, Collection<Method>> subscribeMethods = new ConcurrentHashMap<>();
+    
+    private final Map<Object, Object> pendingEvents = new ConcurrentHashMap<>();
+    
+    private final ThreadPoolExecutor executor;
+    
+    public AsyncEventSubscriber(final Object subscriber, final int queueSize) {
+        this.subscriber = subscriber;
+        executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-EventBus-" + subscriber.getClass().getSimpleName() + "-%d").build(), this::waitForQueue);
+        executor.allowCoreThreadTimeOut(true);
+    }
+    
+    private void waitForQueue(final Runnable task, final ThreadPoolExecutor executor) {
+        try {
+            executor.getQueue().put(task);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(ex);
+        }
+    }
+    
+    /**
+     * Dispatch event.
+     * 
+     * @param event event
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void dispatch(final Object event) {
+        Collection<Method> methods = subscribeMethods.computeIfAbsent(event.getClass(), this::findSubscribeMethods);
+        if (methods.isEmpty()) {
+            return;
+        }
+        if (!(event instanceof CoalescibleEvent)) {
+            executor.execute(() -> handle(methods, event));
+            return;
+        }
+        Object coalescingKey = ((CoalescibleEvent) event).getCoalescingKey();
+        if (null == pendingEvents.put(coalescingKey, event)) {
+            try {
+                executor.execute(() -> handle(pendingEvents.remove(coalescingKey)));
+            } catch (final RejectedExecutionException ex) {
+                pendingEvents.remove(coalescingKey);
+                throw ex;
+            }
+        }
+    }
+    
+    private Collection<Method> findSubscribeMethods(final Class<?> eventType) {
+        Collection<Method> result = new LinkedList<>();
+        for (Class<?> clazz = subscriber.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Method each : clazz.getDeclaredMethods()) {
+                if (each.isAnnotationPresent(Subscribe.class) && 1 == each.getParameterCount() && each.getParameterTypes()[0].isAssignableFrom(eventType)) {
+                    each.setAccessible(true);
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void handle(final Object event) {
+        handle(subscribeMethods.computeIfAbsent(event.getClass(), this::findSubscribeMethods), event);
+    }
+    
+    private void handle(final Collection<Method> methods, final Object event) {
+        for (Method each : methods) {
+            try {
+                each.invoke(subscriber, event);
+            } catch (final IllegalAccessException | InvocationTargetException ex) {
+                log.error("Exception thrown by subscriber method {} when dispatching event {}.", each, event, ex instanceof InvocationTargetException ? ex.getCause() : ex);
+            }
+        }
+    }
+}
@@ -27,6 +27,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingSphereEventBus {
     
+    /**
+     * Dispatch events to all subscribers synchronously if the system property is true, it is designed for test.
+     */
+    public static final String SYNCHRONOUS_DISPATCH_KEY = "shardingsphere.eventbus.synchronous";
+    
+    private static final int ASYNC_QUEUE_SIZE = 1024;
+    
     /**
      * Get instance of ShardingSphere event bus.
      *
@@ -36,6 +43,15 @@ public final class ShardingSphereEventBus {
         return ShardingSphereEventBusHolder.INSTANCE;
     }
     
+    /**
+     * Register subscriber to handle events asynchronously.
+     * 
+     * @param subscriber subscriber
+     */
+    public static void registerAsync(final Object subscriber) {
+        getInstance().register(Boolean.getBoolean(SYNCHRONOUS_DISPATCH_KEY) ? subscriber : new AsyncEventSubscriber(subscriber, ASYNC_QUEUE_SIZE));
+    }
+    
     private static final class ShardingSphereEventBusHolder {
         private static final EventBus INSTANCE = new EventBus();
     }
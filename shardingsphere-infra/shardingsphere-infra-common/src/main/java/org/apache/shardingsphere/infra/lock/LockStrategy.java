@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.lock;
 
 import org.apache.shardingsphere.infra.spi.typed.TypedSPI;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -35,11 +36,32 @@ public interface LockStrategy extends TypedSPI {
      */
     boolean tryLock(long timeout, TimeUnit timeUnit);
     
+    /**
+     * Try to get lock of tables.
+     * 
+     * @param schemaName schema name
+     * @param tableNames table names
+     * @param lockMode lock mode
+     * @param timeout the maximum time to acquire lock
+     * @param timeUnit time unit
+     * @return true if get the lock, false if not
+     */
+    boolean tryLock(String schemaName, Collection<String> tableNames, LockMode lockMode, long timeout, TimeUnit timeUnit);
+    
     /**
      * Release lock.
      */
     void releaseLock();
     
+    /**
+     * Release lock of tables.
+     * 
+     * @param schemaName schema name
+     * @param tableNames table names
+     * @param lockMode lock mode
+     */
+    void releaseLock(String schemaName, Collection<String> tableNames, LockMode lockMode);
+    
     /**
      * Check lock state.
      * 
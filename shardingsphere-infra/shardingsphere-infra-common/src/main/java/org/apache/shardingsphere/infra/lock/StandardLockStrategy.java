@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.state.StateContext;
 import org.apache.shardingsphere.infra.state.StateEvent;
 import org.apache.shardingsphere.infra.state.StateType;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -31,6 +32,8 @@ public final class StandardLockStrategy implements LockStrategy {
     
     private final ReentrantLock lock = new ReentrantLock();
     
+    private final TableLockManager tableLockManager = new TableLockManager();
+    
     @Override
     public boolean tryLock(final long timeout, final TimeUnit timeUnit) {
         boolean result = false;
@@ -46,12 +49,22 @@ public final class StandardLockStrategy implements LockStrategy {
         return result;
     }
     
+    @Override
+    public boolean tryLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode, final long timeout, final TimeUnit timeUnit) {
+        return tableLockManager.tryLock(schemaName, tableNames, lockMode, timeout, timeUnit);
+    }
+    
     @Override
     public void releaseLock() {
         lock.unlock();
         StateContext.switchState(new StateEvent(StateType.LOCK, false));
     }
     
+    @Override
+    public void releaseLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode) {
+        tableLockManager.releaseLock(schemaName, tableNames, lockMode);
+    }
+    
     @Override
     public boolean checkLock() {
         return StateContext.getCurrentState() == StateType.LOCK;
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.lock;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table lock manager.
+ * 
+ * <p>
+ * Tables are hashed into a fixed number of fair semaphores. Shared lock takes one permit and exclusive lock takes all permits of a stripe,
+ * so DML on different tables never contends and DDL only drains DML of the tables it changes.
+ * Stripes are always acquired in ascending order to avoid dead lock between multiple tables locks.
+ * A stripe nobody is waiting for is acquired without timed waiting, so uncontended DML only costs one compare and set per stripe.
+ * Lock is not owned by thread, it is allowed to be released by another thread, for example governance event thread.
+ * </p>
+ */
+public final class TableLockManager {
+    
+    private static final int DEFAULT_STRIPE_SIZE = 64;
+    
+    private static final int MAX_SHARED_HOLDERS = 1 << 16;
+    
+    private final Semaphore[] stripes;
+    
+    public TableLockManager() {
+        this(DEFAULT_STRIPE_SIZE);
+    }
+    
+    public TableLockManager(final int stripeSize) {
+        stripes = new Semaphore[stripeSize];
+        for (int i = 0; i < stripeSize; i++) {
+            stripes[i] = new Semaphore(MAX_SHARED_HOLDERS, true);
+        }
+    }
+    
+    /**
+     * Try to lock tables.
+     * 
+     * @param schemaName schema name
+     * @param tableNames table names
+     * @param lockMode lock mode
+     * @param timeout the maximum time to acquire lock
+     * @param timeUnit time unit
+     * @return true if get the lock, false if not
+     */
+    public boolean tryLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode, final long timeout, final TimeUnit timeUnit) {
+        int permits = getPermits(lockMode);
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        Collection<Integer> acquiredStripeIndexes = new TreeSet<>();
+        for (int each : getStripeIndexes(schemaName, tableNames)) {
+            if (!tryAcquire(stripes[each], permits, deadline)) {
+                release(acquiredStripeIndexes, permits);
+                return false;
+            }
+            acquiredStripeIndexes.add(each);
+        }
+        return true;
+    }
+    
+    private boolean tryAcquire(final Semaphore stripe, final int permits, final long deadline) {
+        if (!stripe.hasQueuedThreads() && stripe.tryAcquire(permits)) {
+            return true;
+        }
+        try {
+            return stripe.tryAcquire(permits, Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * Release tables lock.
+     * 
+     * @param schemaName schema name
+     * @param tableNames table names
+     * @param lockMode lock mode
+     */
+    public void releaseLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode) {
+        release(getStripeIndexes(schemaName, tableNames), getPermits(lockMode));
+    }
+    
+    private void release(final Collection<Integer> stripeIndexes, final int permits) {
+        for (int each : stripeIndexes) {
+            stripes[each].release(permits);
+        }
+    }
+    
+    private int getPermits(final LockMode lockMode) {
+        return LockMode.EXCLUSIVE == lockMode ? MAX_SHARED_HOLDERS : 1;
+    }
+    
+    private Collection<Integer> getStripeIndexes(final String schemaName, final Collection<String> tableNames) {
+        Collection<Integer> result = new TreeSet<>();
+        for (String each : tableNames) {
+            int hashCode = (schemaName + "." + each).toLowerCase().hashCode();
+            result.add(Math.floorMod(hashCode ^ (hashCode >>> 16), stripes.length));
+        }
+        return result;
+    }
+}
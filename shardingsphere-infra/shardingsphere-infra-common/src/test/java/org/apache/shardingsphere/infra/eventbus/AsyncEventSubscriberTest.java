@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus;
+
+import org.apache.shardingsphere.infra.eventbus.fixture.CoalescibleDeletedEventFixture;
+import org.apache.shardingsphere.infra.eventbus.fixture.CoalescibleEventFixture;
+import org.apache.shardingsphere.infra.eventbus.fixture.EventSubscriberFixture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AsyncEventSubscriberTest {
+    
+    @Test
+    public void assertDispatchInPostedOrderAsynchronously() throws InterruptedException {
+        EventSubscriberFixture subscriber = new EventSubscriberFixture();
+        AsyncEventSubscriber asyncEventSubscriber = new AsyncEventSubscriber(subscriber, 1);
+        asyncEventSubscriber.dispatch("foo");
+        asyncEventSubscriber.dispatch("bar");
+        asyncEventSubscriber.dispatch(1L);
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 1));
+        assertTrue(subscriber.getStartedLatch().await(5, TimeUnit.SECONDS));
+        assertThat(subscriber.getEvents(), is(Arrays.<Object>asList("foo", "bar", 1)));
+        assertThat(subscriber.getThreads().get(0), not(Thread.currentThread()));
+        subscriber.getBlockLatch().countDown();
+    }
+    
+    @Test
+    public void assertCoalescePendingEvents() throws InterruptedException {
+        EventSubscriberFixture subscriber = new EventSubscriberFixture();
+        AsyncEventSubscriber asyncEventSubscriber = new AsyncEventSubscriber(subscriber, 16);
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 1));
+        assertTrue(subscriber.getStartedLatch().await(5, TimeUnit.SECONDS));
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 2));
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("other_key", 3));
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 4));
+        asyncEventSubscriber.dispatch("done");
+        subscriber.getBlockLatch().countDown();
+        waitForEvent(subscriber, "done");
+        assertThat(subscriber.getEvents(), is(Arrays.<Object>asList(1, 4, 3, "done")));
+    }
+    
+    @Test
+    public void assertCoalescePendingEventsOfDifferentTypesWithSameKey() throws InterruptedException {
+        EventSubscriberFixture subscriber = new EventSubscriberFixture();
+        AsyncEventSubscriber asyncEventSubscriber = new AsyncEventSubscriber(subscriber, 16);
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 1));
+        assertTrue(subscriber.getStartedLatch().await(5, TimeUnit.SECONDS));
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 2));
+        asyncEventSubscriber.dispatch(new CoalescibleDeletedEventFixture("key"));
+        asyncEventSubscriber.dispatch("done");
+        subscriber.getBlockLatch().countDown();
+        waitForEvent(subscriber, "done");
+        assertThat(subscriber.getEvents(), is(Arrays.<Object>asList(1, "deleted key", "done")));
+    }
+    
+    @Test
+    public void assertDispatchCoalescibleEventAfterRejected() throws InterruptedException {
+        EventSubscriberFixture subscriber = new EventSubscriberFixture();
+        AsyncEventSubscriber asyncEventSubscriber = new AsyncEventSubscriber(subscriber, 1);
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("blocking_key", 1));
+        assertTrue(subscriber.getStartedLatch().await(5, TimeUnit.SECONDS));
+        asyncEventSubscriber.dispatch("foo");
+        Thread.currentThread().interrupt();
+        assertTrue(isRejected(asyncEventSubscriber, new CoalescibleEventFixture("key", 2)));
+        assertTrue(Thread.interrupted());
+        subscriber.getBlockLatch().countDown();
+        asyncEventSubscriber.dispatch(new CoalescibleEventFixture("key", 3));
+        asyncEventSubscriber.dispatch("done");
+        waitForEvent(subscriber, "done");
+        assertThat(subscriber.getEvents(), is(Arrays.<Object>asList(1, "foo", 3, "done")));
+    }
+    
+    private boolean isRejected(final AsyncEventSubscriber asyncEventSubscriber, final Object event) {
+        try {
+            asyncEventSubscriber.dispatch(event);
+            return false;
+        } catch (final RejectedExecutionException ex) {
+            return true;
+        }
+    }
+    
+    private void waitForEvent(final EventSubscriberFixture subscriber, final Object event) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!subscriber.getEvents().contains(event) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+    }
+}
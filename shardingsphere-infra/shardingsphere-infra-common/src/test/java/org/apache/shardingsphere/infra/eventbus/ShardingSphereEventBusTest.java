@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.infra.eventbus;
 
+import org.apache.shardingsphere.infra.eventbus.fixture.EventSubscriberFixture;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -28,4 +31,19 @@ public final class ShardingSphereEventBusTest {
     public void assertInstance() {
         assertThat(ShardingSphereEventBus.getInstance(), is(ShardingSphereEventBus.getInstance()));
     }
+    
+    @Test
+    public void assertRegisterAsyncWithSynchronousDispatch() {
+        EventSubscriberFixture subscriber = new EventSubscriberFixture();
+        System.setProperty(ShardingSphereEventBus.SYNCHRONOUS_DISPATCH_KEY, Boolean.TRUE.toString());
+        try {
+            ShardingSphereEventBus.registerAsync(subscriber);
+            ShardingSphereEventBus.getInstance().post("foo");
+            assertThat(subscriber.getEvents(), is(Collections.<Object>singletonList("foo")));
+            assertThat(subscriber.getThreads(), is(Collections.singletonList(Thread.currentThread())));
+        } finally {
+            System.clearProperty(ShardingSphereEventBus.SYNCHRONOUS_DISPATCH_KEY);
+            ShardingSphereEventBus.getInstance().unregister(subscriber);
+        }
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.eventbus.fixture;
+
+import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+@Getter
+public final class EventSubscriberFixture {
+    
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    
+    private final CountDownLatch blockLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch startedLatch = new CountDownLatch(1);
+    
+    /**
+     * Handle string event.
+     * 
+     * @param event event
+     */
+    @Subscribe
+    public void handle(final String event) {
+        events.add(event);
+        threads.add(Thread.currentThread());
+    }
+    
+    /**
+     * Handle coalescible event, the first event blocks until released.
+     * 
+     * @param event event
+     */
+    @Subscribe
+    @SneakyThrows(InterruptedException.class)
+    public void handle(final CoalescibleEventFixture event) {
+        events.add(event.getValue());
+        startedLatch.countDown();
+        blockLatch.await();
+    }
+    
+    /**
+     * Handle coalescible deleted event.
+     * 
+     * @param event event
+     */
+    @Subscribe
+    public void handle(final CoalescibleDeletedEventFixture event) {
+        events.add("deleted " + event.getCoalescingKey());
+    }
+}
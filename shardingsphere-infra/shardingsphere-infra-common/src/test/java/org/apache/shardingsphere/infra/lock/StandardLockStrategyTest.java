@@ -21,9 +21,11 @@ import org.apache.shardingsphere.infra.state.StateContext;
 import org.apache.shardingsphere.infra.state.StateType;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -45,4 +47,14 @@ public final class StandardLockStrategyTest {
         lockStrategy.releaseLock();
         assertThat(StateContext.getCurrentState(), is(StateType.OK));
     }
+    
+    @Test
+    public void assertTryTableLock() {
+        assertTrue(lockStrategy.tryLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        assertThat(StateContext.getCurrentState(), is(StateType.OK));
+        assertFalse(lockStrategy.tryLock("schema", Collections.singleton("t_order"), LockMode.SHARED, 10L, TimeUnit.MILLISECONDS));
+        lockStrategy.releaseLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE);
+        assertTrue(lockStrategy.tryLock("schema", Collections.singleton("t_order"), LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        lockStrategy.releaseLock("schema", Collections.singleton("t_order"), LockMode.SHARED);
+    }
 }
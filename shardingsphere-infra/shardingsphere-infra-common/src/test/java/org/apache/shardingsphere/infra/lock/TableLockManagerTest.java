@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.lock;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class TableLockManagerTest {
+    
+    private final TableLockManager tableLockManager = new TableLockManager();
+    
+    @Test
+    public void assertSharedLocksNotBlockEachOther() {
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.SHARED);
+        tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.SHARED);
+    }
+    
+    @Test
+    public void assertExclusiveLockBlocksSharedLockOfSameTable() {
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        assertFalse(tableLockManager.tryLock("schema", Collections.singleton("T_ORDER"), LockMode.SHARED, 10L, TimeUnit.MILLISECONDS));
+        tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE);
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.SHARED);
+    }
+    
+    @Test
+    public void assertExclusiveLockWaitsForSharedLock() {
+        assertTrue(tableLockManager.tryLock("schema", Arrays.asList("t_order", "t_order_item"), LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+        assertFalse(tableLockManager.tryLock("schema", Collections.singleton("t_order_item"), LockMode.EXCLUSIVE, 10L, TimeUnit.MILLISECONDS));
+        tableLockManager.releaseLock("schema", Arrays.asList("t_order", "t_order_item"), LockMode.SHARED);
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order_item"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        tableLockManager.releaseLock("schema", Collections.singleton("t_order_item"), LockMode.EXCLUSIVE);
+    }
+    
+    @Test
+    public void assertExclusiveLockNotBlockOtherTables() {
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        boolean otherTableLocked = false;
+        for (int i = 0; !otherTableLocked && i < 10; i++) {
+            otherTableLocked = tableLockManager.tryLock("schema", Collections.singleton("t_user_" + i), LockMode.SHARED, 0L, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(otherTableLocked);
+    }
+    
+    @Test
+    public void assertReleaseLockByAnotherThread() throws Exception {
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        CompletableFuture.runAsync(() -> tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE)).get();
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE);
+    }
+    
+    @Test
+    public void assertTryLockRestoresInterruptedFlag() {
+        assertTrue(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE, 50L, TimeUnit.MILLISECONDS));
+        Thread.currentThread().interrupt();
+        try {
+            assertFalse(tableLockManager.tryLock("schema", Collections.singleton("t_order"), LockMode.SHARED, 50L, TimeUnit.MILLISECONDS));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+            tableLockManager.releaseLock("schema", Collections.singleton("t_order"), LockMode.EXCLUSIVE);
+        }
+    }
+}
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.infra.lock.fixture;
 
+import org.apache.shardingsphere.infra.lock.LockMode;
 import org.apache.shardingsphere.infra.lock.LockStrategy;
 import org.apache.shardingsphere.infra.lock.LockStrategyType;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 public final class FixtureLockStrategy implements LockStrategy {
@@ -28,11 +30,21 @@ public final class FixtureLockStrategy implements LockStrategy {
         return false;
     }
     
+    @Override
+    public boolean tryLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode, final long timeout, final TimeUnit timeUnit) {
+        return false;
+    }
+    
     @Override
     public void releaseLock() {
         
     }
     
+    @Override
+    public void releaseLock(final String schemaName, final Collection<String> tableNames, final LockMode lockMode) {
+        
+    }
+    
     @Override
     public boolean checkLock() {
         return false;
@@ -37,20 +37,26 @@ import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.warmup.SQLParserWarmUpFileLoader;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Meta data contexts builder.
@@ -66,8 +72,6 @@ public final class MetaDataContextsBuilder {
     
     private final ConfigurationProperties props;
     
-    private final ExecutorEngine executorEngine;
-    
     public MetaDataContextsBuilder(final Map<String, Map<String, DataSource>> dataSources, final Map<String, Collection<RuleConfiguration>> ruleConfigs, final Properties props) {
         this(dataSources, ruleConfigs, new DefaultAuthentication(), props);
     }
@@ -78,7 +82,6 @@ public final class MetaDataContextsBuilder {
         this.ruleConfigs = ruleConfigs;
         this.authentication = authentication;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
     }
     
     /**
@@ -92,16 +95,36 @@ public final class MetaDataContextsBuilder {
         for (String each : ruleConfigs.keySet()) {
             mataDataMap.put(each, buildMetaData(each));
         }
+        warmUpSQLParser(mataDataMap.values());
+        ExecutorEngine executorEngine = new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
         return new StandardMetaDataContexts(mataDataMap, executorEngine, authentication, props);
     }
     
-    private ShardingSphereMetaData buildMetaData(final String schemaName) throws SQLException {
+    /**
+     * Build meta data of schema.
+     * 
+     * @param schemaName schema name
+     * @exception SQLException SQL exception
+     * @return meta data
+     */
+    public ShardingSphereMetaData buildMetaData(final String schemaName) throws SQLException {
         Map<String, DataSource> dataSourceMap = dataSources.get(schemaName);
+        return buildMetaData(schemaName, buildResource(getDatabaseType(dataSourceMap), dataSourceMap));
+    }
+    
+    /**
+     * Build meta data of schema with existed resource.
+     * 
+     * @param schemaName schema name
+     * @param resource resource to be reused
+     * @exception SQLException SQL exception
+     * @return meta data
+     */
+    public ShardingSphereMetaData buildMetaData(final String schemaName, final ShardingSphereResource resource) throws SQLException {
         Collection<RuleConfiguration> ruleConfigs = this.ruleConfigs.get(schemaName);
-        DatabaseType databaseType = getDatabaseType(dataSourceMap);
-        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, databaseType, dataSourceMap, schemaName);
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, resource.getDatabaseType(), resource.getDataSources(), schemaName);
         ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
-        return new ShardingSphereMetaData(schemaName, buildResource(databaseType, dataSourceMap), ruleMetaData, buildSchema(schemaName, databaseType, dataSourceMap, rules));
+        return new ShardingSphereMetaData(schemaName, resource, ruleMetaData, buildSchema(schemaName, resource.getDatabaseType(), resource.getDataSources(), rules));
     }
     
     private DatabaseType getDatabaseType(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -156,4 +179,32 @@ public final class MetaDataContextsBuilder {
         log.info("Load meta data for schema {} finished, cost {} milliseconds.", schemaName, System.currentTimeMillis() - start);
         return result;
     }
+    
+    private void warmUpSQLParser(final Collection<ShardingSphereMetaData> metaDataList) {
+        String warmUpFile = props.getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE);
+        if (warmUpFile.isEmpty()) {
+            return;
+        }
+        Collection<String> sqls = loadWarmUpSQLs(warmUpFile);
+        Collection<String> databaseTypeNames = metaDataList.stream().map(each -> each.getResource().getDatabaseType())
+                .filter(Objects::nonNull).map(DatabaseTypeRegistry::getTrunkDatabaseTypeName).collect(Collectors.toSet());
+        for (String each : databaseTypeNames) {
+            long start = System.currentTimeMillis();
+            Collection<String> llRequiredSQLs = new ShardingSphereSQLParserEngine(each).warmUp(sqls);
+            log.info("Warm up {} SQL parser with {} SQLs finished, cost {} milliseconds, {} SQLs require LL prediction mode.",
+                    each, sqls.size(), System.currentTimeMillis() - start, llRequiredSQLs.size());
+            for (String sql : llRequiredSQLs) {
+                log.info("SQL requires LL prediction mode of {} SQL parser: {}", each, sql);
+            }
+        }
+    }
+    
+    private Collection<String> loadWarmUpSQLs(final String warmUpFile) {
+        try {
+            return SQLParserWarmUpFileLoader.load(warmUpFile);
+        } catch (final IOException ex) {
+            log.warn("Load SQL parser warm up file `{}` failed.", warmUpFile, ex);
+            return Collections.emptyList();
+        }
+    }
 }
@@ -55,9 +55,14 @@ public final class StandardMetaDataContexts implements MetaDataContexts {
     
     public StandardMetaDataContexts(final Map<String, ShardingSphereMetaData> metaDataMap, 
                                     final ExecutorEngine executorEngine, final Authentication authentication, final ConfigurationProperties props) {
+        this(metaDataMap, executorEngine, new CalciteContextFactory(metaDataMap), authentication, props);
+    }
+    
+    public StandardMetaDataContexts(final Map<String, ShardingSphereMetaData> metaDataMap, final ExecutorEngine executorEngine, 
+                                    final CalciteContextFactory calciteContextFactory, final Authentication authentication, final ConfigurationProperties props) {
         this.metaDataMap = new ConcurrentHashMap<>(metaDataMap);
         this.executorEngine = executorEngine;
-        this.calciteContextFactory = new CalciteContextFactory(metaDataMap);
+        this.calciteContextFactory = calciteContextFactory;
         this.authentication = AuthenticationEngine.findSPIAuthentication().orElse(authentication);
         this.props = props;
     }
@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.auth.builtin.DefaultAuthentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.fixture.FixtureRule;
 import org.apache.shardingsphere.infra.context.fixture.FixtureRuleConfiguration;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
@@ -72,6 +75,16 @@ public final class MetaDataContextsBuilderTest {
         assertThat(actual.getProps().getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(1));
     }
     
+    @Test
+    public void assertBuildMetaDataWithResource() throws SQLException {
+        ShardingSphereResource resource = new ShardingSphereResource(Collections.singletonMap("ds", new MockedDataSource()), null, null, new MySQLDatabaseType());
+        ShardingSphereMetaData actual = new MetaDataContextsBuilder(Collections.singletonMap("logic_db", resource.getDataSources()),
+                Collections.singletonMap("logic_db", Collections.singleton(new FixtureRuleConfiguration())), new Properties()).buildMetaData("logic_db", resource);
+        assertThat(actual.getName(), is("logic_db"));
+        assertThat(actual.getResource(), is(resource));
+        assertThat(actual.getRuleMetaData().getRules().iterator().next(), CoreMatchers.instanceOf(FixtureRule.class));
+    }
+    
     private void assertRules(final MetaDataContexts actual) {
         assertThat(actual.getMetaData("logic_db").getRuleMetaData().getRules().size(), is(1));
         assertThat(actual.getMetaData("logic_db").getRuleMetaData().getRules().iterator().next(), CoreMatchers.instanceOf(FixtureRule.class));
@@ -34,17 +34,22 @@ import java.util.Properties;
  * 
  * <p>
  * Need to create a time-service.properties under the classpath.
+ * Configure samplingIntervalMilliseconds to sample database datetime in background instead of querying it for every call.
  * </p>
  */
 @Getter
 public final class TimeServiceConfiguration {
     
+    private static final String SAMPLING_INTERVAL_MILLISECONDS_KEY = "samplingIntervalMilliseconds";
+    
     private static final TimeServiceConfiguration CONFIG = new TimeServiceConfiguration();
     
     private String driverClassName;
     
     private DataSource dataSource;
     
+    private long samplingIntervalMilliseconds;
+    
     private TimeServiceConfiguration() {
         init();
     }
@@ -53,6 +58,8 @@ public final class TimeServiceConfiguration {
         try (InputStream inputStream = TimeServiceConfiguration.class.getResourceAsStream("/time-service.properties")) {
             Properties props = new Properties();
             props.load(inputStream);
+            samplingIntervalMilliseconds = Long.parseLong((String) props.getOrDefault(SAMPLING_INTERVAL_MILLISECONDS_KEY, "0"));
+            props.remove(SAMPLING_INTERVAL_MILLISECONDS_KEY);
             String dataSourceType = (String) props.remove("dataSourceType");
             driverClassName = props.getProperty("driverClassName");
             Class<?> dataSourceClass = Class.forName(dataSourceType);
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.datetime.database.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.datetime.DatetimeService;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cached database datetime service.
+ * 
+ * <p>Samples database clock periodically in background, and serves datetime from local clock corrected by the sampled skew.
+ * Until the first sample succeeds, local clock is served as is.</p>
+ */
+@Slf4j
+public final class CachedDatabaseDatetimeService implements DatetimeService, AutoCloseable {
+    
+    private final DataSource dataSource;
+    
+    private final String sql;
+    
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-Database-Datetime-Sampler-%d").build());
+    
+    private volatile long skewMillis;
+    
+    public CachedDatabaseDatetimeService(final DataSource dataSource, final String sql, final long samplingIntervalMillis) {
+        this.dataSource = dataSource;
+        this.sql = sql;
+        executor.scheduleWithFixedDelay(this::sampleInBackground, 0L, samplingIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    private void sampleInBackground() {
+        try {
+            sample();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Sample database datetime failed unexpectedly, keep using previous skew {} milliseconds.", skewMillis, ex);
+        }
+    }
+    
+    private void sample() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            long startMillis = System.currentTimeMillis();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                long endMillis = System.currentTimeMillis();
+                Timestamp databaseDatetime = resultSet.next() ? resultSet.getTimestamp(1) : null;
+                if (null == databaseDatetime) {
+                    log.warn("Sample database datetime failed, SQL `{}` returned no datetime.", sql);
+                    return;
+                }
+                skewMillis = databaseDatetime.getTime() - (startMillis + endMillis) / 2;
+            }
+        } catch (final SQLException ex) {
+            log.warn("Sample database datetime failed, keep using previous skew {} milliseconds.", skewMillis, ex);
+        }
+    }
+    
+    /**
+     * Get skew between database clock and local clock.
+     *
+     * @return skew milliseconds, positive if database clock is ahead, zero if not sampled yet
+     */
+    public long getSkewMillis() {
+        return skewMillis;
+    }
+    
+    @Override
+    public Date getDatetime() {
+        return new Date(System.currentTimeMillis() + skewMillis);
+    }
+    
+    @Override
+    public boolean isDefault() {
+        return false;
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
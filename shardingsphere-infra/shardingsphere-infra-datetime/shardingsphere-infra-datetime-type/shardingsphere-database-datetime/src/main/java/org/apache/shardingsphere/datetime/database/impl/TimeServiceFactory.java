@@ -36,6 +36,9 @@ public final class TimeServiceFactory {
      */
     public static DatetimeService createTimeService() {
         TimeServiceConfiguration timeServiceConfig = TimeServiceConfiguration.getInstance();
-        return new DatabaseDatetimeService(timeServiceConfig.getDataSource(), new SPIDataBaseSQLEntry(timeServiceConfig.getDriverClassName()).getSQL());
+        String sql = new SPIDataBaseSQLEntry(timeServiceConfig.getDriverClassName()).getSQL();
+        return timeServiceConfig.getSamplingIntervalMilliseconds() > 0L
+                ? new CachedDatabaseDatetimeService(timeServiceConfig.getDataSource(), sql, timeServiceConfig.getSamplingIntervalMilliseconds())
+                : new DatabaseDatetimeService(timeServiceConfig.getDataSource(), sql);
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.datetime.database.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CachedDatabaseDatetimeServiceTest {
+    
+    private static final long SKEW_MILLIS = 3600000L;
+    
+    private static final String SQL = "SELECT NOW()";
+    
+    @Mock
+    private DataSource dataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PreparedStatement preparedStatement;
+    
+    @Mock
+    private ResultSet resultSet;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertGetDatetime() throws SQLException, InterruptedException {
+        when(resultSet.getTimestamp(1)).thenAnswer(skewedDatabaseDatetime(SKEW_MILLIS));
+        try (CachedDatabaseDatetimeService datetimeService = new CachedDatabaseDatetimeService(dataSource, SQL, 60000L)) {
+            waitUntilSampled(datetimeService, SKEW_MILLIS);
+            assertTrue(Math.abs(datetimeService.getSkewMillis() - SKEW_MILLIS) < 1000L);
+            assertTrue(Math.abs(datetimeService.getDatetime().getTime() - System.currentTimeMillis() - SKEW_MILLIS) < 1000L);
+        }
+    }
+    
+    @Test
+    public void assertGetDatetimeWhenFirstSampleFailed() throws SQLException {
+        when(resultSet.getTimestamp(1)).thenThrow(new SQLException("Database is unavailable"));
+        try (CachedDatabaseDatetimeService datetimeService = new CachedDatabaseDatetimeService(dataSource, SQL, 60000L)) {
+            verify(resultSet, timeout(1000L)).getTimestamp(1);
+            assertThat(datetimeService.getSkewMillis(), is(0L));
+            assertTrue(Math.abs(datetimeService.getDatetime().getTime() - System.currentTimeMillis()) < 1000L);
+            verify(resultSet).getTimestamp(1);
+        }
+    }
+    
+    @Test
+    public void assertSampleInBackgroundAfterUnexpectedException() throws SQLException, InterruptedException {
+        when(resultSet.getTimestamp(1)).thenAnswer(skewedDatabaseDatetime(SKEW_MILLIS)).thenThrow(new IllegalStateException("Unexpected")).thenAnswer(skewedDatabaseDatetime(SKEW_MILLIS * 2));
+        try (CachedDatabaseDatetimeService datetimeService = new CachedDatabaseDatetimeService(dataSource, SQL, 10L)) {
+            waitUntilSampled(datetimeService, SKEW_MILLIS * 2);
+            assertTrue(Math.abs(datetimeService.getSkewMillis() - SKEW_MILLIS * 2) < 1000L);
+        }
+    }
+    
+    private void waitUntilSampled(final CachedDatabaseDatetimeService datetimeService, final long expectedSkewMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (Math.abs(datetimeService.getSkewMillis() - expectedSkewMillis) >= 1000L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+    }
+    
+    private Answer<Timestamp> skewedDatabaseDatetime(final long skewMillis) {
+        return invocation -> new Timestamp(System.currentTimeMillis() + skewMillis);
+    }
+}
@@ -85,6 +85,11 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return isTrunkThread ? getSaneResult(sqlStatement) : null;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            sqlExecutionHook.finishFailure(ex);
+            throw ex;
         }
     }
     
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Before;
@@ -44,6 +45,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -88,10 +90,33 @@ public final class JDBCExecutorCallbackTest {
         Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
         field.setAccessible(true);
         Map<String, DataSourceMetaData> cachedDataSourceMetaData = (Map<String, DataSourceMetaData>) field.get(jdbcExecutorCallback);
+        cachedDataSourceMetaData.clear();
         assertThat(cachedDataSourceMetaData.size(), is(0));
         jdbcExecutorCallback.execute(units, true, null);
         assertThat(cachedDataSourceMetaData.size(), is(1));
         jdbcExecutorCallback.execute(units, true, null);
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertExecuteWithRuntimeException() throws SQLException {
+        SQLExecutionHookFixture.clearActions();
+        JDBCExecutorCallback<?> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) {
+                throw new IllegalStateException("execute failed");
+            }
+            
+            @Override
+            protected Integer getSaneResult(final SQLStatement sqlStatement) {
+                return 0;
+            }
+        };
+        try {
+            jdbcExecutorCallback.execute(units, true, null);
+        } finally {
+            assertTrue(SQLExecutionHookFixture.containsAction("finishFailure"));
+        }
+    }
 }
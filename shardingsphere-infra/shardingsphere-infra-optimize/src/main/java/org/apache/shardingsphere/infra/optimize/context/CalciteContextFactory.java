@@ -68,6 +68,14 @@ public final class CalciteContextFactory {
         cluster = newCluster();
     }
     
+    public CalciteContextFactory(final Map<String, ShardingSphereMetaData> metaDataMap, final CalciteContextFactory previousFactory) {
+        connectionConfig = previousFactory.connectionConfig;
+        parserConfig = previousFactory.parserConfig;
+        typeFactory = previousFactory.typeFactory;
+        factory = new CalciteLogicSchemaFactory(metaDataMap, previousFactory.factory);
+        cluster = previousFactory.cluster;
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty("lex", Lex.MYSQL.name());
@@ -33,15 +33,33 @@ import java.util.Map.Entry;
  */
 public final class CalciteLogicSchemaFactory {
     
+    private final Map<String, ShardingSphereMetaData> metaDataMap = new LinkedMap<>();
+    
     private final Map<String, CalciteLogicSchemaGenerator> schemas = new LinkedMap<>();
     
     public CalciteLogicSchemaFactory(final Map<String, ShardingSphereMetaData> metaDataMap) {
+        this(metaDataMap, null);
+    }
+    
+    public CalciteLogicSchemaFactory(final Map<String, ShardingSphereMetaData> metaDataMap, final CalciteLogicSchemaFactory previousFactory) {
         for (Entry<String, ShardingSphereMetaData> each : metaDataMap.entrySet()) {
-            try {
-                schemas.put(each.getKey(), new CalciteLogicSchemaGenerator(each.getValue()));
-            } catch (final SQLException ex) {
-                throw new ShardingSphereException(ex);
-            }
+            this.metaDataMap.put(each.getKey(), each.getValue());
+            schemas.put(each.getKey(), null != previousFactory && previousFactory.isReusable(each.getKey(), each.getValue())
+                    ? previousFactory.schemas.get(each.getKey()) : createSchemaGenerator(each.getValue()));
+        }
+    }
+    
+    private boolean isReusable(final String name, final ShardingSphereMetaData metaData) {
+        ShardingSphereMetaData previousMetaData = metaDataMap.get(name);
+        return null != previousMetaData && previousMetaData.getResource() == metaData.getResource()
+                && previousMetaData.getRuleMetaData() == metaData.getRuleMetaData() && previousMetaData.getSchema() == metaData.getSchema();
+    }
+    
+    private CalciteLogicSchemaGenerator createSchemaGenerator(final ShardingSphereMetaData metaData) {
+        try {
+            return new CalciteLogicSchemaGenerator(metaData);
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException(ex);
         }
     }
     
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.optimize.schema;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class CalciteLogicSchemaFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithUnchangedMetaData() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("schema", mock(ShardingSphereResource.class), 
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), new ShardingSphereSchema());
+        CalciteLogicSchemaFactory previousFactory = new CalciteLogicSchemaFactory(Collections.singletonMap("schema", metaData));
+        CalciteLogicSchemaFactory actual = new CalciteLogicSchemaFactory(Collections.singletonMap("schema", metaData), previousFactory);
+        assertThat(getSchemaGenerator(actual), sameInstance(getSchemaGenerator(previousFactory)));
+    }
+    
+    @Test
+    public void assertNewInstanceWithChangedSchema() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData("schema", mock(ShardingSphereResource.class), 
+                new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), new ShardingSphereSchema());
+        CalciteLogicSchemaFactory previousFactory = new CalciteLogicSchemaFactory(Collections.singletonMap("schema", metaData));
+        ShardingSphereMetaData changedMetaData = new ShardingSphereMetaData("schema", metaData.getResource(), metaData.getRuleMetaData(), new ShardingSphereSchema());
+        CalciteLogicSchemaFactory actual = new CalciteLogicSchemaFactory(Collections.singletonMap("schema", changedMetaData), previousFactory);
+        assertThat(getSchemaGenerator(actual), not(sameInstance(getSchemaGenerator(previousFactory))));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private CalciteLogicSchemaGenerator getSchemaGenerator(final CalciteLogicSchemaFactory factory) {
+        Field field = CalciteLogicSchemaFactory.class.getDeclaredField("schemas");
+        field.setAccessible(true);
+        return ((Map<String, CalciteLogicSchemaGenerator>) field.get(factory)).get("schema");
+    }
+}
@@ -22,14 +22,20 @@ import org.apache.shardingsphere.distsql.parser.api.DistSQLStatementParserEngine
 import org.apache.shardingsphere.infra.parser.hook.ParsingHookRegistry;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * ShardingSphere SQL parser engine.
  */
 public final class ShardingSphereSQLParserEngine {
     
+    private final String databaseTypeName;
+    
     private final SQLStatementParserEngine sqlStatementParserEngine;
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
@@ -37,6 +43,7 @@ public final class ShardingSphereSQLParserEngine {
     private final ParsingHookRegistry parsingHookRegistry;
     
     public ShardingSphereSQLParserEngine(final String databaseTypeName) {
+        this.databaseTypeName = databaseTypeName;
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseTypeName);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
         parsingHookRegistry = ParsingHookRegistry.getInstance();
@@ -81,4 +88,33 @@ public final class ShardingSphereSQLParserEngine {
             }
         }
     }
+    
+    /**
+     * Warm up SQL parser with SQLs.
+     * 
+     * <p>
+     * SQLs which can not be parsed are ignored.
+     * </p>
+     *
+     * @param sqls SQLs to be parsed
+     * @return SQLs which require LL prediction mode
+     */
+    public Collection<String> warmUp(final Collection<String> sqls) {
+        SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(databaseTypeName);
+        Collection<String> result = new LinkedList<>();
+        for (String each : sqls) {
+            if (warmUp(sqlParserExecutor, each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean warmUp(final SQLParserExecutor sqlParserExecutor, final String sql) {
+        try {
+            return sqlParserExecutor.warmUp(sql);
+        } catch (final ParseCancellationException ignored) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Loader of SQLs to warm up SQL parser.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserWarmUpFileLoader {
+    
+    private static final String SQL_LOGGER_NAME = "ShardingSphere-SQL";
+    
+    private static final String LOGIC_SQL_PREFIX = "Logic SQL: ";
+    
+    private static final String COMMENT_PREFIX = "#";
+    
+    /**
+     * Load SQLs from file.
+     * 
+     * <p>
+     * One SQL per line. For lines of {@code sql-show} log, only logic SQLs are loaded.
+     * </p>
+     *
+     * @param file file path
+     * @return distinct SQLs
+     * @throws IOException IO exception
+     */
+    public static Collection<String> load(final String file) throws IOException {
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+            String sql = getSQL(each.trim());
+            if (!sql.isEmpty()) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+    
+    private static String getSQL(final String line) {
+        int logicSQLIndex = line.indexOf(LOGIC_SQL_PREFIX);
+        if (-1 != logicSQLIndex) {
+            return line.substring(logicSQLIndex + LOGIC_SQL_PREFIX.length()).trim();
+        }
+        return line.startsWith(COMMENT_PREFIX) || line.contains(SQL_LOGGER_NAME) ? "" : line;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserWarmUpFileLoaderTest {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertLoad() throws IOException {
+        File file = temporaryFolder.newFile("warm-up.sql");
+        Files.write(file.toPath(), Arrays.asList(
+                "# comment",
+                "SELECT * FROM t_order WHERE order_id = ?",
+                "",
+                "[INFO ] 12:00:00.000 [main] ShardingSphere-SQL - Logic SQL: SELECT * FROM t_order_item WHERE order_id = ?",
+                "[INFO ] 12:00:00.000 [main] ShardingSphere-SQL - SQLStatement: MySQLSelectStatement()",
+                "[INFO ] 12:00:00.000 [main] ShardingSphere-SQL - Actual SQL: ds_0 ::: SELECT * FROM t_order_item_0 WHERE order_id = ?",
+                "SELECT * FROM t_order WHERE order_id = ?"), StandardCharsets.UTF_8);
+        assertThat(new ArrayList<>(SQLParserWarmUpFileLoader.load(file.getPath())), is(Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "SELECT * FROM t_order_item WHERE order_id = ?")));
+    }
+}
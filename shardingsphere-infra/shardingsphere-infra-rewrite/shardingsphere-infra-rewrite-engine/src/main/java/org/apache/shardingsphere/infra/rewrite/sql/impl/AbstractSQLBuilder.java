@@ -23,7 +23,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -35,32 +35,26 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
     
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length() + (sql.length() >> 2));
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        int size = sqlTokens.size();
+        for (int i = 0; i < size; i++) {
+            SQLToken each = sqlTokens.get(i);
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(sql, getStartIndex(each, sql), i == size - 1 ? sql.length() : sqlTokens.get(i + 1).getStartIndex());
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
+    private int getStartIndex(final SQLToken sqlToken, final String sql) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+        return Math.min(startIndex, sql.length());
     }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -45,4 +46,12 @@ public final class DefaultSQLBuilderTest {
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    public void assertToSQLWithMultipleSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id IN (SELECT id FROM tbl)");
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(new SQLTokenFixture(14, 16), new SQLTokenFixture(46, 48)));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id IN (SELECT id FROM XXX)"));
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.lock.LockMode;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
@@ -73,12 +74,23 @@ public final class DriverJDBCExecutor {
      * Execute query.
      *
      * @param executionGroups execution groups
+     * @param sqlStatementContext SQL statement context
      * @param callback execute query callback
      * @return query results
      * @throws SQLException SQL exception
      */
-    public List<QueryResult> executeQuery(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final ExecuteQueryCallback callback) throws SQLException {
-        return jdbcExecutor.execute(executionGroups, callback);
+    public List<QueryResult> executeQuery(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, 
+                                          final SQLStatementContext<?> sqlStatementContext, final ExecuteQueryCallback callback) throws SQLException {
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        boolean locked = false;
+        try {
+            locked = tryLock(tableNames, LockMode.SHARED, metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS));
+            return jdbcExecutor.execute(executionGroups, callback);
+        } finally {
+            if (locked) {
+                releaseLock(tableNames, LockMode.SHARED);
+            }
+        }
     }
     
     /**
@@ -93,7 +105,7 @@ public final class DriverJDBCExecutor {
      */
     public int executeUpdate(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, 
                              final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Integer> callback) throws SQLException {
-        List<Integer> results = doExecute(executionGroups, sqlStatementContext.getSqlStatement(), routeUnits, callback);
+        List<Integer> results = doExecute(executionGroups, sqlStatementContext, routeUnits, callback);
         return isNeedAccumulate(metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules(), sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
@@ -109,47 +121,56 @@ public final class DriverJDBCExecutor {
      * Execute SQL.
      *
      * @param executionGroups execution groups
-     * @param sqlStatement SQL statement
+     * @param sqlStatementContext SQL statement context
      * @param routeUnits route units
      * @param callback JDBC executor callback
      * @return return true if is DQL, false if is DML
      * @throws SQLException SQL exception
      */
-    public boolean execute(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final SQLStatement sqlStatement,
+    public boolean execute(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final SQLStatementContext<?> sqlStatementContext,
                            final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Boolean> callback) throws SQLException {
-        List<Boolean> results = doExecute(executionGroups, sqlStatement, routeUnits, callback);
+        List<Boolean> results = doExecute(executionGroups, sqlStatementContext, routeUnits, callback);
         return null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
     }
     
-    private <T> List<T> doExecute(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final SQLStatement sqlStatement, 
+    private <T> List<T> doExecute(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final SQLStatementContext<?> sqlStatementContext, 
                                   final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<T> callback) throws SQLException {
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        LockMode lockMode = needLock(sqlStatementContext.getSqlStatement()) ? LockMode.EXCLUSIVE : LockMode.SHARED;
         List<T> results;
         boolean locked = false;
         try {
-            locked = tryLock(sqlStatement, metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS));
+            locked = tryLock(tableNames, lockMode, metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS));
             results = jdbcExecutor.execute(executionGroups, callback);
-            refreshSchema(metaDataContexts.getDefaultMetaData(), sqlStatement, routeUnits);
+            refreshSchema(metaDataContexts.getDefaultMetaData(), sqlStatementContext.getSqlStatement(), routeUnits);
         } finally {
             if (locked) {
-                releaseLock();
+                releaseLock(tableNames, lockMode);
             }
         }
         return results;
     }
     
-    private boolean tryLock(final SQLStatement sqlStatement, final long lockTimeoutMilliseconds) {
-        if (needLock(sqlStatement)) {
-            if (!LockContext.getLockStrategy().tryLock(lockTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
-                throw new ShardingSphereException("Service lock wait timeout of %s ms exceeded", lockTimeoutMilliseconds);
-            }
-            checkLock(lockTimeoutMilliseconds);
-            return true;
+    private boolean needLock(final SQLStatement sqlStatement) {
+        return SchemaRefresherFactory.newInstance(sqlStatement).isPresent();
+    }
+    
+    private boolean tryLock(final Collection<String> tableNames, final LockMode lockMode, final long lockTimeoutMilliseconds) {
+        if (tableNames.isEmpty()) {
+            return LockMode.EXCLUSIVE == lockMode && tryGlobalLock(lockTimeoutMilliseconds);
+        }
+        if (!LockContext.getLockStrategy().tryLock(DefaultSchema.LOGIC_NAME, tableNames, lockMode, lockTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+            throw new ShardingSphereException("Service lock wait timeout of %s ms exceeded", lockTimeoutMilliseconds);
         }
-        return false;
+        return true;
     }
     
-    private boolean needLock(final SQLStatement sqlStatement) {
-        return SchemaRefresherFactory.newInstance(sqlStatement).isPresent();
+    private boolean tryGlobalLock(final long lockTimeoutMilliseconds) {
+        if (!LockContext.getLockStrategy().tryLock(lockTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+            throw new ShardingSphereException("Service lock wait timeout of %s ms exceeded", lockTimeoutMilliseconds);
+        }
+        checkLock(lockTimeoutMilliseconds);
+        return true;
     }
     
     private void checkLock(final long lockTimeoutMilliseconds) {
@@ -174,7 +195,11 @@ public final class DriverJDBCExecutor {
         OrderedSPIRegistry.getRegisteredServices(Collections.singletonList(schema), SchemaChangedNotifier.class).values().forEach(each -> each.notify(DefaultSchema.LOGIC_NAME, schema));
     }
     
-    private void releaseLock() {
-        LockContext.getLockStrategy().releaseLock();
+    private void releaseLock(final Collection<String> tableNames, final LockMode lockMode) {
+        if (tableNames.isEmpty()) {
+            LockContext.getLockStrategy().releaseLock();
+        } else {
+            LockContext.getLockStrategy().releaseLock(DefaultSchema.LOGIC_NAME, tableNames, lockMode);
+        }
     }
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.lock.LockContext;
+import org.apache.shardingsphere.infra.lock.LockMode;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -109,16 +110,18 @@ public final class DatabaseCommunicationEngine {
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
+        Collection<String> tableNames = executionContext.getSqlStatementContext().getTablesContext().getTableNames();
+        LockMode lockMode = needLock(executionContext) ? LockMode.EXCLUSIVE : LockMode.SHARED;
         boolean locked = false;
         Collection<ExecuteResult> executeResults;
         try {
-            locked = tryLock(executionContext, ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS));
+            locked = tryLock(tableNames, lockMode, ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS));
             proxySQLExecutor.checkExecutePrerequisites(executionContext);
             executeResults = proxySQLExecutor.execute(executionContext);
             refreshSchema(executionContext);
         } finally {
             if (locked) {
-                releaseLock();
+                releaseLock(tableNames, lockMode);
             }
         }
         ExecuteResult executeResultSample = executeResults.iterator().next();
@@ -127,19 +130,26 @@ public final class DatabaseCommunicationEngine {
                 : processExecuteUpdate(executionContext, executeResults.stream().map(each -> (UpdateResult) each).collect(Collectors.toList()));
     }
     
-    private boolean tryLock(final ExecutionContext executionContext, final Long lockTimeoutMilliseconds) {
-        if (needLock(executionContext)) {
-            if (!LockContext.getLockStrategy().tryLock(lockTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
-                throw new LockWaitTimeoutException(lockTimeoutMilliseconds);
-            }
-            checkLock(lockTimeoutMilliseconds);
-            return true;
+    private boolean needLock(final ExecutionContext executionContext) {
+        return SchemaRefresherFactory.newInstance(executionContext.getSqlStatementContext().getSqlStatement()).isPresent();
+    }
+    
+    private boolean tryLock(final Collection<String> tableNames, final LockMode lockMode, final Long lockTimeoutMilliseconds) {
+        if (tableNames.isEmpty()) {
+            return LockMode.EXCLUSIVE == lockMode && tryGlobalLock(lockTimeoutMilliseconds);
+        }
+        if (!LockContext.getLockStrategy().tryLock(metaData.getName(), tableNames, lockMode, lockTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+            throw new LockWaitTimeoutException(lockTimeoutMilliseconds);
         }
-        return false;
+        return true;
     }
     
-    private boolean needLock(final ExecutionContext executionContext) {
-        return SchemaRefresherFactory.newInstance(executionContext.getSqlStatementContext().getSqlStatement()).isPresent();
+    private boolean tryGlobalLock(final Long lockTimeoutMilliseconds) {
+        if (!LockContext.getLockStrategy().tryLock(lockTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+            throw new LockWaitTimeoutException(lockTimeoutMilliseconds);
+        }
+        checkLock(lockTimeoutMilliseconds);
+        return true;
     }
     
     private void checkLock(final Long lockTimeoutMilliseconds) {
@@ -148,8 +158,12 @@ public final class DatabaseCommunicationEngine {
         }
     }
     
-    private void releaseLock() {
-        LockContext.getLockStrategy().releaseLock();
+    private void releaseLock(final Collection<String> tableNames, final LockMode lockMode) {
+        if (tableNames.isEmpty()) {
+            LockContext.getLockStrategy().releaseLock();
+        } else {
+            LockContext.getLockStrategy().releaseLock(metaData.getName(), tableNames, lockMode);
+        }
     }
     
     private QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
@@ -47,6 +47,7 @@ import java.net.InetSocketAddress;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL Connector.
@@ -57,6 +58,8 @@ public final class MySQLClient {
     
     private final ConnectInfo connectInfo;
     
+    private final BiPredicate<String, String> tableFilter;
+    
     private EventLoopGroup eventLoopGroup;
     
     private Channel channel;
@@ -67,6 +70,10 @@ public final class MySQLClient {
     
     private ServerInfo serverInfo;
     
+    public MySQLClient(final ConnectInfo connectInfo) {
+        this(connectInfo, (schemaName, tableName) -> true);
+    }
+    
     /**
      * Connect to MySQL.
      */
@@ -175,7 +182,7 @@ public final class MySQLClient {
         responseCallback = null;
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, tableFilter));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
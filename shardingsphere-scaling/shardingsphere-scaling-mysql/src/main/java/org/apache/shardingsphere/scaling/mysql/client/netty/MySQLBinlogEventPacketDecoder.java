@@ -25,6 +25,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogContext;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
@@ -35,7 +36,9 @@ import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
+
 import java.util.List;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -45,9 +48,16 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final BiPredicate<String, String> tableFilter;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, (schemaName, tableName) -> true);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final BiPredicate<String, String> tableFilter) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.tableFilter = tableFilter;
     }
     
     @Override
@@ -126,8 +136,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private AbstractBinlogEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        if (!isSubscribedTable(rowsEventPacket.getTableId())) {
+            return skipRowsEvent(binlogEventHeader, payload);
+        }
         rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
@@ -135,8 +148,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private AbstractBinlogEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        if (!isSubscribedTable(rowsEventPacket.getTableId())) {
+            return skipRowsEvent(binlogEventHeader, payload);
+        }
         rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
@@ -145,8 +161,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private AbstractBinlogEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        if (!isSubscribedTable(rowsEventPacket.getTableId())) {
+            return skipRowsEvent(binlogEventHeader, payload);
+        }
         rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
@@ -154,6 +173,16 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
+    private boolean isSubscribedTable(final long tableId) {
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(tableId);
+        return tableFilter.test(tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName());
+    }
+    
+    private PlaceholderEvent skipRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        payload.skipReserved(payload.getByteBuf().readableBytes());
+        return createPlaceholderEvent(binlogEventHeader);
+    }
+    
     private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
         rowsEvent.setSchemaName(binlogContext.getSchemaName(tableId));
         rowsEvent.setTableName(binlogContext.getTableName(tableId));
@@ -58,6 +58,8 @@ import java.util.Random;
 @Slf4j
 public final class MySQLBinlogDumper extends AbstractScalingExecutor implements LogDumper {
     
+    private static final int MAX_COALESCED_PLACEHOLDER_COUNT = 1000;
+    
     private final BinlogPosition binlogPosition;
     
     private final DumperConfiguration dumperConfig;
@@ -69,6 +71,10 @@ public final class MySQLBinlogDumper extends AbstractScalingExecutor implements
     @Setter
     private Channel channel;
     
+    private AbstractBinlogEvent pendingPlaceholderEvent;
+    
+    private int coalescedPlaceholderCount;
+    
     public MySQLBinlogDumper(final DumperConfiguration dumperConfig, final Position<BinlogPosition> binlogPosition) {
         this.binlogPosition = (BinlogPosition) binlogPosition;
         this.dumperConfig = dumperConfig;
@@ -85,23 +91,28 @@ public final class MySQLBinlogDumper extends AbstractScalingExecutor implements
     private void dump() {
         StandardJDBCDataSourceConfiguration jdbcDataSourceConfig = (StandardJDBCDataSourceConfiguration) dumperConfig.getDataSourceConfig();
         JdbcUri uri = new JdbcUri(jdbcDataSourceConfig.getJdbcUrl());
-        MySQLClient client = new MySQLClient(new ConnectInfo(random.nextInt(), uri.getHostname(), uri.getPort(), jdbcDataSourceConfig.getUsername(), jdbcDataSourceConfig.getPassword()));
+        MySQLClient client = new MySQLClient(new ConnectInfo(random.nextInt(), uri.getHostname(), uri.getPort(), jdbcDataSourceConfig.getUsername(), jdbcDataSourceConfig.getPassword()),
+            (schemaName, tableName) -> !filter(uri.getDatabase(), schemaName, tableName));
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
         while (isRunning()) {
             AbstractBinlogEvent event = client.poll();
-            if (null != event) {
+            if (null == event) {
+                flushPlaceholderRecord();
+            } else {
                 handleEvent(uri, event);
             }
         }
+        flushPlaceholderRecord();
         pushRecord(new FinishedRecord(new PlaceholderPosition()));
     }
     
     private void handleEvent(final JdbcUri uri, final AbstractBinlogEvent event) {
         if (event instanceof PlaceholderEvent || filter(uri.getDatabase(), (AbstractRowsEvent) event)) {
-            createPlaceholderRecord(event);
+            coalescePlaceholderEvent(event);
             return;
         }
+        flushPlaceholderRecord();
         if (event instanceof WriteRowsEvent) {
             handleWriteRowsEvent((WriteRowsEvent) event);
         } else if (event instanceof UpdateRowsEvent) {
@@ -112,7 +123,28 @@ public final class MySQLBinlogDumper extends AbstractScalingExecutor implements
     }
     
     private boolean filter(final String database, final AbstractRowsEvent event) {
-        return !event.getSchemaName().equals(database) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
+        return filter(database, event.getSchemaName(), event.getTableName());
+    }
+    
+    private boolean filter(final String database, final String schemaName, final String tableName) {
+        return !schemaName.equals(database) || !dumperConfig.getTableNameMap().containsKey(tableName);
+    }
+    
+    private void coalescePlaceholderEvent(final AbstractBinlogEvent event) {
+        pendingPlaceholderEvent = event;
+        coalescedPlaceholderCount++;
+        if (coalescedPlaceholderCount >= MAX_COALESCED_PLACEHOLDER_COUNT) {
+            flushPlaceholderRecord();
+        }
+    }
+    
+    private void flushPlaceholderRecord() {
+        if (null == pendingPlaceholderEvent) {
+            return;
+        }
+        createPlaceholderRecord(pendingPlaceholderEvent);
+        pendingPlaceholderEvent = null;
+        coalescedPlaceholderCount = 0;
     }
     
     private void handleWriteRowsEvent(final WriteRowsEvent event) {
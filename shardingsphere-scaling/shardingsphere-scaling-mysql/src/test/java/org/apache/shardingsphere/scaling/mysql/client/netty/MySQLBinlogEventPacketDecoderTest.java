@@ -24,6 +24,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.scaling.core.utils.ReflectionUtil;
 import org.apache.shardingsphere.scaling.mysql.binlog.BinlogContext;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
 import org.junit.Before;
@@ -136,4 +137,18 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
     }
+    
+    @Test
+    public void assertDecodeUnsubscribedWriteRowEvent() throws NoSuchFieldException, IllegalAccessException {
+        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, (schemaName, tableName) -> "t_order".equals(tableName));
+        binlogContext = ReflectionUtil.getFieldValue(binlogEventPacketDecoder, "binlogContext", BinlogContext.class);
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
+        when(byteBuf.readUnsignedShortLE()).thenReturn(2);
+        binlogContext.getTableMap().put(0L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_other");
+        List<Object> decodedEvents = new ArrayList<>();
+        binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(PlaceholderEvent.class));
+    }
 }
@@ -143,6 +143,7 @@ public final class MySQLBinlogDumperTest {
     @Test
     public void assertPlaceholderEvent() {
         invokeHandleEvent(new JdbcUri("jdbc:mysql://127.0.0.1:3306/test_db"), new PlaceholderEvent());
+        invokeFlushPlaceholderRecord();
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof PlaceholderRecord);
@@ -153,13 +154,42 @@ public final class MySQLBinlogDumperTest {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
         rowsEvent.setSchemaName("unknown_schema");
         invokeHandleEvent(new JdbcUri(URL), rowsEvent);
+        invokeFlushPlaceholderRecord();
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof PlaceholderRecord);
     }
     
+    @Test
+    public void assertPlaceholderEventsCoalesced() {
+        JdbcUri uri = new JdbcUri(URL);
+        for (int i = 1; i <= 3; i++) {
+            PlaceholderEvent placeholderEvent = new PlaceholderEvent();
+            placeholderEvent.setFileName("binlog-000001");
+            placeholderEvent.setPosition(i);
+            invokeHandleEvent(uri, placeholderEvent);
+        }
+        WriteRowsEvent rowsEvent = new WriteRowsEvent();
+        rowsEvent.setSchemaName("");
+        rowsEvent.setTableName("t_order");
+        List<Serializable[]> rows = new ArrayList<>(1);
+        rows.add(new String[]{"1", "order"});
+        rowsEvent.setAfterRows(rows);
+        invokeHandleEvent(uri, rowsEvent);
+        List<Record> records = channel.fetchRecords(10, 0);
+        assertThat(records.size(), is(2));
+        assertTrue(records.get(0) instanceof PlaceholderRecord);
+        assertThat(((BinlogPosition) records.get(0).getPosition()).getPosition(), is(3L));
+        assertTrue(records.get(1) instanceof DataRecord);
+    }
+    
     @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
     private void invokeHandleEvent(final JdbcUri uri, final AbstractBinlogEvent event) {
         ReflectionUtil.invokeMethod(mysqlBinlogDumper, "handleEvent", new Class[]{JdbcUri.class, AbstractBinlogEvent.class}, new Object[]{uri, event});
     }
+    
+    @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
+    private void invokeFlushPlaceholderRecord() {
+        ReflectionUtil.invokeMethod(mysqlBinlogDumper, "flushPlaceholderRecord", new Class[0], new Object[0]);
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.oracle;
+
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public final class OracleSQLParserExecutorTest {
+    
+    private static final String LL_PREDICTION_MODE_REQUIRED_SQL = "SELECT * FROM t_order WHERE order_id IN (?, ?) AND order_id IN (?, ?) ORDER BY order_id";
+    
+    private final SQLParserExecutor sqlParserExecutor = new SQLParserExecutor("Oracle");
+    
+    @Test
+    public void assertWarmUpWithSLLPredictionMode() {
+        assertFalse(sqlParserExecutor.warmUp("SELECT * FROM t_order WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertWarmUpWithLLPredictionModeRequired() {
+        assertTrue(sqlParserExecutor.warmUp(LL_PREDICTION_MODE_REQUIRED_SQL));
+    }
+    
+    @Test
+    public void assertParseWithLLPredictionModeRequired() {
+        assertNotNull(sqlParserExecutor.parse(LL_PREDICTION_MODE_REQUIRED_SQL));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.core.parser;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.Parser;
@@ -42,27 +43,46 @@ public final class SQLParserExecutor {
      * @return parse tree
      */
     public ParseTree parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        ParseASTNode result = twoPhaseParse(sql).getParseASTNode();
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException("Unsupported SQL of `%s`", sql);
         }
         return result.getRootNode();
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+    private TwoPhaseParseResult twoPhaseParse(final String sql) {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(databaseType, sql);
         try {
             setPredictionMode((Parser) sqlParser, PredictionMode.SLL);
-            return (ParseASTNode) sqlParser.parse();
+            return new TwoPhaseParseResult((ParseASTNode) sqlParser.parse(), false);
         } catch (final ParseCancellationException ex) {
             ((Parser) sqlParser).reset();
             setPredictionMode((Parser) sqlParser, PredictionMode.LL);
-            return (ParseASTNode) sqlParser.parse();
+            return new TwoPhaseParseResult((ParseASTNode) sqlParser.parse(), true);
         }
     }
     
+    /**
+     * Parse SQL to warm up prediction caches.
+     * 
+     * @param sql SQL to be parsed
+     * @return whether LL prediction mode is required to parse SQL
+     */
+    public boolean warmUp(final String sql) {
+        return twoPhaseParse(sql).isLlPredictionModeRequired();
+    }
+    
     private void setPredictionMode(final Parser sqlParser, final PredictionMode mode) {
         sqlParser.setErrorHandler(new BailErrorStrategy());
         sqlParser.getInterpreter().setPredictionMode(mode);
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TwoPhaseParseResult {
+        
+        private final ParseASTNode parseASTNode;
+        
+        private final boolean llPredictionModeRequired;
+    }
 }
@@ -25,12 +25,15 @@ import org.antlr.v4.runtime.CodePointBuffer;
 import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.spi.SQLParserFacade;
 
 import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * SQL parser factory.
@@ -38,6 +41,8 @@ import java.nio.CharBuffer;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<String, SQLParser>> THREAD_LOCAL_SQL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * New instance of SQL parser.
      * 
@@ -50,6 +55,38 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, sqlParserFacade.getLexerClass()), sqlParserFacade.getParserClass());
     }
     
+    /**
+     * Get SQL parser of current thread.
+     * 
+     * <p>
+     * SQL parser is created once per thread and database type, and reset with SQL for each call.
+     * It can not be used again by the same thread until parsing of the SQL finished.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL parser
+     */
+    public static SQLParser getThreadLocalInstance(final String databaseType, final String sql) {
+        Map<String, SQLParser> sqlParsers = THREAD_LOCAL_SQL_PARSERS.get();
+        SQLParser result = sqlParsers.get(databaseType);
+        if (null == result) {
+            result = newInstance(databaseType, sql);
+            sqlParsers.put(databaseType, result);
+            return result;
+        }
+        reset((Parser) result, sql);
+        return result;
+    }
+    
+    private static void reset(final Parser parser, final String sql) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getInputStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(getSQLCharStream(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setInputStream(tokenStream);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         return parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
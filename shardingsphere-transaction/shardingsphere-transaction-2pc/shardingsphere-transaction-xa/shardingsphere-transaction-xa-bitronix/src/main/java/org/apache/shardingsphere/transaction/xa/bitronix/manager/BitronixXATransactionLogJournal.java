@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.bitronix.manager;
+
+import bitronix.tm.Configuration;
+import bitronix.tm.TransactionManagerServices;
+import bitronix.tm.journal.Journal;
+import bitronix.tm.journal.TransactionLogRecord;
+import bitronix.tm.utils.Uid;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLogRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Bitronix journal delegating to XA transaction log of ShardingSphere.
+ * 
+ * <p>
+ * Enable it by setting {@code bitronix.tm.journal} to the name of this class.
+ * </p>
+ */
+@Slf4j
+public final class BitronixXATransactionLogJournal implements Journal {
+    
+    private static final String DEFAULT_XA_TRANSACTION_LOG_TYPE = "MEMORY_MAPPED";
+    
+    static {
+        ShardingSphereServiceLoader.register(XATransactionLog.class);
+    }
+    
+    private final XATransactionLog xaTransactionLog;
+    
+    private final boolean forcedWriteEnabled;
+    
+    public BitronixXATransactionLogJournal() {
+        this(TransactionManagerServices.getConfiguration());
+    }
+    
+    BitronixXATransactionLogJournal(final Configuration configuration) {
+        xaTransactionLog = TypedSPIRegistry.getRegisteredService(XATransactionLog.class, DEFAULT_XA_TRANSACTION_LOG_TYPE, createProperties(configuration));
+        forcedWriteEnabled = configuration.isForcedWriteEnabled();
+    }
+    
+    private Properties createProperties(final Configuration configuration) {
+        Properties result = new Properties();
+        File logDir = new File(configuration.getLogPart1Filename()).getAbsoluteFile().getParentFile();
+        if (null != logDir) {
+            result.setProperty("log-dir", logDir.getPath());
+        }
+        return result;
+    }
+    
+    @Override
+    public void open() throws IOException {
+        xaTransactionLog.init();
+    }
+    
+    @Override
+    public void log(final int status, final Uid gtrid, final Set<String> uniqueNames) throws IOException {
+        xaTransactionLog.log(new XATransactionLogRecord(status, gtrid.getArray(), uniqueNames));
+    }
+    
+    @Override
+    public void force() throws IOException {
+        if (forcedWriteEnabled) {
+            xaTransactionLog.force();
+        }
+    }
+    
+    @Override
+    public Map<Uid, TransactionLogRecord> collectDanglingRecords() {
+        Map<Uid, TransactionLogRecord> result = new HashMap<>();
+        for (XATransactionLogRecord each : xaTransactionLog.getDanglingRecords()) {
+            Uid gtrid = new Uid(each.getGlobalTransactionId());
+            result.put(gtrid, new TransactionLogRecord(each.getStatus(), gtrid, each.getResourceNames()));
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        xaTransactionLog.close();
+    }
+    
+    @Override
+    public void shutdown() {
+        try {
+            close();
+        } catch (final IOException ex) {
+            log.error("Can not close XA transaction log.", ex);
+        }
+    }
+}
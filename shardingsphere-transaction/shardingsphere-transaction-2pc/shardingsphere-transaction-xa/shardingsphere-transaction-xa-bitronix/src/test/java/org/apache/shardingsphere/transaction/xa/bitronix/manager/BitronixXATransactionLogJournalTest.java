@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.bitronix.manager;
+
+import bitronix.tm.Configuration;
+import bitronix.tm.journal.TransactionLogRecord;
+import bitronix.tm.utils.Uid;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.transaction.Status;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BitronixXATransactionLogJournalTest {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Mock
+    private Configuration configuration;
+    
+    @Before
+    public void setUp() {
+        when(configuration.getLogPart1Filename()).thenReturn(new File(temporaryFolder.getRoot(), "btm1.tlog").getPath());
+        when(configuration.isForcedWriteEnabled()).thenReturn(true);
+    }
+    
+    @Test
+    public void assertCollectDanglingRecordsAfterReopen() throws IOException {
+        Uid gtrid = new Uid(new byte[]{0, 1});
+        BitronixXATransactionLogJournal journal = new BitronixXATransactionLogJournal(configuration);
+        journal.open();
+        journal.log(Status.STATUS_COMMITTING, gtrid, new HashSet<>(Arrays.asList("ds_0", "ds_1")));
+        journal.log(Status.STATUS_COMMITTED, gtrid, Collections.singleton("ds_0"));
+        journal.force();
+        journal.close();
+        String[] segmentFileNames = temporaryFolder.getRoot().list((dir, name) -> name.startsWith("xa-"));
+        assertThat(null == segmentFileNames ? 0 : segmentFileNames.length, is(1));
+        journal = new BitronixXATransactionLogJournal(configuration);
+        journal.open();
+        try {
+            Map<Uid, TransactionLogRecord> actual = journal.collectDanglingRecords();
+            assertThat(actual.size(), is(1));
+            TransactionLogRecord danglingRecord = actual.get(gtrid);
+            assertThat(danglingRecord.getStatus(), is(Status.STATUS_COMMITTING));
+            assertThat(danglingRecord.getGtrid(), is(gtrid));
+            assertThat(danglingRecord.getUniqueNames(), is(Collections.singleton("ds_1")));
+        } finally {
+            journal.shutdown();
+        }
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.log;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLog;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLogRecord;
+
+import javax.transaction.Status;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * XA transaction log based on memory mapped segment files.
+ * 
+ * <p>
+ * Records are appended to the mapped segment without forcing, threads waiting in {@link #force()} at the same time share one force of the segment.
+ * A new segment is only allocated when the current one is full, and checkpoint only compacts the log once it has rolled over.
+ * </p>
+ */
+@Slf4j
+public final class MemoryMappedXATransactionLog implements XATransactionLog {
+    
+    private static final String LOG_DIR_KEY = "log-dir";
+    
+    private static final String DEFAULT_LOG_DIR = "logs/xa";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size-bytes";
+    
+    private static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    
+    private static final String CHECKPOINT_INTERVAL_KEY = "checkpoint-interval-milliseconds";
+    
+    private static final long DEFAULT_CHECKPOINT_INTERVAL = 60000L;
+    
+    private static final String SEGMENT_FILE_PREFIX = "xa-";
+    
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+    
+    private static final int RECORD_HEADER_LENGTH = 8;
+    
+    private final Map<ByteBuffer, XATransactionLogRecord> danglingRecords = new LinkedHashMap<>();
+    
+    private final List<File> segmentFiles = new ArrayList<>();
+    
+    private final Collection<MappedByteBuffer> retiredSegments = new ArrayList<>();
+    
+    private final Object forceLock = new Object();
+    
+    private final ThreadLocal<Long> lastAppendedSequence = ThreadLocal.withInitial(() -> 0L);
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private File logDir;
+    
+    private int segmentSize;
+    
+    private long nextSegmentIndex;
+    
+    private MappedByteBuffer currentSegment;
+    
+    private long appendedSequence;
+    
+    private volatile long forcedSequence;
+    
+    private ScheduledExecutorService checkpointExecutor;
+    
+    @Override
+    public void init() throws IOException {
+        synchronized (forceLock) {
+            synchronized (this) {
+                load();
+            }
+        }
+        long checkpointInterval = Long.parseLong(props.getProperty(CHECKPOINT_INTERVAL_KEY, String.valueOf(DEFAULT_CHECKPOINT_INTERVAL)));
+        if (checkpointInterval > 0) {
+            checkpointExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-XA-Log-Checkpoint-%d").build());
+            checkpointExecutor.scheduleWithFixedDelay(this::checkpointQuietly, checkpointInterval, checkpointInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void load() throws IOException {
+        logDir = new File(props.getProperty(LOG_DIR_KEY, DEFAULT_LOG_DIR));
+        segmentSize = Integer.parseInt(props.getProperty(SEGMENT_SIZE_KEY, String.valueOf(DEFAULT_SEGMENT_SIZE)));
+        if (!logDir.isDirectory() && !logDir.mkdirs()) {
+            throw new IOException(String.format("Can not create XA transaction log directory `%s`.", logDir));
+        }
+        danglingRecords.clear();
+        segmentFiles.clear();
+        for (File each : listSegmentFiles()) {
+            scan(each);
+            segmentFiles.add(each);
+            nextSegmentIndex = getSegmentIndex(each) + 1;
+        }
+        rollSegment();
+        compact();
+    }
+    
+    private List<File> listSegmentFiles() {
+        File[] files = logDir.listFiles((dir, name) -> name.startsWith(SEGMENT_FILE_PREFIX) && name.endsWith(SEGMENT_FILE_SUFFIX));
+        if (null == files) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(files).sorted(Comparator.comparingLong(this::getSegmentIndex)).collect(Collectors.toList());
+    }
+    
+    private long getSegmentIndex(final File segmentFile) {
+        String name = segmentFile.getName();
+        return Long.parseLong(name.substring(SEGMENT_FILE_PREFIX.length(), name.length() - SEGMENT_FILE_SUFFIX.length()));
+    }
+    
+    private void scan(final File segmentFile) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "r");
+             FileChannel channel = file.getChannel()) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            try {
+                scan(segmentFile, buffer);
+            } finally {
+                unmap(buffer);
+            }
+        }
+    }
+    
+    private void scan(final File segmentFile, final MappedByteBuffer buffer) throws IOException {
+        while (buffer.remaining() >= RECORD_HEADER_LENGTH) {
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining() - 4) {
+                return;
+            }
+            int crc = buffer.getInt();
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (crc != calculateCrc(payload)) {
+                log.warn("Found corrupted record in XA transaction log `{}`, ignore the rest of it.", segmentFile);
+                return;
+            }
+            apply(decode(payload));
+        }
+    }
+    
+    @Override
+    public void log(final XATransactionLogRecord record) throws IOException {
+        byte[] payload = encode(record);
+        long sequence;
+        synchronized (this) {
+            append(payload);
+            apply(record);
+            sequence = ++appendedSequence;
+        }
+        lastAppendedSequence.set(sequence);
+    }
+    
+    @Override
+    public void force() throws IOException {
+        long sequence = lastAppendedSequence.get();
+        if (forcedSequence >= sequence) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (forcedSequence >= sequence) {
+                return;
+            }
+            MappedByteBuffer segment;
+            long appended;
+            synchronized (this) {
+                segment = currentSegment;
+                appended = appendedSequence;
+            }
+            if (null != segment) {
+                segment.force();
+                forcedSequence = appended;
+            }
+        }
+    }
+    
+    @Override
+    public void checkpoint() throws IOException {
+        synchronized (forceLock) {
+            synchronized (this) {
+                if (segmentFiles.size() > 1) {
+                    compact();
+                }
+            }
+        }
+    }
+    
+    private void compact() throws IOException {
+        Collection<File> obsoleteSegmentFiles = new ArrayList<>(segmentFiles.subList(0, segmentFiles.size() - 1));
+        rewriteDanglingRecords();
+        unmapRetiredSegments();
+        deleteSegmentFiles(obsoleteSegmentFiles);
+    }
+    
+    private void rewriteDanglingRecords() throws IOException {
+        for (XATransactionLogRecord each : danglingRecords.values()) {
+            append(encode(each));
+        }
+        currentSegment.force();
+    }
+    
+    private void unmapRetiredSegments() {
+        for (MappedByteBuffer each : retiredSegments) {
+            unmap(each);
+        }
+        retiredSegments.clear();
+    }
+    
+    private void deleteSegmentFiles(final Collection<File> obsoleteSegmentFiles) {
+        segmentFiles.removeAll(obsoleteSegmentFiles);
+        for (File each : obsoleteSegmentFiles) {
+            if (!each.delete()) {
+                log.warn("Can not delete obsolete XA transaction log `{}`.", each);
+            }
+        }
+    }
+    
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (final IOException ex) {
+            log.warn("Checkpoint XA transaction log failed.", ex);
+        }
+    }
+    
+    @Override
+    public synchronized Collection<XATransactionLogRecord> getDanglingRecords() {
+        return danglingRecords.values().stream().map(each -> new XATransactionLogRecord(each.getStatus(), each.getGlobalTransactionId(), new LinkedHashSet<>(each.getResourceNames())))
+                .collect(Collectors.toList());
+    }
+    
+    private void append(final byte[] payload) throws IOException {
+        if (RECORD_HEADER_LENGTH + payload.length > segmentSize) {
+            throw new IOException(String.format("XA transaction log record size `%s` exceeds segment size `%s`.", payload.length, segmentSize));
+        }
+        if (currentSegment.remaining() < RECORD_HEADER_LENGTH + payload.length) {
+            rollSegment();
+        }
+        currentSegment.putInt(payload.length);
+        currentSegment.putInt(calculateCrc(payload));
+        currentSegment.put(payload);
+    }
+    
+    private void rollSegment() throws IOException {
+        if (null != currentSegment) {
+            currentSegment.force();
+            retiredSegments.add(currentSegment);
+        }
+        File segmentFile = new File(logDir, String.format("%s%020d%s", SEGMENT_FILE_PREFIX, nextSegmentIndex++, SEGMENT_FILE_SUFFIX));
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw");
+             FileChannel channel = file.getChannel()) {
+            currentSegment = channel.map(MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segmentFiles.add(segmentFile);
+    }
+    
+    private void apply(final XATransactionLogRecord record) {
+        ByteBuffer globalTransactionId = ByteBuffer.wrap(record.getGlobalTransactionId());
+        if (Status.STATUS_COMMITTING == record.getStatus()) {
+            danglingRecords.put(globalTransactionId, new XATransactionLogRecord(record.getStatus(), record.getGlobalTransactionId(), new LinkedHashSet<>(record.getResourceNames())));
+            return;
+        }
+        if (Status.STATUS_COMMITTED != record.getStatus() && Status.STATUS_ROLLEDBACK != record.getStatus()) {
+            return;
+        }
+        XATransactionLogRecord danglingRecord = danglingRecords.get(globalTransactionId);
+        if (null != danglingRecord) {
+            danglingRecord.getResourceNames().removeAll(record.getResourceNames());
+            if (danglingRecord.getResourceNames().isEmpty()) {
+                danglingRecords.remove(globalTransactionId);
+            }
+        }
+    }
+    
+    private byte[] encode(final XATransactionLogRecord record) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream outputStream = new DataOutputStream(result)) {
+            outputStream.writeInt(record.getStatus());
+            outputStream.writeShort(record.getGlobalTransactionId().length);
+            outputStream.write(record.getGlobalTransactionId());
+            outputStream.writeShort(record.getResourceNames().size());
+            for (String each : record.getResourceNames()) {
+                outputStream.writeUTF(each);
+            }
+        }
+        return result.toByteArray();
+    }
+    
+    private XATransactionLogRecord decode(final byte[] payload) throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int status = inputStream.readInt();
+            byte[] globalTransactionId = new byte[inputStream.readUnsignedShort()];
+            inputStream.readFully(globalTransactionId);
+            int resourceCount = inputStream.readUnsignedShort();
+            Set<String> resourceNames = new LinkedHashSet<>(resourceCount, 1);
+            for (int i = 0; i < resourceCount; i++) {
+                resourceNames.add(inputStream.readUTF());
+            }
+            return new XATransactionLogRecord(status, globalTransactionId, resourceNames);
+        }
+    }
+    
+    private int calculateCrc(final byte[] payload) {
+        CRC32 result = new CRC32();
+        result.update(payload, 0, payload.length);
+        return (int) result.getValue();
+    }
+    
+    /**
+     * Unmap segment eagerly, so that the file of deleted segment does not stay mapped until the buffer is garbage collected.
+     * 
+     * <p>
+     * Callers must hold the force lock, because forcing an unmapped segment crashes the JVM.
+     * </p>
+     */
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (final ReflectiveOperationException ignored) {
+        }
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (null != cleaner) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (final ReflectiveOperationException ex) {
+            log.debug("Can not unmap XA transaction log segment, leave it to garbage collector.", ex);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (null != checkpointExecutor) {
+            checkpointExecutor.shutdownNow();
+        }
+        synchronized (forceLock) {
+            synchronized (this) {
+                if (null != currentSegment) {
+                    currentSegment.force();
+                    unmap(currentSegment);
+                    currentSegment = null;
+                }
+                unmapRetiredSegments();
+            }
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "MEMORY_MAPPED";
+    }
+}
@@ -22,12 +22,14 @@ import com.zaxxer.hikari.HikariDataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.transaction.Transaction;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
@@ -36,6 +38,8 @@ import org.apache.shardingsphere.transaction.core.XATransactionManagerType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.xa.fixture.DataSourceUtils;
 import org.apache.shardingsphere.transaction.xa.jta.datasource.XATransactionDataSource;
+import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionManager;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -47,15 +51,22 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class XAShardingTransactionManagerTest {
     
     private final XAShardingTransactionManager xaShardingTransactionManager = new XAShardingTransactionManager();
     
+    private List<ResourceDataSource> resourceDataSources;
+    
     @Before
     public void setUp() {
-        Collection<ResourceDataSource> resourceDataSources = createResourceDataSources(DatabaseTypeRegistry.getActualDatabaseType("H2"));
+        resourceDataSources = createResourceDataSources(DatabaseTypeRegistry.getActualDatabaseType("H2"));
         xaShardingTransactionManager.init(DatabaseTypeRegistry.getActualDatabaseType("H2"), resourceDataSources, XATransactionManagerType.ATOMIKOS.getType());
     }
     
@@ -131,6 +142,30 @@ public final class XAShardingTransactionManagerTest {
         assertFalse(xaShardingTransactionManager.isInTransaction());
     }
     
+    @Test
+    public void assertCommitWithSingleResource() throws XAException {
+        XAResource xaResource = mock(XAResource.class);
+        xaShardingTransactionManager.begin();
+        getXATransactionManager().enlistResource(new SingleXAResource(resourceDataSources.get(0).getUniqueResourceName(), xaResource));
+        xaShardingTransactionManager.commit();
+        verify(xaResource, never()).prepare(any(Xid.class));
+        verify(xaResource).commit(any(Xid.class), eq(true));
+    }
+    
+    @Test
+    public void assertCommitWithMultipleResources() throws XAException {
+        XAResource xaResource1 = mock(XAResource.class);
+        XAResource xaResource2 = mock(XAResource.class);
+        xaShardingTransactionManager.begin();
+        getXATransactionManager().enlistResource(new SingleXAResource(resourceDataSources.get(0).getUniqueResourceName(), xaResource1));
+        getXATransactionManager().enlistResource(new SingleXAResource(resourceDataSources.get(1).getUniqueResourceName(), xaResource2));
+        xaShardingTransactionManager.commit();
+        verify(xaResource1).prepare(any(Xid.class));
+        verify(xaResource1).commit(any(Xid.class), eq(false));
+        verify(xaResource2).prepare(any(Xid.class));
+        verify(xaResource2).commit(any(Xid.class), eq(false));
+    }
+    
     @Test
     public void assertRollback() {
         xaShardingTransactionManager.begin();
@@ -147,6 +182,13 @@ public final class XAShardingTransactionManagerTest {
         return (Map<String, XATransactionDataSource>) field.get(xaShardingTransactionManager);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private XATransactionManager getXATransactionManager() {
+        Field field = xaShardingTransactionManager.getClass().getDeclaredField("xaTransactionManager");
+        field.setAccessible(true);
+        return (XATransactionManager) field.get(xaShardingTransactionManager);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     @SuppressWarnings("unchecked")
     private ThreadLocal<Set<Transaction>> getEnlistedTransactions(final XATransactionDataSource transactionDataSource) {
@@ -155,7 +197,7 @@ public final class XAShardingTransactionManagerTest {
         return (ThreadLocal<Set<Transaction>>) field.get(transactionDataSource);
     }
     
-    private Collection<ResourceDataSource> createResourceDataSources(final DatabaseType databaseType) {
+    private List<ResourceDataSource> createResourceDataSources(final DatabaseType databaseType) {
         List<ResourceDataSource> result = new LinkedList<>();
         result.add(new ResourceDataSource("ds1", DataSourceUtils.build(HikariDataSource.class, databaseType, "demo_ds_1")));
         result.add(new ResourceDataSource("ds2", DataSourceUtils.build(HikariDataSource.class, databaseType, "demo_ds_2")));
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.log;
+
+import org.apache.shardingsphere.transaction.xa.spi.XATransactionLogRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.transaction.Status;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoryMappedXATransactionLogTest {
+    
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private MemoryMappedXATransactionLog xaTransactionLog;
+    
+    @Before
+    public void setUp() throws IOException {
+        xaTransactionLog = createXATransactionLog(1024);
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        xaTransactionLog.close();
+    }
+    
+    private MemoryMappedXATransactionLog createXATransactionLog(final int segmentSize) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("log-dir", temporaryFolder.getRoot().getPath());
+        props.setProperty("segment-size-bytes", String.valueOf(segmentSize));
+        props.setProperty("checkpoint-interval-milliseconds", "0");
+        MemoryMappedXATransactionLog result = new MemoryMappedXATransactionLog();
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+    
+    @Test
+    public void assertGetDanglingRecords() throws IOException {
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, 1, "ds_0", "ds_1"));
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, 2, "ds_0", "ds_1"));
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTED, 1, "ds_0", "ds_1"));
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTED, 2, "ds_0"));
+        xaTransactionLog.force();
+        Collection<XATransactionLogRecord> actual = xaTransactionLog.getDanglingRecords();
+        assertThat(actual.size(), is(1));
+        XATransactionLogRecord danglingRecord = actual.iterator().next();
+        assertThat(danglingRecord.getGlobalTransactionId(), is(new byte[]{0, 2}));
+        assertThat(danglingRecord.getResourceNames(), is(Collections.singleton("ds_1")));
+    }
+    
+    @Test
+    public void assertRecoverDanglingRecordsAfterReopen() throws IOException {
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, 1, "ds_0", "ds_1"));
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, 2, "ds_0"));
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTED, 2, "ds_0"));
+        xaTransactionLog.force();
+        xaTransactionLog.close();
+        xaTransactionLog = createXATransactionLog(1024);
+        Collection<XATransactionLogRecord> actual = xaTransactionLog.getDanglingRecords();
+        assertThat(actual.size(), is(1));
+        XATransactionLogRecord danglingRecord = actual.iterator().next();
+        assertThat(danglingRecord.getStatus(), is(Status.STATUS_COMMITTING));
+        assertThat(danglingRecord.getGlobalTransactionId(), is(new byte[]{0, 1}));
+        assertThat(danglingRecord.getResourceNames(), is(new HashSet<>(Arrays.asList("ds_0", "ds_1"))));
+    }
+    
+    @Test
+    public void assertRollSegmentAndCheckpoint() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, i, "ds_0"));
+            if (0 != i) {
+                xaTransactionLog.log(createRecord(Status.STATUS_COMMITTED, i, "ds_0"));
+            }
+        }
+        xaTransactionLog.force();
+        assertTrue(getSegmentFileCount() > 1);
+        xaTransactionLog.checkpoint();
+        assertThat(getSegmentFileCount(), is(1));
+        xaTransactionLog.close();
+        xaTransactionLog = createXATransactionLog(1024);
+        assertThat(xaTransactionLog.getDanglingRecords().size(), is(1));
+    }
+    
+    @Test
+    public void assertCheckpointWithoutRollingSegment() throws IOException {
+        xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, 1, "ds_0"));
+        xaTransactionLog.force();
+        Collection<String> expected = getSegmentFileNames();
+        xaTransactionLog.checkpoint();
+        xaTransactionLog.checkpoint();
+        assertThat(getSegmentFileNames(), is(expected));
+        assertThat(xaTransactionLog.getDanglingRecords().size(), is(1));
+    }
+    
+    @Test
+    public void assertLogWithMultipleThreads() throws Exception {
+        xaTransactionLog.close();
+        xaTransactionLog = createXATransactionLog(1024 * 1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < 8; i++) {
+            int thread = i;
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < 100; j++) {
+                    int globalTransactionId = thread * 100 + j;
+                    xaTransactionLog.log(createRecord(Status.STATUS_COMMITTING, globalTransactionId, "ds_0", "ds_1"));
+                    xaTransactionLog.force();
+                    xaTransactionLog.log(createRecord(Status.STATUS_COMMITTED, globalTransactionId, "ds_0", "ds_1"));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        executorService.shutdown();
+        xaTransactionLog.force();
+        xaTransactionLog.close();
+        xaTransactionLog = createXATransactionLog(1024 * 1024);
+        assertThat(xaTransactionLog.getDanglingRecords().size(), is(0));
+    }
+    
+    private XATransactionLogRecord createRecord(final int status, final int globalTransactionId, final String... resourceNames) {
+        return new XATransactionLogRecord(status, new byte[]{(byte) (globalTransactionId >> 8), (byte) globalTransactionId}, new HashSet<>(Arrays.asList(resourceNames)));
+    }
+    
+    private int getSegmentFileCount() {
+        return getSegmentFileNames().size();
+    }
+    
+    private Collection<String> getSegmentFileNames() {
+        String[] result = temporaryFolder.getRoot().list((dir, name) -> name.endsWith(".log"));
+        return null == result ? Collections.emptySet() : new HashSet<>(Arrays.asList(result));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.spi;
+
+import org.apache.shardingsphere.infra.spi.typed.TypedSPI;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * XA transaction log.
+ * 
+ * <p>
+ * A record with {@code Status.STATUS_COMMITTING} records the commit decision of a transaction,
+ * records with {@code Status.STATUS_COMMITTED} or {@code Status.STATUS_ROLLEDBACK} complete the listed resources of it.
+ * Transactions which have not been completed for all their resources are dangling and need to be recovered.
+ * </p>
+ */
+public interface XATransactionLog extends AutoCloseable, TypedSPI {
+    
+    /**
+     * Initialize XA transaction log and scan existing records for recovery.
+     * 
+     * @throws IOException IO exception
+     */
+    void init() throws IOException;
+    
+    /**
+     * Append record.
+     * 
+     * <p>
+     * Record is not guaranteed to be durable before {@link #force()} returned.
+     * </p>
+     * 
+     * @param record XA transaction log record
+     * @throws IOException IO exception
+     */
+    void log(XATransactionLogRecord record) throws IOException;
+    
+    /**
+     * Force records appended by current thread to be durable.
+     * 
+     * @throws IOException IO exception
+     */
+    void force() throws IOException;
+    
+    /**
+     * Rewrite dangling records and discard completed ones.
+     * 
+     * @throws IOException IO exception
+     */
+    void checkpoint() throws IOException;
+    
+    /**
+     * Get dangling records.
+     * 
+     * @return dangling records
+     */
+    Collection<XATransactionLogRecord> getDanglingRecords();
+    
+    @Override
+    void close() throws IOException;
+}